@@ -0,0 +1,57 @@
+package com.epam.esm.benchmark.catalog;
+
+import com.epam.esm.dao.extractor.CertificateExtractorImpl;
+import com.epam.esm.dao.impl.CertificateDaoImpl;
+import com.epam.esm.dao.mapper.CertificateMapperImpl;
+import com.epam.esm.entity.Certificate;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+
+/**
+ * Synthetic catalog shared by the benchmarks of one trial, its size is chosen with -p catalogSize=...
+ */
+@State(Scope.Benchmark)
+public class CatalogState {
+    private static final int TAGS = 100;
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @Param({"1000", "100000", "1000000"})
+    private int catalogSize;
+
+    @Param({"3"})
+    private int tagsPerCertificate;
+
+    private SyntheticCatalog catalog;
+    private CertificateDaoImpl certificateDao;
+    private List<Certificate> certificates;
+
+    @Setup
+    public void setUp() {
+        catalog = SyntheticCatalog.create(catalogSize, tagsPerCertificate, TAGS);
+        certificateDao = new CertificateDaoImpl(new CertificateExtractorImpl(), new CertificateMapperImpl(),
+                catalog.getJdbcTemplate(), STREAM_FETCH_SIZE);
+        certificates = certificateDao.findAll();
+    }
+
+    @TearDown
+    public void tearDown() {
+        catalog.close();
+    }
+
+    public SyntheticCatalog getCatalog() {
+        return catalog;
+    }
+
+    public CertificateDaoImpl getCertificateDao() {
+        return certificateDao;
+    }
+
+    public List<Certificate> getCertificates() {
+        return certificates;
+    }
+}
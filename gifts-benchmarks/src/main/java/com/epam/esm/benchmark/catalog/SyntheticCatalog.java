@@ -0,0 +1,76 @@
+package com.epam.esm.benchmark.catalog;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Embedded H2 database with the gifts schema filled with generated certificates. Every certificate is linked with
+ * the given number of consecutive tags out of the tag pool, names and descriptions end with the certificate id.
+ */
+public class SyntheticCatalog implements AutoCloseable {
+    private static final String DATA_BASE_STRUCTURE_SCRIPT = "sql/db_structure.sql";
+    private static final String UTF8_ENCODING = "UTF-8";
+    private static final String ADD_TAGS_SQL = "INSERT INTO tag (id, name) SELECT X, CONCAT('Tag ', X)" +
+            " FROM SYSTEM_RANGE(1, ?)";
+    private static final String ADD_CERTIFICATES_SQL = "INSERT INTO gift_certificate (id, name, description, price," +
+            " duration, create_date, last_update_date) SELECT X, CONCAT('Certificate ', X)," +
+            " CONCAT('Description of certificate ', X), X % 500 + 1.99, X % 358 + 8," +
+            " DATEADD(MINUTE, X, TIMESTAMP '2022-01-01 00:00:00'), DATEADD(MINUTE, X * 2, TIMESTAMP '2022-01-01 00:00:00')" +
+            " FROM SYSTEM_RANGE(1, ?)";
+    private static final String ADD_CERTIFICATE_TAGS_SQL = "INSERT INTO gift_tags (certificate_id, tag_id)" +
+            " SELECT certificate.X, (certificate.X + tag.X) % ? + 1 FROM SYSTEM_RANGE(1, ?) certificate," +
+            " SYSTEM_RANGE(0, ?) tag";
+    private final EmbeddedDatabase dataBase;
+    private final int certificates;
+    private final int tags;
+
+    private SyntheticCatalog(EmbeddedDatabase dataBase, int certificates, int tags) {
+        this.dataBase = dataBase;
+        this.certificates = certificates;
+        this.tags = tags;
+    }
+
+    public static SyntheticCatalog create(int certificates, int tagsPerCertificate, int tags) {
+        if (tagsPerCertificate > tags) {
+            throw new IllegalArgumentException("tagsPerCertificate is greater than tags");
+        }
+
+        EmbeddedDatabase dataBase = new EmbeddedDatabaseBuilder()
+                .generateUniqueName(true)
+                .setType(EmbeddedDatabaseType.H2)
+                .setScriptEncoding(UTF8_ENCODING)
+                .addScript(DATA_BASE_STRUCTURE_SCRIPT)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataBase);
+        jdbcTemplate.update(ADD_TAGS_SQL, tags);
+        jdbcTemplate.update(ADD_CERTIFICATES_SQL, certificates);
+        if (tagsPerCertificate > 0) {
+            jdbcTemplate.update(ADD_CERTIFICATE_TAGS_SQL, tags, certificates, tagsPerCertificate - 1);
+        }
+
+        return new SyntheticCatalog(dataBase, certificates, tags);
+    }
+
+    public EmbeddedDatabase getDataBase() {
+        return dataBase;
+    }
+
+    public JdbcTemplate getJdbcTemplate() {
+        return new JdbcTemplate(dataBase);
+    }
+
+    public int getCertificates() {
+        return certificates;
+    }
+
+    public int getTags() {
+        return tags;
+    }
+
+    @Override
+    public void close() {
+        dataBase.shutdown();
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.esm.benchmark.dao;
+
+import com.epam.esm.benchmark.catalog.CatalogState;
+import com.epam.esm.dao.query.CertificateQuery;
+import com.epam.esm.dao.query.CertificateQueryBuilder;
+import com.epam.esm.dao.query.CertificateSortField;
+import com.epam.esm.entity.Certificate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads certificates from the synthetic catalog through the DAO, the whole catalog both as a list and as a stream.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class CertificateDaoBenchmark {
+    private static final CertificateQuery ALL_QUERY = new CertificateQueryBuilder().build();
+    private static final CertificateQuery TAG_NAME_QUERY = new CertificateQueryBuilder()
+            .withTagName("Tag 7")
+            .build();
+    private static final CertificateQuery NAME_SORTED_PAGE_QUERY = new CertificateQueryBuilder()
+            .sortBy(CertificateSortField.NAME, true)
+            .limit(50)
+            .build();
+
+    @Benchmark
+    public List<Certificate> findAll(CatalogState catalogState) {
+        return catalogState.getCertificateDao().findAll(ALL_QUERY);
+    }
+
+    @Benchmark
+    public void streamAll(CatalogState catalogState, Blackhole blackhole) {
+        catalogState.getCertificateDao().findAll(ALL_QUERY, blackhole::consume);
+    }
+
+    @Benchmark
+    public List<Certificate> findAllByTagName(CatalogState catalogState) {
+        return catalogState.getCertificateDao().findAll(TAG_NAME_QUERY);
+    }
+
+    @Benchmark
+    public List<Certificate> findNameSortedPage(CatalogState catalogState) {
+        return catalogState.getCertificateDao().findAll(NAME_SORTED_PAGE_QUERY);
+    }
+}
@@ -0,0 +1,91 @@
+package com.epam.esm.benchmark.extractor;
+
+import com.epam.esm.dao.extractor.CertificateExtractorImpl;
+import com.epam.esm.dao.mapper.TagMapperImpl;
+import com.epam.esm.entity.Certificate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the forward-only certificate extractor with the scrolling one it replaced. The joined rows are generated
+ * by H2 once into a scrollable in-memory result which is rewound before every call, so only the extraction itself
+ * is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CertificateExtractorBenchmark {
+    private static final String H2_URL = "jdbc:h2:mem:extractor_benchmark";
+    private static final String JOINED_ROWS_SQL = "SELECT certificate.X AS certificate_id," +
+            " CONCAT('Certificate ', certificate.X) AS gift_certificate_name," +
+            " CONCAT('Description of certificate ', certificate.X) AS description," +
+            " CAST(certificate.X % 500 + 0.99 AS DECIMAL(15, 2)) AS price," +
+            " CAST(certificate.X % 365 + 1 AS SMALLINT) AS duration," +
+            " TIMESTAMP '2022-03-15 21:30:00' AS create_date, TIMESTAMP '2022-06-15 21:30:00' AS last_update_date," +
+            " CAST(0 AS BIGINT) AS version, tag.X AS tag_id, CONCAT('Tag ', tag.X) AS tag_name FROM SYSTEM_RANGE(1, ?) certificate" +
+            " LEFT JOIN SYSTEM_RANGE(1, ?) tag ON TRUE ORDER BY certificate.X, tag.X";
+
+    @Param({"100", "10000"})
+    private int certificates;
+
+    @Param({"0", "3"})
+    private int tagsPerCertificate;
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private CertificateExtractorImpl certificateExtractor;
+    private LegacyCertificateExtractor legacyCertificateExtractor;
+
+    @Setup
+    public void setUp() throws SQLException {
+        certificateExtractor = new CertificateExtractorImpl();
+        legacyCertificateExtractor = new LegacyCertificateExtractor(new TagMapperImpl());
+        connection = DriverManager.getConnection(H2_URL);
+        statement = connection.prepareStatement(JOINED_ROWS_SQL, ResultSet.TYPE_SCROLL_INSENSITIVE,
+                ResultSet.CONCUR_READ_ONLY);
+        statement.setInt(1, certificates);
+        statement.setInt(2, tagsPerCertificate);
+        resultSet = statement.executeQuery();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        resultSet.close();
+        statement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Certificate> forwardOnlyExtractor() throws SQLException {
+        resultSet.beforeFirst();
+        return certificateExtractor.extractData(resultSet);
+    }
+
+    @Benchmark
+    public List<Certificate> legacyExtractor() throws SQLException {
+        resultSet.beforeFirst();
+        return legacyCertificateExtractor.extractData(resultSet);
+    }
+}
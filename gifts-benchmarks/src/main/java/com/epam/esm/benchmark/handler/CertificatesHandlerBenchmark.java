@@ -0,0 +1,63 @@
+package com.epam.esm.benchmark.handler;
+
+import com.epam.esm.benchmark.catalog.CatalogState;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.service.handler.CertificatesHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs every handler over the whole synthetic catalog held in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class CertificatesHandlerBenchmark {
+    private static final Map<String, String> HANDLER_PARAMETERS = new HashMap<>();
+
+    static {
+        HANDLER_PARAMETERS.put("tagName", "Tag 7");
+        HANDLER_PARAMETERS.put("tagNames", "Tag 7,Tag 8");
+        HANDLER_PARAMETERS.put("anyTagNames", "Tag 7,Tag 42");
+        HANDLER_PARAMETERS.put("namePart", "ate 12");
+        HANDLER_PARAMETERS.put("descriptionPart", "certificate 99");
+        HANDLER_PARAMETERS.put("nameSort", "ASC");
+        HANDLER_PARAMETERS.put("createDateSort", "DESC");
+        HANDLER_PARAMETERS.put("lastUpdateDateSort", "ASC");
+    }
+
+    @Param({"tagName", "tagNames", "anyTagNames", "namePart", "descriptionPart", "nameSort", "createDateSort",
+            "lastUpdateDateSort"})
+    private String handlerName;
+
+    private CertificatesHandler handler;
+    private String handlerParameter;
+
+    @Setup
+    public void setUp() {
+        handler = CertificatesHandler.findHandlerByName(handlerName);
+        handlerParameter = HANDLER_PARAMETERS.get(handlerName);
+    }
+
+    @Benchmark
+    public List<Certificate> handle(CatalogState catalogState) {
+        return handler.handle(catalogState.getCertificates(), handlerParameter);
+    }
+}
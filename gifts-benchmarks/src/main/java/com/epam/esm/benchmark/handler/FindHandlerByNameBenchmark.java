@@ -0,0 +1,31 @@
+package com.epam.esm.benchmark.handler;
+
+import com.epam.esm.service.handler.CertificatesHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindHandlerByNameBenchmark {
+    @Param({"tagName", "lastUpdateDateSort", "NAMEPART"})
+    private String handlerName;
+
+    @Benchmark
+    public CertificatesHandler findHandlerByName() {
+        return CertificatesHandler.findHandlerByName(handlerName);
+    }
+}
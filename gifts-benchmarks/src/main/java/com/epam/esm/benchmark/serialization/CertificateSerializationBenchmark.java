@@ -0,0 +1,53 @@
+package com.epam.esm.benchmark.serialization;
+
+import com.epam.esm.benchmark.catalog.CatalogState;
+import com.epam.esm.entity.Certificate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes the first certificates of the synthetic catalog the way a GET /certificates response is written.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class CertificateSerializationBenchmark {
+    @Param({"50", "1000", "100000"})
+    private int listSize;
+
+    private ObjectWriter certificateListWriter;
+    private List<Certificate> certificates;
+
+    @Setup
+    public void setUp(CatalogState catalogState) {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        certificateListWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, Certificate.class));
+        List<Certificate> catalogCertificates = catalogState.getCertificates();
+        certificates = catalogCertificates.subList(0, Math.min(listSize, catalogCertificates.size()));
+    }
+
+    @Benchmark
+    public byte[] serializeCertificates() throws JsonProcessingException {
+        return certificateListWriter.writeValueAsBytes(certificates);
+    }
+}
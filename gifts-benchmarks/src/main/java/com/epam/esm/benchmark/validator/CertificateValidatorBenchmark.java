@@ -0,0 +1,66 @@
+package com.epam.esm.benchmark.validator;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.exception.InvalidCertificateException;
+import com.epam.esm.service.validator.CertificateValidationResult;
+import com.epam.esm.service.validator.CertificateValidator;
+import com.epam.esm.service.validator.impl.CertificateValidatorImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CertificateValidatorBenchmark {
+    private CertificateValidator certificateValidator;
+    private Certificate validCertificate;
+    private Certificate invalidCertificate;
+
+    @Setup
+    public void setUp() {
+        certificateValidator = new CertificateValidatorImpl();
+        validCertificate = new Certificate(1, "Jump park", "Free jumps at trampolines", new BigDecimal("35.00"),
+                (short) 30, LocalDateTime.parse("2022-03-15T21:30"), LocalDateTime.parse("2022-06-15T21:30"),
+                Arrays.asList(new Tag(1, "Jumps"), new Tag(2, "Entertainment")));
+        invalidCertificate = new Certificate(2, "", "Free jumps at trampolines", new BigDecimal("0.50"),
+                (short) 3, LocalDateTime.parse("2022-03-15T21:30"), null, Arrays.asList(new Tag(1, "Jumps")));
+    }
+
+    @Benchmark
+    public Certificate validateValidCertificate() {
+        certificateValidator.validateCertificate(validCertificate);
+        return validCertificate;
+    }
+
+    @Benchmark
+    public String validateInvalidCertificate() {
+        try {
+            certificateValidator.validateCertificate(invalidCertificate);
+            return null;
+        } catch (InvalidCertificateException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public CertificateValidationResult checkInvalidCertificate() {
+        return certificateValidator.checkCertificate(invalidCertificate);
+    }
+}
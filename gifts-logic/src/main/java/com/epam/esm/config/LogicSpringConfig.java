@@ -1,46 +1,196 @@
 package com.epam.esm.config;
 
+import com.epam.esm.dao.profiler.StatementProfiler;
+import com.epam.esm.dao.profiler.impl.ProfilingDataSource;
+import com.epam.esm.dao.routing.ReplicaRoutingDataSource;
+import com.epam.esm.service.metric.MetricRegistry;
+import com.epam.esm.service.metric.impl.ConnectionPoolMetricsFactory;
+import com.epam.esm.service.routing.RecentWriteTracker;
+import com.epam.esm.service.routing.ReplicaReadTracker;
+import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
 
 @Configuration
 @ComponentScan("com.epam.esm")
-@PropertySource("classpath:db_config.properties")
+@PropertySource({"classpath:db_pool_${db.pool.profile:oltp}.properties", "classpath:db_config.properties",
+        "classpath:application.properties"})
+@EnableTransactionManagement
 public class LogicSpringConfig {
     private static final String URL_PROPERTY = "url";
     private static final String USER_PROPERTY = "user";
     private static final String PASSWORD_PROPERTY = "password";
     private static final String DRIVER_NAME_PROPERTY = "driverName";
+    private static final String PROFILING_ENABLED_PROPERTY = "jdbc.profiling.enabled";
+    private static final String POOL_PROPERTY_PREFIX = "hikari.";
+    private static final String DRIVER_PROPERTY_PREFIX = "dataSource.";
+    private static final String REPLICA_URLS_PROPERTY = "replica.urls";
+    private static final String REPLICA_USER_PROPERTY = "replica.user";
+    private static final String REPLICA_PASSWORD_PROPERTY = "replica.password";
+    private static final String REPLICA_DRIVER_NAME_PROPERTY = "replica.driverName";
+    private static final String REPLICA_POOL_PROPERTY_PREFIX = "replica.hikari.";
+    private static final String REPLICA_HEALTH_CHECK_INTERVAL_PROPERTY = "replica.health.check.interval.millis";
+    private static final String REPLICA_VALIDATION_TIMEOUT_PROPERTY = "replica.validation.timeout.seconds";
+    private static final String REPLICA_POOL_SUFFIX = "-replica-";
 
     @Autowired
     private Environment environment;
 
+    @Autowired
+    private MetricRegistry metricRegistry;
+
     public void setEnvironment(Environment environment) {
         this.environment = environment;
     }
 
+    public void setMetricRegistry(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    /**
+     * The pool of the primary database, a bean of its own so that the context closes it on shutdown through the
+     * inferred close or shutdown method. Everything else uses the dataSource bean wrapped around it.
+     */
+    @Bean
+    public DataSource primaryDataSource() {
+        return createDataSource();
+    }
+
     @Bean
-    public DataSource dataSource() {
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource,
+                                 StatementProfiler statementProfiler) {
+        DataSource dataSource = replicaRoutingDataSource.getReplicaDataSources().isEmpty()
+                ? primaryDataSource
+                : new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+
+        return environment.getProperty(PROFILING_ENABLED_PROPERTY, Boolean.class, false)
+                ? new ProfilingDataSource(dataSource, statementProfiler)
+                : dataSource;
+    }
+
+    /**
+     * Pool and driver settings are taken from the properties prefixed with "hikari." and named as in HikariConfig,
+     * the driver ones as "hikari.dataSource.*". Their defaults come from the db_pool_oltp or db_pool_bulk profile
+     * chosen by the db.pool.profile system property.
+     */
+    protected DataSource createDataSource() {
+        return createPool(environment.getProperty(URL_PROPERTY), environment.getProperty(USER_PROPERTY),
+                environment.getProperty(PASSWORD_PROPERTY), environment.getProperty(DRIVER_NAME_PROPERTY),
+                findPoolProperties(POOL_PROPERTY_PREFIX), null);
+    }
+
+    /**
+     * Replicas share the pool settings of the primary and by default its credentials and driver as well, the
+     * "replica." properties override them: "replica.driverName", "replica.user", "replica.password" and the pool
+     * settings as "replica.hikari.*". The driver properties of the primary are kept only for a replica of the same
+     * driver, another one takes just its own "replica.hikari.dataSource.*". The bean is closed on shutdown together
+     * with the replica pools, with no replica urls it has none and is not used.
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource, RecentWriteTracker recentWriteTracker,
+            ReplicaReadTracker replicaReadTracker) {
+        String[] replicaUrls = environment.getProperty(REPLICA_URLS_PROPERTY, String[].class, new String[0]);
+        String driverName = environment.getProperty(DRIVER_NAME_PROPERTY);
+        String replicaDriverName = environment.getProperty(REPLICA_DRIVER_NAME_PROPERTY, driverName);
+        Properties replicaPoolProperties = findPoolProperties(POOL_PROPERTY_PREFIX);
+        if (!Objects.equals(replicaDriverName, driverName)) {
+            replicaPoolProperties.stringPropertyNames().stream()
+                    .filter(propertyName -> propertyName.startsWith(DRIVER_PROPERTY_PREFIX))
+                    .forEach(replicaPoolProperties::remove);
+        }
+
+        replicaPoolProperties.putAll(findPoolProperties(REPLICA_POOL_PROPERTY_PREFIX));
+        List<DataSource> replicaDataSources = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            replicaDataSources.add(createPool(replicaUrl.trim(),
+                    environment.getProperty(REPLICA_USER_PROPERTY, environment.getProperty(USER_PROPERTY)),
+                    environment.getProperty(REPLICA_PASSWORD_PROPERTY, environment.getProperty(PASSWORD_PROPERTY)),
+                    replicaDriverName, replicaPoolProperties, REPLICA_POOL_SUFFIX + replicaDataSources.size()));
+        }
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource,
+                replicaDataSources, recentWriteTracker::isPrimaryRequired, replicaReadTracker::recordReplicaRead,
+                environment.getProperty(REPLICA_HEALTH_CHECK_INTERVAL_PROPERTY, Long.class, 5000L),
+                environment.getProperty(REPLICA_VALIDATION_TIMEOUT_PROPERTY, Integer.class, 1));
+        routingDataSource.getReplicaHealth().keySet().forEach(replicaKey -> metricRegistry.gauge(
+                "gifts_replica_healthy", "Replica health check result",
+                () -> Boolean.TRUE.equals(routingDataSource.getReplicaHealth().get(replicaKey)) ? 1 : 0,
+                "replica", replicaKey));
+
+        return routingDataSource;
+    }
+
+    private HikariDataSource createPool(String url, String user, String password, String driverName,
+                                        Properties poolProperties, String poolNameSuffix) {
         HikariDataSource hikariDataSource = new HikariDataSource();
-        hikariDataSource.setDriverClassName(environment.getProperty(DRIVER_NAME_PROPERTY));
-        hikariDataSource.setJdbcUrl(environment.getProperty(URL_PROPERTY));
-        hikariDataSource.setUsername(environment.getProperty(USER_PROPERTY));
-        hikariDataSource.setPassword(environment.getProperty(PASSWORD_PROPERTY));
-        hikariDataSource.setMinimumIdle(5);
+        new HikariConfig(poolProperties).copyStateTo(hikariDataSource);
+        hikariDataSource.setDriverClassName(driverName);
+        hikariDataSource.setJdbcUrl(url);
+        hikariDataSource.setUsername(user);
+        hikariDataSource.setPassword(password);
+        if (poolNameSuffix != null && hikariDataSource.getPoolName() != null) {
+            hikariDataSource.setPoolName(hikariDataSource.getPoolName() + poolNameSuffix);
+        }
+
+        hikariDataSource.setMetricsTrackerFactory(new ConnectionPoolMetricsFactory(metricRegistry, hikariDataSource));
 
         return hikariDataSource;
     }
 
+    private Properties findPoolProperties(String prefix) {
+        Properties poolProperties = new Properties();
+        ConfigurableEnvironment configurableEnvironment = (ConfigurableEnvironment) environment;
+        for (org.springframework.core.env.PropertySource<?> propertySource
+                : configurableEnvironment.getPropertySources()) {
+            if (propertySource instanceof EnumerablePropertySource) {
+                for (String propertyName : ((EnumerablePropertySource<?>) propertySource).getPropertyNames()) {
+                    if (propertyName.startsWith(prefix)) {
+                        poolProperties.setProperty(propertyName.substring(prefix.length()),
+                                environment.getProperty(propertyName));
+                    }
+                }
+            }
+        }
+
+        return poolProperties;
+    }
+
     @Bean
     public JdbcTemplate jdbcTemplate(DataSource dataSource) {
         return new JdbcTemplate(dataSource);
     }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(DataSource dataSource) {
+        return new DataSourceTransactionManager(dataSource);
+    }
+
+    @Bean
+    public TransactionTemplate transactionTemplate(PlatformTransactionManager transactionManager) {
+        return new TransactionTemplate(transactionManager);
+    }
 }
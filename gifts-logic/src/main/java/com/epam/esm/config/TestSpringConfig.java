@@ -13,7 +13,7 @@ public class TestSpringConfig extends LogicSpringConfig {
     private static final String UTF8_ENCODING = "UTF-8";
 
     @Override
-    public DataSource dataSource() {
+    protected DataSource createDataSource() {
         return new EmbeddedDatabaseBuilder()
                 .setType(EmbeddedDatabaseType.H2)
                 .setScriptEncoding(UTF8_ENCODING)
@@ -1,24 +1,44 @@
 package com.epam.esm.dao;
 
+import com.epam.esm.dao.query.CertificateQuery;
 import com.epam.esm.entity.Certificate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CertificateDao {
-    boolean add(Certificate certificate);
+    long add(Certificate certificate);
+
+    void addAll(List<Certificate> certificates);
 
     Optional<Certificate> findById(long id);
 
+    Optional<Certificate> findVersionById(long id);
+
     List<Certificate> findAll();
 
+    List<Certificate> findAll(CertificateQuery query);
+
+    void findAll(CertificateQuery query, Consumer<Certificate> certificateConsumer);
+
+    List<Certificate> findAllWithoutTags();
+
     boolean update(Certificate certificate);
 
     boolean remove(long id);
 
-    boolean addTagToCertificate(long certificateId, long tagId);
+    void addTagsToCertificate(long certificateId, Collection<Long> tagIds);
+
+    void addTagsToCertificates(Map<Long, ? extends Collection<Long>> certificateTagIds);
+
+    List<Long> findCertificateTagIds(long certificateId);
 
     boolean clearCertificateTags(long certificateId);
 
     Optional<Certificate> findByName(String name);
+
+    Map<String, Long> findIdsByNames(Collection<String> names);
 }
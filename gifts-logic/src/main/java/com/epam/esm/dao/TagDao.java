@@ -1,17 +1,24 @@
 package com.epam.esm.dao;
 
 import com.epam.esm.entity.Tag;
+import com.epam.esm.entity.TagCatalogVersion;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface TagDao {
-    boolean add(Tag tag);
+    long add(Tag tag);
+
+    void addAll(Collection<Tag> tags);
 
     Optional<Tag> findById(long id);
 
     Optional<Tag> findByName(String name);
 
+    List<Tag> findAllByNames(Collection<String> names);
+
     List<Tag> findAll();
 
     boolean update(Tag certificate);
@@ -19,4 +26,12 @@ public interface TagDao {
     boolean remove(long id);
 
     void removeTagFromCertificates(long id);
+
+    List<Long> findTagCertificateIds(long id);
+
+    Map<String, List<Long>> findAllTagCertificateIds();
+
+    TagCatalogVersion findCatalogVersion();
+
+    void incrementCatalogVersion();
 }
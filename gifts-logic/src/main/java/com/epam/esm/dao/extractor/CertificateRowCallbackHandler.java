@@ -0,0 +1,101 @@
+package com.epam.esm.dao.extractor;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Groups certificate rows joined with their tags in a single forward pass and passes every certificate on as soon
+ * as its last row is read, so only one certificate is held in memory. Rows of a certificate must be adjacent.
+ * Column indexes are resolved once on the first row, the rest of the rows are read by index.
+ */
+public class CertificateRowCallbackHandler implements RowCallbackHandler {
+    private static final String CERTIFICATE_ID = "certificate_id";
+    private static final String GIFT_CERTIFICATE_NAME = "gift_certificate_name";
+    private static final String DESCRIPTION = "description";
+    private static final String PRICE = "price";
+    private static final String DURATION = "duration";
+    private static final String CREATE_DATE = "create_date";
+    private static final String LAST_UPDATE_DATE = "last_update_date";
+    private static final String VERSION = "version";
+    private static final String TAG_ID = "tag_id";
+    private static final String TAG_NAME = "tag_name";
+    private final Consumer<Certificate> certificateConsumer;
+    private Certificate currentCertificate;
+    private boolean columnsResolved;
+    private int certificateIdColumn;
+    private int nameColumn;
+    private int descriptionColumn;
+    private int priceColumn;
+    private int durationColumn;
+    private int createDateColumn;
+    private int lastUpdateDateColumn;
+    private int versionColumn;
+    private int tagIdColumn;
+    private int tagNameColumn;
+
+    public CertificateRowCallbackHandler(Consumer<Certificate> certificateConsumer) {
+        this.certificateConsumer = certificateConsumer;
+    }
+
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        if (!columnsResolved) {
+            resolveColumns(rs);
+        }
+
+        long certificateId = rs.getLong(certificateIdColumn);
+        if (currentCertificate == null || currentCertificate.getId() != certificateId) {
+            finish();
+            currentCertificate = mapCertificate(rs, certificateId);
+        }
+
+        long tagId = rs.getLong(tagIdColumn);
+        if (!rs.wasNull()) {
+            currentCertificate.getTags().add(new Tag(tagId, rs.getString(tagNameColumn)));
+        }
+    }
+
+    /**
+     * Passes on the last certificate, must be called after the result set is read.
+     */
+    public void finish() {
+        if (currentCertificate != null) {
+            certificateConsumer.accept(currentCertificate);
+            currentCertificate = null;
+        }
+    }
+
+    private void resolveColumns(ResultSet rs) throws SQLException {
+        certificateIdColumn = rs.findColumn(CERTIFICATE_ID);
+        nameColumn = rs.findColumn(GIFT_CERTIFICATE_NAME);
+        descriptionColumn = rs.findColumn(DESCRIPTION);
+        priceColumn = rs.findColumn(PRICE);
+        durationColumn = rs.findColumn(DURATION);
+        createDateColumn = rs.findColumn(CREATE_DATE);
+        lastUpdateDateColumn = rs.findColumn(LAST_UPDATE_DATE);
+        versionColumn = rs.findColumn(VERSION);
+        tagIdColumn = rs.findColumn(TAG_ID);
+        tagNameColumn = rs.findColumn(TAG_NAME);
+        columnsResolved = true;
+    }
+
+    private Certificate mapCertificate(ResultSet rs, long certificateId) throws SQLException {
+        Certificate certificate = new Certificate();
+        certificate.setId(certificateId);
+        certificate.setName(rs.getString(nameColumn));
+        certificate.setDescription(rs.getString(descriptionColumn));
+        certificate.setPrice(rs.getBigDecimal(priceColumn));
+        certificate.setDuration(rs.getShort(durationColumn));
+        certificate.setCreateDate(rs.getTimestamp(createDateColumn).toLocalDateTime());
+        certificate.setLastUpdateDate(rs.getTimestamp(lastUpdateDateColumn).toLocalDateTime());
+        certificate.setVersion(rs.getLong(versionColumn));
+        certificate.setTags(new ArrayList<>());
+        return certificate;
+    }
+}
@@ -2,53 +2,129 @@ package com.epam.esm.dao.impl;
 
 import com.epam.esm.dao.CertificateDao;
 import com.epam.esm.dao.extractor.CertificateExtractorImpl;
+import com.epam.esm.dao.extractor.CertificateRowCallbackHandler;
+import com.epam.esm.dao.mapper.CertificateMapperImpl;
+import com.epam.esm.dao.query.CertificateQuery;
+import com.epam.esm.dao.warmup.HotStatementProvider;
 import com.epam.esm.entity.Certificate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Repository
-public class CertificateDaoImpl implements CertificateDao {
+public class CertificateDaoImpl implements CertificateDao, HotStatementProvider {
     private static final String ADD_CERTIFICATE_SQL = "INSERT INTO gift_certificate (name, description, price," +
             " duration, create_date, last_update_date) VALUES (?, ?, ?, ?, ?, ?)";
     private static final String ADD_TAG_TO_CERTIFICATE_SQL = "INSERT INTO gift_tags (certificate_id, tag_id)" +
             " VALUES (?, ?)";
+    private static final String FIND_CERTIFICATE_TAG_IDS_SQL = "SELECT gift_tags.tag_id FROM gift_tags" +
+            " WHERE gift_tags.certificate_id = ?";
     private static final String CLEAR_CERTIFICATE_TAGS_SQL = "DELETE FROM gift_tags WHERE certificate_id = ?";
     private static final String UPDATE_CERTIFICATE_SQL = "UPDATE gift_certificate SET name = ?, description = ?, price = ?," +
-            " duration = ?, create_date = ?, last_update_date = ? WHERE id = ?";
+            " duration = ?, create_date = ?, last_update_date = ?, version = version + 1 WHERE id = ? AND version = ?";
     private static final String REMOVE_CERTIFICATE_BY_ID_SQL = "DELETE FROM gift_certificate WHERE id = ?";
     private static final String FIND_CERTIFICATE_BY_ID_SQL = "SELECT gift_certificate.id AS certificate_id," +
             " gift_certificate.name AS gift_certificate_name, gift_certificate.description, gift_certificate.price," +
-            " gift_certificate.duration, gift_certificate.create_date, gift_certificate.last_update_date, tag.id AS" +
-            " tag_id, tag.name AS tag_name FROM gift_certificate LEFT JOIN gift_tags" +
+            " gift_certificate.duration, gift_certificate.create_date, gift_certificate.last_update_date," +
+            " gift_certificate.version, tag.id AS tag_id, tag.name AS tag_name FROM gift_certificate LEFT JOIN gift_tags" +
             " ON gift_certificate.id = gift_tags.certificate_id LEFT JOIN tag ON gift_tags.tag_id = tag.id WHERE gift_certificate.id = ?";
+    private static final String FIND_CERTIFICATE_VERSION_SQL = "SELECT gift_certificate.id," +
+            " gift_certificate.last_update_date, gift_certificate.version FROM gift_certificate" +
+            " WHERE gift_certificate.id = ?";
     private static final String FIND_CERTIFICATE_BY_NAME_SQL = "SELECT gift_certificate.id AS certificate_id," +
             " gift_certificate.name AS gift_certificate_name, gift_certificate.description, gift_certificate.price," +
-            " gift_certificate.duration, gift_certificate.create_date, gift_certificate.last_update_date, tag.id AS" +
-            " tag_id, tag.name AS tag_name FROM gift_certificate LEFT JOIN gift_tags" +
+            " gift_certificate.duration, gift_certificate.create_date, gift_certificate.last_update_date," +
+            " gift_certificate.version, tag.id AS tag_id, tag.name AS tag_name FROM gift_certificate LEFT JOIN gift_tags" +
             " ON gift_certificate.id = gift_tags.certificate_id LEFT JOIN tag ON gift_tags.tag_id = tag.id WHERE gift_certificate.name = ?";
     private static final String FIND_ALL_CERTIFICATES_SQL = "SELECT gift_certificate.id AS certificate_id," +
             " gift_certificate.name AS gift_certificate_name, gift_certificate.description, gift_certificate.price," +
-            " gift_certificate.duration, gift_certificate.create_date, gift_certificate.last_update_date, tag.id AS" +
-            " tag_id, tag.name AS tag_name FROM gift_certificate LEFT JOIN gift_tags" +
+            " gift_certificate.duration, gift_certificate.create_date, gift_certificate.last_update_date," +
+            " gift_certificate.version, tag.id AS tag_id, tag.name AS tag_name FROM gift_certificate LEFT JOIN gift_tags" +
             " ON gift_certificate.id = gift_tags.certificate_id LEFT JOIN tag ON gift_tags.tag_id = tag.id ORDER BY gift_certificate.id";
+    private static final String FIND_ALL_CERTIFICATES_WITHOUT_TAGS_SQL = "SELECT gift_certificate.id AS certificate_id," +
+            " gift_certificate.name AS gift_certificate_name, gift_certificate.description, gift_certificate.price," +
+            " gift_certificate.duration, gift_certificate.create_date, gift_certificate.last_update_date," +
+            " gift_certificate.version FROM gift_certificate ORDER BY gift_certificate.id";
+    private static final String FIND_CERTIFICATES_BY_QUERY_SQL = "SELECT gift_certificate.id AS certificate_id," +
+            " gift_certificate.name AS gift_certificate_name, gift_certificate.description, gift_certificate.price," +
+            " gift_certificate.duration, gift_certificate.create_date, gift_certificate.last_update_date," +
+            " gift_certificate.version, tag.id AS tag_id, tag.name AS tag_name FROM gift_certificate LEFT JOIN gift_tags" +
+            " ON gift_certificate.id = gift_tags.certificate_id LEFT JOIN tag ON gift_tags.tag_id = tag.id";
+    private static final String FIND_CERTIFICATES_PAGE_SQL_HEAD = "SELECT gift_certificate.id AS certificate_id," +
+            " gift_certificate.name AS gift_certificate_name, gift_certificate.description, gift_certificate.price," +
+            " gift_certificate.duration, gift_certificate.create_date, gift_certificate.last_update_date," +
+            " gift_certificate.version, tag.id AS tag_id, tag.name AS tag_name FROM (SELECT gift_certificate.id," +
+            " gift_certificate.name, gift_certificate.description, gift_certificate.price, gift_certificate.duration," +
+            " gift_certificate.create_date, gift_certificate.last_update_date, gift_certificate.version" +
+            " FROM gift_certificate";
+    private static final String FIND_CERTIFICATES_PAGE_SQL_TAIL = " LIMIT ?) gift_certificate LEFT JOIN gift_tags" +
+            " ON gift_certificate.id = gift_tags.certificate_id LEFT JOIN tag ON gift_tags.tag_id = tag.id";
+    private static final String FIND_CERTIFICATE_IDS_BY_NAMES_SQL = "SELECT gift_certificate.id," +
+            " gift_certificate.name FROM gift_certificate WHERE gift_certificate.name IN (%s)";
+    private static final List<String> HOT_STATEMENTS = Arrays.asList(FIND_CERTIFICATE_BY_ID_SQL,
+            FIND_CERTIFICATE_VERSION_SQL, FIND_CERTIFICATE_BY_NAME_SQL, FIND_ALL_CERTIFICATES_SQL,
+            FIND_CERTIFICATE_TAG_IDS_SQL, UPDATE_CERTIFICATE_SQL, CLEAR_CERTIFICATE_TAGS_SQL);
+    private static final String CERTIFICATE_ID = "id";
+    private static final String CERTIFICATE_NAME = "name";
+    private static final String CERTIFICATE_LAST_UPDATE_DATE = "last_update_date";
+    private static final String CERTIFICATE_VERSION = "version";
+    private static final String[] GENERATED_KEY_COLUMNS = {"id"};
     private final CertificateExtractorImpl certificateExtractor;
+    private final CertificateMapperImpl certificateMapper;
     private final JdbcTemplate jdbcTemplate;
+    private final int streamFetchSize;
 
     @Autowired
-    public CertificateDaoImpl(CertificateExtractorImpl certificateExtractor, JdbcTemplate jdbcTemplate) {
+    public CertificateDaoImpl(CertificateExtractorImpl certificateExtractor, CertificateMapperImpl certificateMapper,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${certificate.stream.fetch.size:500}") int streamFetchSize) {
         this.certificateExtractor = certificateExtractor;
+        this.certificateMapper = certificateMapper;
+        this.streamFetchSize = streamFetchSize;
         this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
-    public boolean add(Certificate certificate) {
-        return 1 == jdbcTemplate.update(ADD_CERTIFICATE_SQL, certificate.getName(), certificate.getDescription(),
-                certificate.getPrice(), certificate.getDuration(), certificate.getCreateDate(),
-                certificate.getLastUpdateDate());
+    public long add(Certificate certificate) {
+        ArgumentPreparedStatementSetter argumentSetter = new ArgumentPreparedStatementSetter(new Object[]{
+                certificate.getName(), certificate.getDescription(), certificate.getPrice(),
+                certificate.getDuration(), certificate.getCreateDate(), certificate.getLastUpdateDate()});
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ADD_CERTIFICATE_SQL, GENERATED_KEY_COLUMNS);
+            argumentSetter.setValues(statement);
+            return statement;
+        }, keyHolder);
+
+        return keyHolder.getKey().longValue();
+    }
+
+    @Override
+    public void addAll(List<Certificate> certificates) {
+        List<Object[]> batchArguments = certificates.stream()
+                .map(certificate -> new Object[]{certificate.getName(), certificate.getDescription(),
+                        certificate.getPrice(), certificate.getDuration(), certificate.getCreateDate(),
+                        certificate.getLastUpdateDate()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(ADD_CERTIFICATE_SQL, batchArguments);
     }
 
     @Override
@@ -59,16 +135,71 @@ public class CertificateDaoImpl implements CertificateDao {
                 : Optional.of(certificateList.get(0));
     }
 
+    /**
+     * Only the id, the last update date and the version of the found certificate are filled.
+     */
+    @Override
+    public Optional<Certificate> findVersionById(long id) {
+        List<Certificate> certificateList = jdbcTemplate.query(FIND_CERTIFICATE_VERSION_SQL, (rs, rowNum) -> {
+            Certificate certificate = new Certificate();
+            certificate.setId(rs.getLong(CERTIFICATE_ID));
+            certificate.setLastUpdateDate(rs.getTimestamp(CERTIFICATE_LAST_UPDATE_DATE).toLocalDateTime());
+            certificate.setVersion(rs.getLong(CERTIFICATE_VERSION));
+            return certificate;
+        }, id);
+
+        return certificateList.isEmpty() ? Optional.empty() : Optional.of(certificateList.get(0));
+    }
+
     @Override
     public List<Certificate> findAll() {
         return jdbcTemplate.query(FIND_ALL_CERTIFICATES_SQL, certificateExtractor);
     }
 
+    @Override
+    public List<Certificate> findAll(CertificateQuery query) {
+        if (query.hasLimit()) {
+            return findPage(query);
+        }
+
+        return jdbcTemplate.query(toSql(query), certificateExtractor, query.getArguments());
+    }
+
+    /**
+     * Reads the certificates through a forward-only cursor, with MySQL it needs useCursorFetch to fetch them in
+     * portions of the configured fetch size.
+     */
+    @Override
+    public void findAll(CertificateQuery query, Consumer<Certificate> certificateConsumer) {
+        String sql = query.hasLimit() ? toPageSql(query) : toSql(query);
+        ArgumentPreparedStatementSetter argumentSetter = new ArgumentPreparedStatementSetter(query.hasLimit()
+                ? toPageArguments(query)
+                : query.getArguments());
+        CertificateRowCallbackHandler rowCallbackHandler = new CertificateRowCallbackHandler(certificateConsumer);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(streamFetchSize);
+            argumentSetter.setValues(statement);
+            return statement;
+        }, rowCallbackHandler);
+        rowCallbackHandler.finish();
+    }
+
+    @Override
+    public List<Certificate> findAllWithoutTags() {
+        return jdbcTemplate.query(FIND_ALL_CERTIFICATES_WITHOUT_TAGS_SQL, certificateMapper);
+    }
+
+    /**
+     * Updates the certificate only if its stored version is still the version of the given one and increments it,
+     * so concurrent updates need no row locks and the one based on an outdated version changes nothing.
+     */
     @Override
     public boolean update(Certificate certificate) {
         return 1 <= jdbcTemplate.update(UPDATE_CERTIFICATE_SQL, certificate.getName(), certificate.getDescription(),
                 certificate.getPrice(), certificate.getDuration(), certificate.getCreateDate(),
-                certificate.getLastUpdateDate(), certificate.getId());
+                certificate.getLastUpdateDate(), certificate.getId(), certificate.getVersion());
     }
 
     @Override
@@ -77,8 +208,24 @@ public class CertificateDaoImpl implements CertificateDao {
     }
 
     @Override
-    public boolean addTagToCertificate(long certificateId, long tagId) {
-        return 1 == jdbcTemplate.update(ADD_TAG_TO_CERTIFICATE_SQL, certificateId, tagId);
+    public void addTagsToCertificate(long certificateId, Collection<Long> tagIds) {
+        List<Object[]> batchArguments = tagIds.stream()
+                .map(tagId -> new Object[]{certificateId, tagId})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(ADD_TAG_TO_CERTIFICATE_SQL, batchArguments);
+    }
+
+    @Override
+    public void addTagsToCertificates(Map<Long, ? extends Collection<Long>> certificateTagIds) {
+        List<Object[]> batchArguments = new ArrayList<>();
+        certificateTagIds.forEach((certificateId, tagIds) -> tagIds
+                .forEach(tagId -> batchArguments.add(new Object[]{certificateId, tagId})));
+        jdbcTemplate.batchUpdate(ADD_TAG_TO_CERTIFICATE_SQL, batchArguments);
+    }
+
+    @Override
+    public List<Long> findCertificateTagIds(long certificateId) {
+        return jdbcTemplate.queryForList(FIND_CERTIFICATE_TAG_IDS_SQL, Long.class, certificateId);
     }
 
     @Override
@@ -93,4 +240,45 @@ public class CertificateDaoImpl implements CertificateDao {
         return certificateList == null || certificateList.isEmpty() ? Optional.empty()
                 : Optional.of(certificateList.get(0));
     }
+
+    /**
+     * Found ids keyed by the stored names, the keys are compared ignoring case like the database does.
+     */
+    @Override
+    public Map<String, Long> findIdsByNames(Collection<String> names) {
+        Map<String, Long> certificateIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (names.isEmpty()) {
+            return certificateIds;
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        jdbcTemplate.query(String.format(FIND_CERTIFICATE_IDS_BY_NAMES_SQL, placeholders), (RowCallbackHandler) rs ->
+                certificateIds.put(rs.getString(CERTIFICATE_NAME), rs.getLong(CERTIFICATE_ID)), names.toArray());
+        return certificateIds;
+    }
+
+    @Override
+    public List<String> findHotStatements() {
+        return HOT_STATEMENTS;
+    }
+
+    private List<Certificate> findPage(CertificateQuery query) {
+        return jdbcTemplate.query(toPageSql(query), certificateExtractor, toPageArguments(query));
+    }
+
+    private String toSql(CertificateQuery query) {
+        return FIND_CERTIFICATES_BY_QUERY_SQL + query.getWhereClause() + query.getOrderByClause();
+    }
+
+    private String toPageSql(CertificateQuery query) {
+        return FIND_CERTIFICATES_PAGE_SQL_HEAD + query.getWhereClause() + query.getOrderByClause()
+                + FIND_CERTIFICATES_PAGE_SQL_TAIL + query.getOrderByClause();
+    }
+
+    private Object[] toPageArguments(CertificateQuery query) {
+        Object[] queryArguments = query.getArguments();
+        Object[] pageArguments = Arrays.copyOf(queryArguments, queryArguments.length + 1);
+        pageArguments[queryArguments.length] = query.getLimit();
+        return pageArguments;
+    }
 }
\ No newline at end of file
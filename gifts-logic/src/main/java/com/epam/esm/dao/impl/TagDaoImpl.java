@@ -2,25 +2,50 @@ package com.epam.esm.dao.impl;
 
 import com.epam.esm.dao.TagDao;
 import com.epam.esm.dao.mapper.TagMapperImpl;
+import com.epam.esm.dao.warmup.HotStatementProvider;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
+import com.epam.esm.entity.TagCatalogVersion;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
-public class TagDaoImpl implements TagDao {
+public class TagDaoImpl implements TagDao, HotStatementProvider {
     private static final String ADD_TAG_SQL = "INSERT INTO tag (name) VALUES (?)";
     private static final String FIND_TAG_BY_ID_SQL = "SELECT tag.id AS tag_id, tag.name AS tag_name FROM tag WHERE tag.id = ?";
     private static final String FIND_TAG_BY_NAME_SQL = "SELECT tag.id AS tag_id, tag.name AS tag_name FROM tag WHERE tag.name = ?";
-    private static final String FIND_ALL_TAGS_SQL = "SELECT tag.id AS tag_id, tag.name AS tag_name FROM tag";
+    private static final String FIND_TAGS_BY_NAMES_SQL = "SELECT tag.id AS tag_id, tag.name AS tag_name FROM tag" +
+            " WHERE tag.name IN (%s)";
+    private static final String FIND_ALL_TAGS_SQL = "SELECT tag.id AS tag_id, tag.name AS tag_name FROM tag ORDER BY tag.id";
     private static final String REMOVE_TAG_BY_ID_SQL = "DELETE FROM tag WHERE id = ?";
     private static final String REMOVE_TAG_FROM_CERTIFICATES_BY_ID_SQL = "DELETE FROM gift_tags WHERE gift_tags.tag_id = ?";
+    private static final String FIND_TAG_CERTIFICATE_IDS_SQL = "SELECT gift_tags.certificate_id FROM gift_tags" +
+            " WHERE gift_tags.tag_id = ?";
+    private static final String FIND_ALL_TAG_CERTIFICATE_IDS_SQL = "SELECT tag.name AS tag_name," +
+            " gift_tags.certificate_id FROM gift_tags JOIN tag ON gift_tags.tag_id = tag.id";
     private static final String UPDATE_TAG_SQL = "UPDATE tag SET name = ? WHERE id = ?";
+    private static final String FIND_CATALOG_VERSION_SQL = "SELECT tag_catalog_version.version," +
+            " tag_catalog_version.last_update_date FROM tag_catalog_version WHERE tag_catalog_version.id = 1";
+    private static final String INCREMENT_CATALOG_VERSION_SQL = "UPDATE tag_catalog_version" +
+            " SET version = version + 1, last_update_date = CURRENT_TIMESTAMP WHERE id = 1";
+    private static final List<String> HOT_STATEMENTS = Arrays.asList(FIND_TAG_BY_ID_SQL, FIND_TAG_BY_NAME_SQL,
+            FIND_ALL_TAGS_SQL, FIND_TAG_CERTIFICATE_IDS_SQL, FIND_CATALOG_VERSION_SQL);
+    private static final String[] GENERATED_KEY_COLUMNS = {"id"};
     private final TagMapperImpl tagMapper;
     private final JdbcTemplate jdbcTemplate;
 
@@ -31,8 +56,23 @@ public class TagDaoImpl implements TagDao {
     }
 
     @Override
-    public boolean add(Tag tag) {
-        return 1 == jdbcTemplate.update(ADD_TAG_SQL, tag.getName());
+    public long add(Tag tag) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ADD_TAG_SQL, GENERATED_KEY_COLUMNS);
+            statement.setString(1, tag.getName());
+            return statement;
+        }, keyHolder);
+
+        return keyHolder.getKey().longValue();
+    }
+
+    @Override
+    public void addAll(Collection<Tag> tags) {
+        List<Object[]> batchArguments = tags.stream()
+                .map(tag -> new Object[]{tag.getName()})
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(ADD_TAG_SQL, batchArguments);
     }
 
     @Override
@@ -49,6 +89,16 @@ public class TagDaoImpl implements TagDao {
         return tagList.isEmpty() ? Optional.empty() : Optional.of(tagList.get(0));
     }
 
+    @Override
+    public List<Tag> findAllByNames(Collection<String> names) {
+        if (names.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        return jdbcTemplate.query(String.format(FIND_TAGS_BY_NAMES_SQL, placeholders), tagMapper, names.toArray());
+    }
+
     @Override
     public List<Tag> findAll() {
         return jdbcTemplate.query(FIND_ALL_TAGS_SQL, tagMapper);
@@ -68,4 +118,41 @@ public class TagDaoImpl implements TagDao {
     public void removeTagFromCertificates(long id) {
         jdbcTemplate.update(REMOVE_TAG_FROM_CERTIFICATES_BY_ID_SQL, id);
     }
+
+    @Override
+    public List<Long> findTagCertificateIds(long id) {
+        return jdbcTemplate.queryForList(FIND_TAG_CERTIFICATE_IDS_SQL, Long.class, id);
+    }
+
+    @Override
+    public Map<String, List<Long>> findAllTagCertificateIds() {
+        return jdbcTemplate.query(FIND_ALL_TAG_CERTIFICATE_IDS_SQL, resultSet -> {
+            Map<String, List<Long>> certificateIdsByTagName = new HashMap<>();
+            while (resultSet.next()) {
+                certificateIdsByTagName.computeIfAbsent(resultSet.getString("tag_name"), tagName -> new ArrayList<>())
+                        .add(resultSet.getLong("certificate_id"));
+            }
+
+            return certificateIdsByTagName;
+        });
+    }
+
+    @Override
+    public TagCatalogVersion findCatalogVersion() {
+        return jdbcTemplate.queryForObject(FIND_CATALOG_VERSION_SQL, (rs, rowNum) -> new TagCatalogVersion(
+                rs.getLong("version"), rs.getTimestamp("last_update_date").toLocalDateTime()));
+    }
+
+    /**
+     * The date is taken from the database, so the instances of the application do not depend on their own clocks.
+     */
+    @Override
+    public void incrementCatalogVersion() {
+        jdbcTemplate.update(INCREMENT_CATALOG_VERSION_SQL);
+    }
+
+    @Override
+    public List<String> findHotStatements() {
+        return HOT_STATEMENTS;
+    }
 }
@@ -0,0 +1,36 @@
+package com.epam.esm.dao.mapper;
+
+import com.epam.esm.entity.Certificate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+@Component
+public class CertificateMapperImpl implements RowMapper<Certificate> {
+    private static final String CERTIFICATE_ID = "certificate_id";
+    private static final String GIFT_CERTIFICATE_NAME = "gift_certificate_name";
+    private static final String DESCRIPTION = "description";
+    private static final String PRICE = "price";
+    private static final String DURATION = "duration";
+    private static final String CREATE_DATE = "create_date";
+    private static final String LAST_UPDATE_DATE = "last_update_date";
+    private static final String VERSION = "version";
+
+    @Override
+    public Certificate mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Certificate certificate = new Certificate();
+        certificate.setId(rs.getLong(CERTIFICATE_ID));
+        certificate.setName(rs.getString(GIFT_CERTIFICATE_NAME));
+        certificate.setDescription(rs.getString(DESCRIPTION));
+        certificate.setPrice(rs.getBigDecimal(PRICE));
+        certificate.setDuration(rs.getShort(DURATION));
+        certificate.setCreateDate(rs.getTimestamp(CREATE_DATE).toLocalDateTime());
+        certificate.setLastUpdateDate(rs.getTimestamp(LAST_UPDATE_DATE).toLocalDateTime());
+        certificate.setVersion(rs.getLong(VERSION));
+        certificate.setTags(new ArrayList<>());
+        return certificate;
+    }
+}
@@ -0,0 +1,11 @@
+package com.epam.esm.dao.profiler;
+
+import java.util.List;
+
+public interface StatementProfiler {
+    void record(String sql, List<Object> parameters, long nanos, long rowCount, long byteCount);
+
+    List<StatementStatistics> findMostExpensiveStatements(int limit);
+
+    void reset();
+}
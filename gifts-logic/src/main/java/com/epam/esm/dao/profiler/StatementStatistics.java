@@ -0,0 +1,81 @@
+package com.epam.esm.dao.profiler;
+
+import java.util.Objects;
+
+public class StatementStatistics {
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private final String sql;
+    private final long executionCount;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long rowCount;
+    private final long byteCount;
+
+    public StatementStatistics(String sql, long executionCount, long totalNanos, long maxNanos, long rowCount,
+                               long byteCount) {
+        this.sql = sql;
+        this.executionCount = executionCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.rowCount = rowCount;
+        this.byteCount = byteCount;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    public double getTotalMillis() {
+        return totalNanos / NANOS_PER_MILLI;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos / NANOS_PER_MILLI;
+    }
+
+    public double getAverageMillis() {
+        return executionCount == 0 ? 0 : getTotalMillis() / executionCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        StatementStatistics that = (StatementStatistics) o;
+        return executionCount == that.executionCount &&
+                totalNanos == that.totalNanos &&
+                maxNanos == that.maxNanos &&
+                rowCount == that.rowCount &&
+                byteCount == that.byteCount &&
+                Objects.equals(sql, that.sql);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sql, executionCount, totalNanos, maxNanos, rowCount, byteCount);
+    }
+
+    @Override
+    public String toString() {
+        return "StatementStatistics{" +
+                "sql='" + sql + '\'' +
+                ", executionCount=" + executionCount +
+                ", totalNanos=" + totalNanos +
+                ", maxNanos=" + maxNanos +
+                ", rowCount=" + rowCount +
+                ", byteCount=" + byteCount +
+                '}';
+    }
+}
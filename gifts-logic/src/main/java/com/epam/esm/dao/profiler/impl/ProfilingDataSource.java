@@ -0,0 +1,256 @@
+package com.epam.esm.dao.profiler.impl;
+
+import com.epam.esm.dao.profiler.StatementProfiler;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hands out connections whose statements report to the profiler once their result set or the statement itself is
+ * closed. Only the time spent in the execution and in fetching the rows is counted, so a caller that handles each
+ * row slowly, as a streamed export waiting on its client, does not make the statement look slow. The rows of a query
+ * are counted as they are read and their size is estimated from the values taken, an update reports its update
+ * count.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+    private static final String PARAMETER_SETTER_PREFIX = "set";
+    private static final String EXECUTE_PREFIX = "execute";
+    private static final int STRING_CHAR_BYTES = 2;
+    private static final int VALUE_BYTES = 8;
+    private final StatementProfiler statementProfiler;
+
+    public ProfilingDataSource(DataSource targetDataSource, StatementProfiler statementProfiler) {
+        super(targetDataSource);
+        this.statementProfiler = statementProfiler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+
+        private ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = invokeTarget(connection, method, args);
+            if (result instanceof Statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                Class<?> statementType = result instanceof CallableStatement ? CallableStatement.class
+                        : result instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{statementType},
+                        new StatementHandler((Statement) result, sql));
+            }
+
+            return result;
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final List<Object> parameters;
+        private String sql;
+        private Execution execution;
+
+        private StatementHandler(Statement statement, String sql) {
+            this.statement = statement;
+            this.sql = sql;
+            this.parameters = new ArrayList<>();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if (methodName.startsWith(PARAMETER_SETTER_PREFIX) && args != null && args.length >= 2
+                    && args[0] instanceof Integer) {
+                setParameter((Integer) args[0], methodName.equals("setNull") ? null : args[1]);
+            } else if (methodName.equals("clearParameters")) {
+                parameters.clear();
+            } else if (methodName.startsWith(EXECUTE_PREFIX)) {
+                return execute(method, args);
+            } else if (methodName.equals("close")) {
+                finishExecution();
+            }
+
+            Object result = invokeTarget(statement, method, args);
+            if (result instanceof ResultSet && execution != null && methodName.equals("getResultSet")) {
+                return wrapResultSet((ResultSet) result);
+            }
+
+            return result;
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            finishExecution();
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                sql = (String) args[0];
+            }
+
+            execution = new Execution(sql, new ArrayList<>(parameters));
+            Object result;
+            long startTime = System.nanoTime();
+            try {
+                result = invokeTarget(statement, method, args);
+            } catch (Throwable e) {
+                execution.nanos += System.nanoTime() - startTime;
+                finishExecution();
+                throw e;
+            }
+
+            execution.nanos += System.nanoTime() - startTime;
+
+            if (result instanceof ResultSet) {
+                return wrapResultSet((ResultSet) result);
+            }
+
+            if (result instanceof Number) {
+                execution.rowCount += ((Number) result).longValue();
+            } else if (result instanceof int[]) {
+                for (int updateCount : (int[]) result) {
+                    execution.rowCount += Math.max(updateCount, 0);
+                }
+            } else if (result instanceof long[]) {
+                for (long updateCount : (long[]) result) {
+                    execution.rowCount += Math.max(updateCount, 0);
+                }
+            }
+
+            if (!(result instanceof Boolean) || !((Boolean) result)) {
+                finishExecution();
+            }
+
+            return result;
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet) {
+            return (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class},
+                    new ResultSetHandler(resultSet, execution));
+        }
+
+        private void setParameter(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+
+            parameters.set(index - 1, value);
+        }
+
+        private void finishExecution() {
+            if (execution != null) {
+                execution.finish();
+                execution = null;
+            }
+        }
+    }
+
+    private class ResultSetHandler implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final Execution execution;
+
+        private ResultSetHandler(ResultSet resultSet, Execution execution) {
+            this.resultSet = resultSet;
+            this.execution = execution;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if (methodName.equals("next")) {
+                return next();
+            }
+
+            Object result = invokeTarget(resultSet, method, args);
+            if (methodName.startsWith("get") && args != null && args.length > 0) {
+                execution.byteCount += estimateSize(result);
+            } else if (methodName.equals("close")) {
+                execution.finish();
+            }
+
+            return result;
+        }
+
+        private boolean next() throws SQLException {
+            long startTime = System.nanoTime();
+            try {
+                boolean hasRow = resultSet.next();
+                if (hasRow) {
+                    execution.rowCount++;
+                }
+
+                return hasRow;
+            } finally {
+                execution.nanos += System.nanoTime() - startTime;
+            }
+        }
+
+        private long estimateSize(Object value) {
+            if (value == null) {
+                return 0;
+            } else if (value instanceof String) {
+                return (long) ((String) value).length() * STRING_CHAR_BYTES;
+            } else if (value instanceof byte[]) {
+                return ((byte[]) value).length;
+            }
+
+            return VALUE_BYTES;
+        }
+    }
+
+    private class Execution {
+        private final String sql;
+        private final List<Object> parameters;
+        private long nanos;
+        private long rowCount;
+        private long byteCount;
+        private boolean finished;
+
+        private Execution(String sql, List<Object> parameters) {
+            this.sql = sql;
+            this.parameters = parameters;
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                statementProfiler.record(String.valueOf(sql), Collections.unmodifiableList(parameters),
+                        nanos, rowCount, byteCount);
+            }
+        }
+    }
+}
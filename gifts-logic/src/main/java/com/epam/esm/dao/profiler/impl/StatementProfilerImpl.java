@@ -0,0 +1,104 @@
+package com.epam.esm.dao.profiler.impl;
+
+import com.epam.esm.dao.profiler.StatementProfiler;
+import com.epam.esm.dao.profiler.StatementStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Sums the executions of each statement text and logs the ones slower than the threshold. Bound parameters may hold
+ * personal data, so they are logged only at the debug level and never kept in the statistics. Statements that come
+ * after the limit of distinct texts is reached are only checked against the threshold.
+ */
+@Component
+public class StatementProfilerImpl implements StatementProfiler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StatementProfilerImpl.class);
+    private final Map<String, StatementProfile> profiles;
+    private final long slowStatementNanos;
+    private final int maxStatementCount;
+
+    @Autowired
+    public StatementProfilerImpl(@Value("${jdbc.profiling.slow.statement.millis:500}") long slowStatementMillis,
+                                 @Value("${jdbc.profiling.max.statements:1000}") int maxStatementCount) {
+        this.profiles = new ConcurrentHashMap<>();
+        this.slowStatementNanos = TimeUnit.MILLISECONDS.toNanos(slowStatementMillis);
+        this.maxStatementCount = maxStatementCount;
+    }
+
+    @Override
+    public void record(String sql, List<Object> parameters, long nanos, long rowCount, long byteCount) {
+        if (nanos >= slowStatementNanos) {
+            LOGGER.warn("Slow statement ({} ms, {} rows, {} bytes): {}", new Object[]{
+                    TimeUnit.NANOSECONDS.toMillis(nanos), rowCount, byteCount, sql});
+            LOGGER.debug("Parameters of the slow statement {}: {}", sql, parameters);
+        }
+
+        StatementProfile profile = profiles.get(sql);
+        if (profile == null) {
+            if (profiles.size() >= maxStatementCount) {
+                return;
+            }
+
+            profile = profiles.computeIfAbsent(sql, StatementProfile::new);
+        }
+
+        profile.add(nanos, rowCount, byteCount);
+    }
+
+    @Override
+    public List<StatementStatistics> findMostExpensiveStatements(int limit) {
+        return profiles.values().stream()
+                .map(StatementProfile::toStatistics)
+                .sorted(Comparator.comparingDouble(StatementStatistics::getTotalMillis).reversed())
+                .limit(Math.max(limit, 0))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void reset() {
+        profiles.clear();
+    }
+
+    private static class StatementProfile {
+        private final String sql;
+        private final LongAdder executionCount;
+        private final LongAdder totalNanos;
+        private final LongAdder rowCount;
+        private final LongAdder byteCount;
+        private final AtomicLong maxNanos;
+
+        private StatementProfile(String sql) {
+            this.sql = sql;
+            this.executionCount = new LongAdder();
+            this.totalNanos = new LongAdder();
+            this.rowCount = new LongAdder();
+            this.byteCount = new LongAdder();
+            this.maxNanos = new AtomicLong(-1);
+        }
+
+        private void add(long nanos, long rows, long bytes) {
+            executionCount.increment();
+            totalNanos.add(nanos);
+            rowCount.add(rows);
+            byteCount.add(bytes);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private StatementStatistics toStatistics() {
+            return new StatementStatistics(sql, executionCount.sum(), totalNanos.sum(), Math.max(maxNanos.get(), 0),
+                    rowCount.sum(), byteCount.sum());
+        }
+    }
+}
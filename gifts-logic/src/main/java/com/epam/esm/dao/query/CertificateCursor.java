@@ -0,0 +1,132 @@
+package com.epam.esm.dao.query;
+
+import com.epam.esm.entity.Certificate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+public class CertificateCursor {
+    private static final byte FORMAT_VERSION = 1;
+    private static final String INVALID_CURSOR_MESSAGE = "Invalid certificate cursor";
+    private final List<CertificateSortOrder> sortOrders;
+    private final List<String> values;
+    private final long certificateId;
+
+    private CertificateCursor(List<CertificateSortOrder> sortOrders, List<String> values, long certificateId) {
+        this.sortOrders = sortOrders;
+        this.values = values;
+        this.certificateId = certificateId;
+    }
+
+    public static CertificateCursor of(List<CertificateSortOrder> sortOrders, Certificate lastCertificate) {
+        List<String> values = new ArrayList<>(sortOrders.size());
+        for (CertificateSortOrder sortOrder : sortOrders) {
+            values.add(sortOrder.getSortField().formatValue(lastCertificate));
+        }
+
+        return new CertificateCursor(new ArrayList<>(sortOrders), values, lastCertificate.getId());
+    }
+
+    public static CertificateCursor decode(String encodedCursor) {
+        try (DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(Base64.getUrlDecoder().decode(encodedCursor)))) {
+            if (input.readByte() != FORMAT_VERSION) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+
+            CertificateSortField[] sortFields = CertificateSortField.values();
+            int sortOrdersCount = input.readUnsignedByte();
+            List<CertificateSortOrder> sortOrders = new ArrayList<>(sortOrdersCount);
+            List<String> values = new ArrayList<>(sortOrdersCount);
+            for (int i = 0; i < sortOrdersCount; i++) {
+                int fieldOrdinal = input.readUnsignedByte();
+                if (fieldOrdinal >= sortFields.length) {
+                    throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+                }
+
+                CertificateSortField sortField = sortFields[fieldOrdinal];
+                sortOrders.add(new CertificateSortOrder(sortField, input.readBoolean()));
+                String value = input.readUTF();
+                sortField.parseValue(value);
+                values.add(value);
+            }
+
+            long certificateId = input.readLong();
+            if (input.available() > 0) {
+                throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE);
+            }
+
+            return new CertificateCursor(sortOrders, values, certificateId);
+        } catch (IOException | DateTimeParseException e) {
+            throw new IllegalArgumentException(INVALID_CURSOR_MESSAGE, e);
+        }
+    }
+
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(FORMAT_VERSION);
+            output.writeByte(sortOrders.size());
+            for (int i = 0; i < sortOrders.size(); i++) {
+                output.writeByte(sortOrders.get(i).getSortField().ordinal());
+                output.writeBoolean(sortOrders.get(i).isAscending());
+                output.writeUTF(values.get(i));
+            }
+            output.writeLong(certificateId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    public boolean isCompatibleWith(List<CertificateSortOrder> querySortOrders) {
+        return sortOrders.equals(querySortOrders);
+    }
+
+    public List<CertificateSortOrder> getSortOrders() {
+        return Collections.unmodifiableList(sortOrders);
+    }
+
+    public Object getValue(int sortOrderIndex) {
+        return sortOrders.get(sortOrderIndex).getSortField().parseValue(values.get(sortOrderIndex));
+    }
+
+    public long getCertificateId() {
+        return certificateId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificateCursor that = (CertificateCursor) o;
+        return certificateId == that.certificateId &&
+                Objects.equals(sortOrders, that.sortOrders) &&
+                Objects.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortOrders, values, certificateId);
+    }
+
+    @Override
+    public String toString() {
+        return "CertificateCursor{" +
+                "sortOrders=" + sortOrders +
+                ", values=" + values +
+                ", certificateId=" + certificateId +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.esm.dao.query;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class CertificateQuery {
+    private final String whereClause;
+    private final String orderByClause;
+    private final Object[] arguments;
+    private final int limit;
+
+    CertificateQuery(String whereClause, String orderByClause, Object[] arguments, int limit) {
+        this.whereClause = whereClause;
+        this.orderByClause = orderByClause;
+        this.arguments = arguments;
+        this.limit = limit;
+    }
+
+    public String getWhereClause() {
+        return whereClause;
+    }
+
+    public String getOrderByClause() {
+        return orderByClause;
+    }
+
+    public Object[] getArguments() {
+        return arguments.clone();
+    }
+
+    public boolean hasLimit() {
+        return limit > 0;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificateQuery that = (CertificateQuery) o;
+        return limit == that.limit &&
+                Objects.equals(whereClause, that.whereClause) &&
+                Objects.equals(orderByClause, that.orderByClause) &&
+                Arrays.equals(arguments, that.arguments);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(whereClause, orderByClause, limit);
+        result = 31 * result + Arrays.hashCode(arguments);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CertificateQuery{" +
+                "whereClause='" + whereClause + '\'' +
+                ", orderByClause='" + orderByClause + '\'' +
+                ", arguments=" + Arrays.toString(arguments) +
+                ", limit=" + limit +
+                '}';
+    }
+}
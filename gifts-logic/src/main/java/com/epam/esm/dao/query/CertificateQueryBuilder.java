@@ -0,0 +1,223 @@
+package com.epam.esm.dao.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class CertificateQueryBuilder {
+    private static final String TAG_NAME_CONDITION = "gift_certificate.id IN (SELECT gift_tags.certificate_id" +
+            " FROM gift_tags JOIN tag ON gift_tags.tag_id = tag.id WHERE UPPER(tag.name) = ?)";
+    private static final String ANY_TAG_NAME_CONDITION = "gift_certificate.id IN (SELECT gift_tags.certificate_id" +
+            " FROM gift_tags JOIN tag ON gift_tags.tag_id = tag.id WHERE UPPER(tag.name) IN (%s))";
+    private static final String CERTIFICATE_IDS_CONDITION = "gift_certificate.id IN (%s)";
+    private static final String NAME_PART_CONDITION = "UPPER(gift_certificate.name) LIKE ? ESCAPE '!'";
+    private static final String DESCRIPTION_PART_CONDITION = "UPPER(gift_certificate.description) LIKE ? ESCAPE '!'";
+    private static final String DESCRIPTION_FULL_TEXT_CONDITION = "MATCH (gift_certificate.description)" +
+            " AGAINST (? IN BOOLEAN MODE)";
+    private static final String ID_COLUMN = "gift_certificate.id";
+    private static final String WHERE = " WHERE ";
+    private static final String AND = " AND ";
+    private static final String OR = " OR ";
+    private static final String ORDER_BY = " ORDER BY ";
+    private static final String ASC = " ASC";
+    private static final String DESC = " DESC";
+    private static final String GREATER_THAN_PARAMETER = " > ?";
+    private static final String LESS_THAN_PARAMETER = " < ?";
+    private static final String EQUALS_PARAMETER = " = ?";
+    private static final String LIKE_ESCAPE_CHARACTER = "!";
+    private static final String LIKE_WILDCARD = "%";
+    private static final int NO_LIMIT = 0;
+    private static final int MIN_FULL_TEXT_TOKEN_LENGTH = 3;
+    private static final Pattern FULL_TEXT_TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}_']+");
+    private static final Set<String> FULL_TEXT_STOPWORDS = new HashSet<>(Arrays.asList("about", "are", "com",
+            "for", "from", "how", "that", "the", "this", "was", "what", "when", "where", "who", "will", "with",
+            "und", "www"));
+    private final List<String> conditions;
+    private final List<Object> arguments;
+    private final LinkedList<CertificateSortOrder> sortOrders;
+    private final boolean fullTextSearch;
+    private CertificateCursor cursor;
+    private int limit;
+
+    public CertificateQueryBuilder() {
+        this(false);
+    }
+
+    /**
+     * @param fullTextSearch whether description search may be narrowed by the MySQL full-text index
+     */
+    public CertificateQueryBuilder(boolean fullTextSearch) {
+        this.fullTextSearch = fullTextSearch;
+        conditions = new ArrayList<>();
+        arguments = new ArrayList<>();
+        sortOrders = new LinkedList<>();
+        limit = NO_LIMIT;
+    }
+
+    public CertificateQueryBuilder withTagName(String tagName) {
+        conditions.add(TAG_NAME_CONDITION);
+        arguments.add(tagName.toUpperCase(Locale.ROOT));
+        return this;
+    }
+
+    public CertificateQueryBuilder withAllTagNames(Collection<String> tagNames) {
+        tagNames.forEach(this::withTagName);
+        return this;
+    }
+
+    public CertificateQueryBuilder withAnyTagName(Collection<String> tagNames) {
+        conditions.add(String.format(ANY_TAG_NAME_CONDITION, toPlaceholders(tagNames.size())));
+        tagNames.forEach(tagName -> arguments.add(tagName.toUpperCase(Locale.ROOT)));
+        return this;
+    }
+
+    public CertificateQueryBuilder withCertificateIds(long[] certificateIds) {
+        conditions.add(String.format(CERTIFICATE_IDS_CONDITION, toPlaceholders(certificateIds.length)));
+        for (long certificateId : certificateIds) {
+            arguments.add(certificateId);
+        }
+
+        return this;
+    }
+
+    public CertificateQueryBuilder withNamePart(String namePart) {
+        conditions.add(NAME_PART_CONDITION);
+        arguments.add(toContainsPattern(namePart));
+        return this;
+    }
+
+    public CertificateQueryBuilder withDescriptionPart(String descriptionPart) {
+        if (fullTextSearch) {
+            String fullTextQuery = toFullTextQuery(descriptionPart);
+            if (!fullTextQuery.isEmpty()) {
+                conditions.add(DESCRIPTION_FULL_TEXT_CONDITION);
+                arguments.add(fullTextQuery);
+            }
+        }
+
+        conditions.add(DESCRIPTION_PART_CONDITION);
+        arguments.add(toContainsPattern(descriptionPart));
+        return this;
+    }
+
+    /**
+     * Every next sort becomes the primary one and the previous sorts only break its ties,
+     * the same way sequentially applied stable sorts behave.
+     */
+    public CertificateQueryBuilder sortBy(CertificateSortField sortField, boolean ascending) {
+        sortOrders.addFirst(new CertificateSortOrder(sortField, ascending));
+        return this;
+    }
+
+    public CertificateQueryBuilder seekAfter(CertificateCursor cursor) {
+        this.cursor = cursor;
+        return this;
+    }
+
+    public CertificateQueryBuilder limit(int limit) {
+        this.limit = limit;
+        return this;
+    }
+
+    public List<CertificateSortOrder> getSortOrders() {
+        return new ArrayList<>(sortOrders);
+    }
+
+    public CertificateQuery build() {
+        List<String> queryConditions = new ArrayList<>(conditions);
+        List<Object> queryArguments = new ArrayList<>(arguments);
+        if (cursor != null) {
+            if (!cursor.isCompatibleWith(sortOrders)) {
+                throw new IllegalArgumentException("Cursor was created for another sort order");
+            }
+
+            queryConditions.add(buildSeekCondition(queryArguments));
+        }
+
+        String whereClause = queryConditions.isEmpty() ? "" : WHERE + String.join(AND, queryConditions);
+        return new CertificateQuery(whereClause, buildOrderByClause(), queryArguments.toArray(), limit);
+    }
+
+    private String buildOrderByClause() {
+        StringBuilder orderByClause = new StringBuilder(ORDER_BY);
+        for (CertificateSortOrder sortOrder : sortOrders) {
+            orderByClause.append(sortOrder.getSortField().getColumnExpression())
+                    .append(sortOrder.isAscending() ? ASC : DESC)
+                    .append(", ");
+        }
+
+        return orderByClause.append(ID_COLUMN).append(isIdAscending() ? ASC : DESC).toString();
+    }
+
+    /**
+     * Expands the row comparison (k1, ..., kn, id) > (v1, ..., vn, lastId) into OR-ed prefix equalities,
+     * because every key may have its own direction.
+     */
+    private String buildSeekCondition(List<Object> queryArguments) {
+        List<String> alternatives = new ArrayList<>();
+        for (int i = 0; i <= sortOrders.size(); i++) {
+            StringBuilder alternative = new StringBuilder("(");
+            for (int j = 0; j < i; j++) {
+                alternative.append(sortOrders.get(j).getSortField().getColumnExpression()).append(EQUALS_PARAMETER)
+                        .append(AND);
+                queryArguments.add(cursor.getValue(j));
+            }
+
+            if (i < sortOrders.size()) {
+                CertificateSortOrder sortOrder = sortOrders.get(i);
+                alternative.append(sortOrder.getSortField().getColumnExpression())
+                        .append(sortOrder.isAscending() ? GREATER_THAN_PARAMETER : LESS_THAN_PARAMETER);
+                queryArguments.add(cursor.getValue(i));
+            } else {
+                alternative.append(ID_COLUMN).append(isIdAscending() ? GREATER_THAN_PARAMETER : LESS_THAN_PARAMETER);
+                queryArguments.add(cursor.getCertificateId());
+            }
+
+            alternatives.add(alternative.append(")").toString());
+        }
+
+        return "(" + String.join(OR, alternatives) + ")";
+    }
+
+    private boolean isIdAscending() {
+        return sortOrders.isEmpty() || sortOrders.getFirst().isAscending();
+    }
+
+    private String toPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * Builds a boolean mode query every text containing the part matches. Words inside the part are required as is,
+     * the last word may be a prefix and the first one may be a suffix, so it is skipped. Words the full-text index
+     * does not store are skipped too, the LIKE condition still checks the whole part.
+     */
+    private String toFullTextQuery(String part) {
+        String[] tokens = FULL_TEXT_TOKEN_SEPARATOR.split(part, -1);
+        List<String> terms = new ArrayList<>();
+        for (int i = 1; i < tokens.length; i++) {
+            String token = tokens[i].toLowerCase(Locale.ROOT);
+            if (token.length() >= MIN_FULL_TEXT_TOKEN_LENGTH && !token.contains("'")
+                    && !FULL_TEXT_STOPWORDS.contains(token)) {
+                terms.add(i == tokens.length - 1 ? "+" + token + "*" : "+" + token);
+            }
+        }
+
+        return String.join(" ", terms);
+    }
+
+    private String toContainsPattern(String part) {
+        String escapedPart = part.toUpperCase(Locale.ROOT)
+                .replace(LIKE_ESCAPE_CHARACTER, LIKE_ESCAPE_CHARACTER + LIKE_ESCAPE_CHARACTER)
+                .replace(LIKE_WILDCARD, LIKE_ESCAPE_CHARACTER + LIKE_WILDCARD)
+                .replace("_", LIKE_ESCAPE_CHARACTER + "_");
+        return LIKE_WILDCARD + escapedPart + LIKE_WILDCARD;
+    }
+}
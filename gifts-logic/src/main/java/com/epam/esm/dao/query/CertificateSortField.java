@@ -0,0 +1,56 @@
+package com.epam.esm.dao.query;
+
+import com.epam.esm.entity.Certificate;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+public enum CertificateSortField {
+    NAME("UPPER(gift_certificate.name)") {
+        @Override
+        public String formatValue(Certificate certificate) {
+            return certificate.getName().toUpperCase(Locale.ROOT);
+        }
+
+        @Override
+        public Object parseValue(String value) {
+            return value;
+        }
+    },
+    CREATE_DATE("gift_certificate.create_date") {
+        @Override
+        public String formatValue(Certificate certificate) {
+            return certificate.getCreateDate().toString();
+        }
+
+        @Override
+        public Object parseValue(String value) {
+            return LocalDateTime.parse(value);
+        }
+    },
+    LAST_UPDATE_DATE("gift_certificate.last_update_date") {
+        @Override
+        public String formatValue(Certificate certificate) {
+            return certificate.getLastUpdateDate().toString();
+        }
+
+        @Override
+        public Object parseValue(String value) {
+            return LocalDateTime.parse(value);
+        }
+    };
+
+    private final String columnExpression;
+
+    CertificateSortField(String columnExpression) {
+        this.columnExpression = columnExpression;
+    }
+
+    public String getColumnExpression() {
+        return columnExpression;
+    }
+
+    public abstract String formatValue(Certificate certificate);
+
+    public abstract Object parseValue(String value);
+}
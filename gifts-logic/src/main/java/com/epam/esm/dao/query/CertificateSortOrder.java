@@ -0,0 +1,43 @@
+package com.epam.esm.dao.query;
+
+import java.util.Objects;
+
+public class CertificateSortOrder {
+    private final CertificateSortField sortField;
+    private final boolean ascending;
+
+    public CertificateSortOrder(CertificateSortField sortField, boolean ascending) {
+        this.sortField = sortField;
+        this.ascending = ascending;
+    }
+
+    public CertificateSortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificateSortOrder that = (CertificateSortOrder) o;
+        return ascending == that.ascending &&
+                sortField == that.sortField;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortField, ascending);
+    }
+
+    @Override
+    public String toString() {
+        return "CertificateSortOrder{" +
+                "sortField=" + sortField +
+                ", ascending=" + ascending +
+                '}';
+    }
+}
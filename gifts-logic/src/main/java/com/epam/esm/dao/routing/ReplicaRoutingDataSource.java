@@ -0,0 +1,148 @@
+package com.epam.esm.dao.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Sends read-only transactions to the healthy replicas in turn and everything else to the primary. The read-only
+ * flag is known only after the transaction has started, so the connection has to be taken lazily, through a
+ * LazyConnectionDataSourceProxy. Replicas are taken for unhealthy until their first check passes, and reads stay
+ * on the primary while the given condition holds, as right after a write. Each read sent to a replica is reported to
+ * the given listener. Closing stops the health checks and closes the replica pools.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String PRIMARY_KEY = "primary";
+    private static final String REPLICA_KEY_PREFIX = "replica-";
+    private static final String HEALTH_CHECK_THREAD_NAME = "replica-health-check";
+    private final List<Replica> replicas;
+    private final BooleanSupplier primaryRequired;
+    private final Runnable replicaReadListener;
+    private final AtomicInteger nextReplica;
+    private final long healthCheckIntervalMillis;
+    private final int validationTimeoutSeconds;
+    private ScheduledExecutorService healthCheckExecutor;
+
+    public ReplicaRoutingDataSource(DataSource primaryDataSource, List<DataSource> replicaDataSources,
+                                    BooleanSupplier primaryRequired, Runnable replicaReadListener,
+                                    long healthCheckIntervalMillis, int validationTimeoutSeconds) {
+        this.replicas = new ArrayList<>();
+        this.primaryRequired = primaryRequired;
+        this.replicaReadListener = replicaReadListener;
+        this.nextReplica = new AtomicInteger();
+        this.healthCheckIntervalMillis = healthCheckIntervalMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY_KEY, primaryDataSource);
+        for (DataSource replicaDataSource : replicaDataSources) {
+            Replica replica = new Replica(REPLICA_KEY_PREFIX + replicas.size(), replicaDataSource);
+            replicas.add(replica);
+            targetDataSources.put(replica.key, replicaDataSource);
+        }
+
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primaryDataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (healthCheckIntervalMillis > 0 && !replicas.isEmpty()) {
+            healthCheckExecutor = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, HEALTH_CHECK_THREAD_NAME);
+                thread.setDaemon(true);
+                return thread;
+            });
+            healthCheckExecutor.scheduleWithFixedDelay(this::checkReplicas, 0, healthCheckIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || primaryRequired.getAsBoolean()) {
+            return PRIMARY_KEY;
+        }
+
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (replica.healthy) {
+                replicaReadListener.run();
+                return replica.key;
+            }
+        }
+
+        return PRIMARY_KEY;
+    }
+
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(validationTimeoutSeconds);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+
+            if (healthy != replica.healthy) {
+                LOGGER.info("Replica {} is {}", replica.key, healthy ? "healthy" : "unhealthy");
+                replica.healthy = healthy;
+            }
+        }
+    }
+
+    public Map<String, Boolean> getReplicaHealth() {
+        Map<String, Boolean> replicaHealth = new HashMap<>();
+        replicas.forEach(replica -> replicaHealth.put(replica.key, replica.healthy));
+        return replicaHealth;
+    }
+
+    public List<DataSource> getReplicaDataSources() {
+        return replicas.stream()
+                .map(replica -> replica.dataSource)
+                .collect(Collectors.toList());
+    }
+
+    public void close() {
+        if (healthCheckExecutor != null) {
+            healthCheckExecutor.shutdownNow();
+        }
+
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) replica.dataSource).close();
+                } catch (Exception e) {
+                    LOGGER.warn("Could not close replica " + replica.key, e);
+                }
+            }
+        }
+    }
+
+    private static class Replica {
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+
+        private Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package com.epam.esm.dao.warmup;
+
+public interface ConnectionPoolWarmer {
+    void warmUp();
+}
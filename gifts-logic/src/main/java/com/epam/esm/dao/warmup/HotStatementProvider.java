@@ -0,0 +1,10 @@
+package com.epam.esm.dao.warmup;
+
+import java.util.List;
+
+/**
+ * Lists the statements of a DAO that are worth preparing before the first request.
+ */
+public interface HotStatementProvider {
+    List<String> findHotStatements();
+}
@@ -0,0 +1,114 @@
+package com.epam.esm.dao.warmup.impl;
+
+import com.epam.esm.dao.routing.ReplicaRoutingDataSource;
+import com.epam.esm.dao.warmup.ConnectionPoolWarmer;
+import com.epam.esm.dao.warmup.HotStatementProvider;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens connections up to the minimum idle size of each pool, the primary and every replica, once the singletons
+ * of the context are created and prepares the hot statements on each of them, so the statement caches of the
+ * driver and the server are filled before the first request. The pools are taken directly, the routing would send
+ * every connection to the primary. The connections are held together, otherwise the pool would hand out the same
+ * one every time. A failed warm-up of a pool is logged and does not stop the start.
+ */
+@Component
+public class ConnectionPoolWarmerImpl implements ConnectionPoolWarmer, SmartInitializingSingleton {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionPoolWarmerImpl.class);
+    private static final int DEFAULT_CONNECTION_COUNT = 1;
+    private final DataSource primaryDataSource;
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final List<HotStatementProvider> hotStatementProviders;
+    private final boolean warmUpEnabled;
+    private final int connectionCount;
+
+    @Autowired
+    public ConnectionPoolWarmerImpl(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                    ReplicaRoutingDataSource replicaRoutingDataSource,
+                                    List<HotStatementProvider> hotStatementProviders,
+                                    @Value("${pool.warmup.enabled:false}") boolean warmUpEnabled,
+                                    @Value("${pool.warmup.connections:0}") int connectionCount) {
+        this.primaryDataSource = primaryDataSource;
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+        this.hotStatementProviders = hotStatementProviders;
+        this.warmUpEnabled = warmUpEnabled;
+        this.connectionCount = connectionCount;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (warmUpEnabled) {
+            warmUp();
+        }
+    }
+
+    @Override
+    public void warmUp() {
+        List<String> hotStatements = new ArrayList<>();
+        hotStatementProviders.forEach(provider -> hotStatements.addAll(provider.findHotStatements()));
+        warmUp(primaryDataSource, hotStatements);
+        for (DataSource replicaDataSource : replicaRoutingDataSource.getReplicaDataSources()) {
+            warmUp(replicaDataSource, hotStatements);
+        }
+    }
+
+    private void warmUp(DataSource pool, List<String> hotStatements) {
+        long startTime = System.nanoTime();
+        List<Connection> connections = new ArrayList<>();
+        try {
+            int warmedConnectionCount = findConnectionCount(pool);
+            while (connections.size() < warmedConnectionCount) {
+                Connection connection = pool.getConnection();
+                connections.add(connection);
+                for (String hotStatement : hotStatements) {
+                    prepare(connection, hotStatement);
+                }
+            }
+
+            LOGGER.info("Warmed up {} connections with {} statements in {} ms", new Object[]{connections.size(),
+                    hotStatements.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)});
+        } catch (SQLException e) {
+            LOGGER.warn("Connection pool warm-up stopped after " + connections.size() + " connections", e);
+        } finally {
+            connections.forEach(this::close);
+        }
+    }
+
+    private int findConnectionCount(DataSource pool) throws SQLException {
+        if (connectionCount > 0) {
+            return connectionCount;
+        }
+
+        return pool.isWrapperFor(HikariConfigMXBean.class)
+                ? Math.max(pool.unwrap(HikariConfigMXBean.class).getMinimumIdle(), DEFAULT_CONNECTION_COUNT)
+                : DEFAULT_CONNECTION_COUNT;
+    }
+
+    private void prepare(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.close();
+    }
+
+    private void close(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            LOGGER.warn("Could not return a warmed up connection", e);
+        }
+    }
+}
@@ -17,6 +17,7 @@ public class Certificate {
     private short duration;
     private LocalDateTime createDate;
     private LocalDateTime lastUpdateDate;
+    private long version;
     private List<Tag> tags;
 
     public Certificate() {
@@ -34,6 +35,13 @@ public class Certificate {
         this.tags = tags;
     }
 
+    public Certificate(Certificate certificate) {
+        this(certificate.id, certificate.name, certificate.description, certificate.price, certificate.duration,
+                certificate.createDate, certificate.lastUpdateDate, new ArrayList<>(certificate.tags.size()));
+        version = certificate.version;
+        certificate.tags.forEach(tag -> tags.add(new Tag(tag.getId(), tag.getName())));
+    }
+
     public long getId() {
         return id;
     }
@@ -92,6 +100,14 @@ public class Certificate {
         this.lastUpdateDate = lastUpdateDate;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public List<Tag> getTags() {
         return tags;
     }
@@ -112,12 +128,13 @@ public class Certificate {
                 Objects.equals(duration, that.duration) &&
                 Objects.equals(createDate, that.createDate) &&
                 Objects.equals(lastUpdateDate, that.lastUpdateDate) &&
+                version == that.version &&
                 Objects.equals(tags, that.tags);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, description, price, duration, createDate, lastUpdateDate, tags);
+        return Objects.hash(id, name, description, price, duration, createDate, lastUpdateDate, version, tags);
     }
 
     @Override
@@ -130,6 +147,7 @@ public class Certificate {
                 ", duration=" + duration + " days" +
                 ", createDate='" + createDate + '\'' +
                 ", lastUpdateDate='" + lastUpdateDate + '\'' +
+                ", version=" + version +
                 ", tags=" + tags +
                 '}';
     }
@@ -0,0 +1,83 @@
+package com.epam.esm.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class CertificateImportReport {
+    private int imported;
+    private int rejected;
+    private boolean complete;
+    private List<CertificateImportResult> results;
+
+    public CertificateImportReport() {
+        complete = true;
+        results = new ArrayList<>();
+    }
+
+    public CertificateImportReport(int imported, int rejected, boolean complete,
+                                   List<CertificateImportResult> results) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.complete = complete;
+        this.results = results;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public List<CertificateImportResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<CertificateImportResult> results) {
+        this.results = results;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificateImportReport that = (CertificateImportReport) o;
+        return imported == that.imported &&
+                rejected == that.rejected &&
+                complete == that.complete &&
+                Objects.equals(results, that.results);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(imported, rejected, complete, results);
+    }
+
+    @Override
+    public String toString() {
+        return "CertificateImportReport{" +
+                "imported=" + imported +
+                ", rejected=" + rejected +
+                ", complete=" + complete +
+                ", results=" + results +
+                '}';
+    }
+}
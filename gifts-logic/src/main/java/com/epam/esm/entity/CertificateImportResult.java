@@ -0,0 +1,90 @@
+package com.epam.esm.entity;
+
+import java.util.Objects;
+
+public class CertificateImportResult {
+    private int index;
+    private String name;
+    private CertificateImportStatus status;
+    private Long id;
+    private String cause;
+
+    public CertificateImportResult() {
+    }
+
+    public CertificateImportResult(int index, String name, CertificateImportStatus status, Long id, String cause) {
+        this.index = index;
+        this.name = name;
+        this.status = status;
+        this.id = id;
+        this.cause = cause;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public CertificateImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(CertificateImportStatus status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCause() {
+        return cause;
+    }
+
+    public void setCause(String cause) {
+        this.cause = cause;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificateImportResult that = (CertificateImportResult) o;
+        return index == that.index &&
+                Objects.equals(name, that.name) &&
+                status == that.status &&
+                Objects.equals(id, that.id) &&
+                Objects.equals(cause, that.cause);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(index, name, status, id, cause);
+    }
+
+    @Override
+    public String toString() {
+        return "CertificateImportResult{" +
+                "index=" + index +
+                ", name='" + name + '\'' +
+                ", status=" + status +
+                ", id=" + id +
+                ", cause='" + cause + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,9 @@
+package com.epam.esm.entity;
+
+public enum CertificateImportStatus {
+    IMPORTED,
+    INVALID,
+    DUPLICATE,
+    FAILED,
+    MALFORMED
+}
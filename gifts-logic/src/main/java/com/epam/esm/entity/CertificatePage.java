@@ -0,0 +1,57 @@
+package com.epam.esm.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class CertificatePage {
+    private List<Certificate> certificates;
+    private String nextCursor;
+
+    public CertificatePage() {
+        certificates = new ArrayList<>();
+    }
+
+    public CertificatePage(List<Certificate> certificates, String nextCursor) {
+        this.certificates = certificates;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<Certificate> getCertificates() {
+        return certificates;
+    }
+
+    public void setCertificates(List<Certificate> certificates) {
+        this.certificates = certificates;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificatePage that = (CertificatePage) o;
+        return Objects.equals(certificates, that.certificates) &&
+                Objects.equals(nextCursor, that.nextCursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(certificates, nextCursor);
+    }
+
+    @Override
+    public String toString() {
+        return "CertificatePage{" +
+                "certificates=" + certificates +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+package com.epam.esm.entity;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class TagCatalogVersion {
+    private long version;
+    private LocalDateTime lastUpdateDate;
+
+    public TagCatalogVersion() {
+    }
+
+    public TagCatalogVersion(long version, LocalDateTime lastUpdateDate) {
+        this.version = version;
+        this.lastUpdateDate = lastUpdateDate;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getLastUpdateDate() {
+        return lastUpdateDate;
+    }
+
+    public void setLastUpdateDate(LocalDateTime lastUpdateDate) {
+        this.lastUpdateDate = lastUpdateDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TagCatalogVersion that = (TagCatalogVersion) o;
+        return version == that.version &&
+                Objects.equals(lastUpdateDate, that.lastUpdateDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, lastUpdateDate);
+    }
+
+    @Override
+    public String toString() {
+        return "TagCatalogVersion{" +
+                "version=" + version +
+                ", lastUpdateDate=" + lastUpdateDate +
+                '}';
+    }
+}
@@ -1,20 +1,40 @@
 package com.epam.esm.service;
 
 import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.CertificateImportReport;
+import com.epam.esm.entity.CertificatePage;
+import com.epam.esm.service.version.EntityVersion;
 
+import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface CertificateService {
     Certificate addCertificate(Certificate certificate);
 
     List<Certificate> findAllCertificates(Map<String, String> parameters);
 
+    void findAllCertificates(Map<String, String> parameters, Consumer<Certificate> certificateConsumer);
+
+    void exportCertificates(LocalDateTime updatedAfter, long afterId, Consumer<Certificate> certificateConsumer);
+
+    CertificatePage findCertificatesPage(Map<String, String> parameters, int pageSize, String cursor);
+
     Certificate findCertificateById(long id);
 
+    EntityVersion findCertificateVersion(long id);
+
     Certificate updateCertificate(Certificate certificate);
 
+    Certificate updateCertificate(Certificate certificate, String ifMatch);
+
     boolean removeCertificateById(long id);
 
     Certificate patchCertificate(Certificate certificate);
+
+    Certificate patchCertificate(Certificate certificate, String ifMatch);
+
+    CertificateImportReport importCertificates(Iterator<Certificate> certificates);
 }
@@ -1,6 +1,7 @@
 package com.epam.esm.service;
 
 import com.epam.esm.entity.Tag;
+import com.epam.esm.service.version.EntityVersion;
 
 import java.util.List;
 
@@ -11,6 +12,10 @@ public interface TagService {
 
     Tag findTagById(long id);
 
+    EntityVersion findTagsVersion();
+
+    EntityVersion findTagVersion(long id);
+
     Tag findTagByName(String name);
 
     Tag updateTag(Tag tag);
@@ -18,4 +23,6 @@ public interface TagService {
     boolean removeTagById(long id);
 
     void addTagIfNotExists(Tag tag);
+
+    List<Tag> addTagsIfNotExist(List<Tag> tags);
 }
@@ -0,0 +1,64 @@
+package com.epam.esm.service.cache;
+
+import java.util.Objects;
+
+public class CacheStatistics {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long size;
+
+    public CacheStatistics(long hitCount, long missCount, long evictionCount, long size) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CacheStatistics that = (CacheStatistics) o;
+        return hitCount == that.hitCount &&
+                missCount == that.missCount &&
+                evictionCount == that.evictionCount &&
+                size == that.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hitCount, missCount, evictionCount, size);
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,17 @@
+package com.epam.esm.service.cache;
+
+import com.epam.esm.entity.Certificate;
+
+import java.util.Optional;
+
+public interface CertificateCache {
+    Optional<Certificate> findById(long id);
+
+    Optional<Certificate> findByName(String name);
+
+    void invalidate(long certificateId);
+
+    void invalidateAll();
+
+    CacheStatistics getStatistics();
+}
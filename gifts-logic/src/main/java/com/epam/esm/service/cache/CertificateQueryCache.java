@@ -0,0 +1,15 @@
+package com.epam.esm.service.cache;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.service.handler.CertificateSearchKey;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+public interface CertificateQueryCache {
+    List<Certificate> findAll(CertificateSearchKey searchKey, Supplier<List<Certificate>> loader);
+
+    void invalidateAll();
+
+    CacheStatistics getStatistics();
+}
@@ -0,0 +1,19 @@
+package com.epam.esm.service.cache;
+
+import com.epam.esm.entity.Tag;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface TagDictionary {
+    Optional<Tag> findById(long id);
+
+    Optional<Tag> findByName(String name);
+
+    List<Tag> findAllByNames(Collection<String> names);
+
+    List<Tag> findAll();
+
+    void reload();
+}
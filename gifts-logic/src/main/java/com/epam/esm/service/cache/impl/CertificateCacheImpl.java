@@ -0,0 +1,229 @@
+package com.epam.esm.service.cache.impl;
+
+import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.cache.CacheStatistics;
+import com.epam.esm.service.cache.CertificateCache;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import com.epam.esm.service.routing.ReplicaReadTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+@Component
+public class CertificateCacheImpl implements CertificateCache, CatalogChangeListener {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private final CertificateDao certificateDao;
+    private final ReplicaReadTracker replicaReadTracker;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> idsByName;
+    private final Map<Long, CacheEntry> entries;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+    private long invalidationCount;
+
+    @Autowired
+    public CertificateCacheImpl(CertificateDao certificateDao, ReplicaReadTracker replicaReadTracker,
+                                @Value("${cache.certificate.max.size:10000}") int maxSize,
+                                @Value("${cache.certificate.ttl.seconds:60}") long timeToLiveSeconds) {
+        this(certificateDao, replicaReadTracker, maxSize, TimeUnit.SECONDS.toNanos(timeToLiveSeconds),
+                System::nanoTime);
+    }
+
+    CertificateCacheImpl(CertificateDao certificateDao, ReplicaReadTracker replicaReadTracker, int maxSize,
+                         long timeToLiveNanos, LongSupplier nanoClock) {
+        this.certificateDao = certificateDao;
+        this.replicaReadTracker = replicaReadTracker;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.nanoClock = nanoClock;
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        evictionCount = new LongAdder();
+        idsByName = new HashMap<>();
+        entries = new LinkedHashMap<Long, CacheEntry>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry> eldestEntry) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+
+                idsByName.remove(eldestEntry.getValue().certificate.getName(), eldestEntry.getKey());
+                evictionCount.increment();
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public Optional<Certificate> findById(long id) {
+        Certificate cachedCertificate;
+        long loadInvalidationCount;
+        synchronized (entries) {
+            cachedCertificate = findActualCertificate(id);
+            loadInvalidationCount = invalidationCount;
+        }
+
+        if (cachedCertificate != null) {
+            hitCount.increment();
+            return Optional.of(copyCertificate(cachedCertificate));
+        }
+
+        missCount.increment();
+        return load(certificateDao.findById(id), loadInvalidationCount);
+    }
+
+    @Override
+    public Optional<Certificate> findByName(String name) {
+        Certificate cachedCertificate = null;
+        long loadInvalidationCount;
+        synchronized (entries) {
+            Long id = idsByName.get(name);
+            if (id != null) {
+                cachedCertificate = findActualCertificate(id);
+            }
+            loadInvalidationCount = invalidationCount;
+        }
+
+        if (cachedCertificate != null) {
+            hitCount.increment();
+            return Optional.of(copyCertificate(cachedCertificate));
+        }
+
+        missCount.increment();
+        return load(certificateDao.findByName(name), loadInvalidationCount);
+    }
+
+    @Override
+    public void invalidate(long certificateId) {
+        synchronized (entries) {
+            invalidationCount++;
+            CacheEntry removedEntry = entries.remove(certificateId);
+            if (removedEntry != null) {
+                idsByName.remove(removedEntry.certificate.getName(), certificateId);
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidationCount++;
+            entries.clear();
+            idsByName.clear();
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+
+    @Override
+    public void onCertificateSaved(Certificate certificate) {
+        invalidateChanged(Collections.singletonList(certificate.getId()));
+    }
+
+    @Override
+    public void onCertificateRemoved(long certificateId) {
+        invalidateChanged(Collections.singletonList(certificateId));
+    }
+
+    @Override
+    public void onTagUpdated(Tag previousTag, Tag updatedTag, List<Long> certificateIds) {
+        invalidateChanged(certificateIds);
+    }
+
+    @Override
+    public void onTagRemoved(Tag removedTag, List<Long> certificateIds) {
+        invalidateChanged(certificateIds);
+    }
+
+    /**
+     * Another thread may load and cache the old row before the running transaction is committed, so the changed
+     * certificates are invalidated once more when it is finished.
+     */
+    private void invalidateChanged(List<Long> certificateIds) {
+        certificateIds.forEach(this::invalidate);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    certificateIds.forEach(CertificateCacheImpl.this::invalidate);
+                }
+            });
+        }
+    }
+
+    private Certificate findActualCertificate(long id) {
+        CacheEntry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+
+        if (nanoClock.getAsLong() - entry.expirationTime >= 0) {
+            entries.remove(id);
+            idsByName.remove(entry.certificate.getName(), id);
+            evictionCount.increment();
+            return null;
+        }
+
+        return entry.certificate;
+    }
+
+    /**
+     * A certificate loaded while some invalidation happened or read from a replica may be already stale, so it is
+     * returned but not cached.
+     */
+    private Optional<Certificate> load(Optional<Certificate> loadedCertificate, long loadInvalidationCount) {
+        if (replicaReadTracker.isReplicaRead()) {
+            return loadedCertificate;
+        }
+
+        loadedCertificate.ifPresent(certificate -> {
+            synchronized (entries) {
+                if (invalidationCount == loadInvalidationCount) {
+                    entries.put(certificate.getId(), new CacheEntry(copyCertificate(certificate),
+                            nanoClock.getAsLong() + timeToLiveNanos));
+                    idsByName.put(certificate.getName(), certificate.getId());
+                }
+            }
+        });
+
+        return loadedCertificate;
+    }
+
+    private Certificate copyCertificate(Certificate certificate) {
+        return new Certificate(certificate);
+    }
+
+    private static class CacheEntry {
+        private final Certificate certificate;
+        private final long expirationTime;
+
+        private CacheEntry(Certificate certificate, long expirationTime) {
+            this.certificate = certificate;
+            this.expirationTime = expirationTime;
+        }
+    }
+}
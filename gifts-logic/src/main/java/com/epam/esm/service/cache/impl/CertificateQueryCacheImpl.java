@@ -0,0 +1,180 @@
+package com.epam.esm.service.cache.impl;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.cache.CacheStatistics;
+import com.epam.esm.service.cache.CertificateQueryCache;
+import com.epam.esm.service.handler.CertificateSearchKey;
+import com.epam.esm.service.routing.ReplicaReadTracker;
+import com.epam.esm.service.version.CatalogVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps search results until anything in the catalog changes. The results are limited by their estimated size in
+ * memory, the least recently used ones are evicted first. Results read from a replica are not kept, the replica may
+ * lag behind the changes that cleared the cache.
+ */
+@Component
+public class CertificateQueryCacheImpl implements CertificateQueryCache {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final long ENTRY_WEIGHT = 96;
+    private static final long REFERENCE_WEIGHT = 8;
+    private static final long CERTIFICATE_WEIGHT = 240;
+    private static final long TAG_WEIGHT = 32;
+    private static final long STRING_WEIGHT = 40;
+    private static final long CHAR_WEIGHT = 2;
+    private final CatalogVersion catalogVersion;
+    private final ReplicaReadTracker replicaReadTracker;
+    private final long maxWeight;
+    private final Map<CertificateSearchKey, CacheEntry> entries;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+    private long entriesGeneration;
+    private long weight;
+
+    @Autowired
+    public CertificateQueryCacheImpl(CatalogVersion catalogVersion, ReplicaReadTracker replicaReadTracker,
+                                     @Value("${cache.certificate.query.max.weight.bytes:16777216}") long maxWeight) {
+        this.catalogVersion = catalogVersion;
+        this.replicaReadTracker = replicaReadTracker;
+        this.maxWeight = maxWeight;
+        entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+        hitCount = new LongAdder();
+        missCount = new LongAdder();
+        evictionCount = new LongAdder();
+    }
+
+    @Override
+    public List<Certificate> findAll(CertificateSearchKey searchKey, Supplier<List<Certificate>> loader) {
+        long generation = catalogVersion.getCatalogGeneration();
+        CacheEntry entry;
+        synchronized (entries) {
+            advanceGeneration(generation);
+            entry = entriesGeneration == generation ? entries.get(searchKey) : null;
+        }
+
+        if (entry != null) {
+            hitCount.increment();
+            return copyCertificates(entry.certificates);
+        }
+
+        missCount.increment();
+        List<Certificate> certificates = loader.get();
+        if (replicaReadTracker.isReplicaRead()) {
+            return certificates;
+        }
+
+        long entryWeight = weigh(searchKey, certificates);
+        if (entryWeight <= maxWeight) {
+            put(searchKey, new CacheEntry(copyCertificates(certificates), entryWeight), generation);
+        }
+
+        return certificates;
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+
+        return new CacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.sum(), size);
+    }
+
+    long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * A result loaded while the catalog was changed belongs to the previous generation and is not cached.
+     */
+    private void put(CertificateSearchKey searchKey, CacheEntry entry, long generation) {
+        synchronized (entries) {
+            advanceGeneration(catalogVersion.getCatalogGeneration());
+            if (entriesGeneration != generation) {
+                return;
+            }
+
+            CacheEntry replacedEntry = entries.put(searchKey, entry);
+            if (replacedEntry != null) {
+                weight -= replacedEntry.weight;
+            }
+
+            weight += entry.weight;
+            Iterator<CacheEntry> eldestEntries = entries.values().iterator();
+            while (weight > maxWeight) {
+                weight -= eldestEntries.next().weight;
+                eldestEntries.remove();
+                evictionCount.increment();
+            }
+        }
+    }
+
+    private void advanceGeneration(long generation) {
+        if (generation > entriesGeneration) {
+            entries.clear();
+            weight = 0;
+            entriesGeneration = generation;
+        }
+    }
+
+    private long weigh(CertificateSearchKey searchKey, List<Certificate> certificates) {
+        long entryWeight = ENTRY_WEIGHT + weigh(searchKey.getLength());
+        for (Certificate certificate : certificates) {
+            entryWeight += REFERENCE_WEIGHT + CERTIFICATE_WEIGHT + weigh(certificate.getName())
+                    + weigh(certificate.getDescription());
+            for (Tag tag : certificate.getTags()) {
+                entryWeight += REFERENCE_WEIGHT + TAG_WEIGHT + weigh(tag.getName());
+            }
+        }
+
+        return entryWeight;
+    }
+
+    private long weigh(String value) {
+        return value != null ? weigh(value.length()) : 0;
+    }
+
+    private long weigh(int length) {
+        return STRING_WEIGHT + CHAR_WEIGHT * length;
+    }
+
+    private List<Certificate> copyCertificates(List<Certificate> certificates) {
+        return certificates.stream()
+                .map(Certificate::new)
+                .collect(Collectors.toList());
+    }
+
+    private static class CacheEntry {
+        private final List<Certificate> certificates;
+        private final long weight;
+
+        private CacheEntry(List<Certificate> certificates, long weight) {
+            this.certificates = certificates;
+            this.weight = weight;
+        }
+    }
+}
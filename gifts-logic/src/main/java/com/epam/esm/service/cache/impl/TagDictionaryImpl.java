@@ -0,0 +1,187 @@
+package com.epam.esm.service.cache.impl;
+
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.cache.TagDictionary;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Keeps the whole tag table in memory. Readers work with an immutable snapshot, writers replace it once their
+ * transaction is committed. Until then the changes are seen only by the transaction that made them.
+ */
+@Component
+public class TagDictionaryImpl implements TagDictionary, CatalogChangeListener, InitializingBean {
+    private final TagDao tagDao;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public TagDictionaryImpl(TagDao tagDao) {
+        this.tagDao = tagDao;
+        snapshot = new Snapshot(new TreeMap<>(), new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        reload();
+    }
+
+    @Override
+    public void reload() {
+        List<Tag> tags = tagDao.findAll();
+        synchronized (this) {
+            Snapshot loadedSnapshot = new Snapshot(new TreeMap<>(), new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+            tags.forEach(loadedSnapshot::put);
+            snapshot = loadedSnapshot;
+        }
+    }
+
+    @Override
+    public Optional<Tag> findById(long id) {
+        return Optional.ofNullable(findSnapshot().tagsById.get(id)).map(this::copyTag);
+    }
+
+    @Override
+    public Optional<Tag> findByName(String name) {
+        return name != null
+                ? Optional.ofNullable(findSnapshot().tagsByName.get(name)).map(this::copyTag)
+                : Optional.empty();
+    }
+
+    @Override
+    public List<Tag> findAllByNames(Collection<String> names) {
+        Snapshot currentSnapshot = findSnapshot();
+        List<Tag> tags = new ArrayList<>();
+        for (String name : names) {
+            Tag tag = name != null ? currentSnapshot.tagsByName.get(name) : null;
+            if (tag != null) {
+                tags.add(copyTag(tag));
+            }
+        }
+
+        return tags;
+    }
+
+    @Override
+    public List<Tag> findAll() {
+        List<Tag> tags = new ArrayList<>();
+        findSnapshot().tagsById.values().forEach(tag -> tags.add(copyTag(tag)));
+        return tags;
+    }
+
+    @Override
+    public void onTagAdded(Tag tag) {
+        modify(modifiedSnapshot -> modifiedSnapshot.put(tag));
+    }
+
+    @Override
+    public void onTagUpdated(Tag previousTag, Tag updatedTag, List<Long> certificateIds) {
+        modify(modifiedSnapshot -> {
+            modifiedSnapshot.remove(previousTag);
+            modifiedSnapshot.put(updatedTag);
+        });
+    }
+
+    @Override
+    public void onTagRemoved(Tag removedTag, List<Long> certificateIds) {
+        modify(modifiedSnapshot -> modifiedSnapshot.remove(removedTag));
+    }
+
+    /**
+     * Inside a transaction the changes are collected in a copy of the dictionary bound to it and applied to the
+     * shared one after the commit, a rolled back transaction just drops the copy.
+     */
+    private void modify(Consumer<Snapshot> modification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(Collections.singletonList(modification));
+            return;
+        }
+
+        PendingChanges pendingChanges = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pendingChanges == null) {
+            PendingChanges transactionChanges = new PendingChanges(snapshot.copy());
+            TransactionSynchronizationManager.bindResource(this, transactionChanges);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(transactionChanges.modifications);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TagDictionaryImpl.this);
+                }
+            });
+            pendingChanges = transactionChanges;
+        }
+
+        modification.accept(pendingChanges.snapshot);
+        pendingChanges.modifications.add(modification);
+    }
+
+    private synchronized void apply(List<Consumer<Snapshot>> modifications) {
+        Snapshot modifiedSnapshot = snapshot.copy();
+        modifications.forEach(modification -> modification.accept(modifiedSnapshot));
+        snapshot = modifiedSnapshot;
+    }
+
+    private Snapshot findSnapshot() {
+        PendingChanges pendingChanges = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        return pendingChanges != null ? pendingChanges.snapshot : snapshot;
+    }
+
+    private Tag copyTag(Tag tag) {
+        return new Tag(tag.getId(), tag.getName());
+    }
+
+    private static class PendingChanges {
+        private final Snapshot snapshot;
+        private final List<Consumer<Snapshot>> modifications;
+
+        private PendingChanges(Snapshot snapshot) {
+            this.snapshot = snapshot;
+            this.modifications = new ArrayList<>();
+        }
+    }
+
+    private static class Snapshot {
+        private final TreeMap<Long, Tag> tagsById;
+        private final TreeMap<String, Tag> tagsByName;
+
+        private Snapshot(TreeMap<Long, Tag> tagsById, TreeMap<String, Tag> tagsByName) {
+            this.tagsById = tagsById;
+            this.tagsByName = tagsByName;
+        }
+
+        private Snapshot copy() {
+            return new Snapshot(new TreeMap<>(tagsById), new TreeMap<>(tagsByName));
+        }
+
+        private void put(Tag tag) {
+            Tag storedTag = new Tag(tag.getId(), tag.getName());
+            tagsById.put(storedTag.getId(), storedTag);
+            if (storedTag.getName() != null) {
+                tagsByName.put(storedTag.getName(), storedTag);
+            }
+        }
+
+        private void remove(Tag tag) {
+            Tag removedTag = tagsById.remove(tag.getId());
+            if (removedTag != null && removedTag.getName() != null) {
+                tagsByName.remove(removedTag.getName(), removedTag);
+            }
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.epam.esm.service.checker.impl;
 
-import com.epam.esm.dao.CertificateDao;
 import com.epam.esm.entity.Certificate;
+import com.epam.esm.service.cache.CertificateCache;
 import com.epam.esm.service.checker.CertificateDuplicationChecker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -10,21 +10,21 @@ import java.util.Optional;
 
 @Component
 public class CertificateDuplicationCheckerImpl implements CertificateDuplicationChecker {
-    private final CertificateDao certificateDao;
+    private final CertificateCache certificateCache;
 
     @Autowired
-    public CertificateDuplicationCheckerImpl(CertificateDao certificateDao) {
-        this.certificateDao = certificateDao;
+    public CertificateDuplicationCheckerImpl(CertificateCache certificateCache) {
+        this.certificateCache = certificateCache;
     }
 
     @Override
     public boolean checkCertificateForAddingDuplication(Certificate certificate) {
-        return !certificateDao.findByName(certificate.getName()).isPresent();
+        return !certificateCache.findByName(certificate.getName()).isPresent();
     }
 
     @Override
     public boolean checkCertificateForUpdatingDuplication(Certificate certificate) {
-        Optional<Certificate> updatingCertificate = certificateDao.findByName(certificate.getName());
+        Optional<Certificate> updatingCertificate = certificateCache.findByName(certificate.getName());
         return !updatingCertificate.isPresent() || updatingCertificate.get().getId() == certificate.getId();
     }
 }
@@ -1,7 +1,7 @@
 package com.epam.esm.service.checker.impl;
 
-import com.epam.esm.dao.TagDao;
 import com.epam.esm.entity.Tag;
+import com.epam.esm.service.cache.TagDictionary;
 import com.epam.esm.service.checker.TagDuplicationChecker;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -10,16 +10,16 @@ import java.util.Optional;
 
 @Component
 public class TagDuplicationCheckerImpl implements TagDuplicationChecker {
-    private final TagDao tagDao;
+    private final TagDictionary tagDictionary;
 
     @Autowired
-    public TagDuplicationCheckerImpl(TagDao tagDao) {
-        this.tagDao = tagDao;
+    public TagDuplicationCheckerImpl(TagDictionary tagDictionary) {
+        this.tagDictionary = tagDictionary;
     }
 
     @Override
     public boolean checkTagForDuplication(Tag tag) {
-        Optional<Tag> duplicationTag = tagDao.findByName(tag.getName());
+        Optional<Tag> duplicationTag = tagDictionary.findByName(tag.getName());
 
         return !duplicationTag.isPresent() || duplicationTag.get().getId() == tag.getId();
     }
@@ -0,0 +1,56 @@
+package com.epam.esm.service.coalescer;
+
+import java.util.Objects;
+
+public class CoalescingStatistics {
+    private final long executionCount;
+    private final long coalescedCount;
+    private final long inFlightCount;
+
+    public CoalescingStatistics(long executionCount, long coalescedCount, long inFlightCount) {
+        this.executionCount = executionCount;
+        this.coalescedCount = coalescedCount;
+        this.inFlightCount = inFlightCount;
+    }
+
+    public long getExecutionCount() {
+        return executionCount;
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    public long getInFlightCount() {
+        return inFlightCount;
+    }
+
+    public double getCoalescedRate() {
+        long requestCount = executionCount + coalescedCount;
+        return requestCount == 0 ? 0 : (double) coalescedCount / requestCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CoalescingStatistics that = (CoalescingStatistics) o;
+        return executionCount == that.executionCount &&
+                coalescedCount == that.coalescedCount &&
+                inFlightCount == that.inFlightCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(executionCount, coalescedCount, inFlightCount);
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingStatistics{" +
+                "executionCount=" + executionCount +
+                ", coalescedCount=" + coalescedCount +
+                ", inFlightCount=" + inFlightCount +
+                '}';
+    }
+}
@@ -0,0 +1,10 @@
+package com.epam.esm.service.coalescer;
+
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public interface RequestCoalescer {
+    <T> T execute(Object key, Supplier<T> computation, UnaryOperator<T> copier);
+
+    CoalescingStatistics getStatistics();
+}
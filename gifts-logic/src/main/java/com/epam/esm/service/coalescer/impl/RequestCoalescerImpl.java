@@ -0,0 +1,92 @@
+package com.epam.esm.service.coalescer.impl;
+
+import com.epam.esm.service.coalescer.CoalescingStatistics;
+import com.epam.esm.service.coalescer.RequestCoalescer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Lets concurrent calls with equal keys share one computation. The first caller computes the result, the callers
+ * that come while it is running wait for it and get their own copies.
+ */
+@Component
+public class RequestCoalescerImpl implements RequestCoalescer {
+    private final Map<Object, Call> calls;
+    private final LongAdder executionCount;
+    private final LongAdder coalescedCount;
+
+    public RequestCoalescerImpl() {
+        calls = new ConcurrentHashMap<>();
+        executionCount = new LongAdder();
+        coalescedCount = new LongAdder();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object key, Supplier<T> computation, UnaryOperator<T> copier) {
+        Call newCall = new Call();
+        Call call = calls.compute(key, (callKey, runningCall) -> {
+            if (runningCall == null) {
+                return newCall;
+            }
+
+            runningCall.followerCount++;
+            return runningCall;
+        });
+
+        if (call != newCall) {
+            coalescedCount.increment();
+            return copier.apply((T) awaitResult(call));
+        }
+
+        executionCount.increment();
+        T result;
+        try {
+            result = computation.get();
+        } catch (RuntimeException | Error e) {
+            calls.remove(key, newCall);
+            newCall.result.completeExceptionally(e);
+            throw e;
+        }
+
+        calls.remove(key, newCall);
+        newCall.result.complete(result);
+        return newCall.followerCount == 0 ? result : copier.apply(result);
+    }
+
+    @Override
+    public CoalescingStatistics getStatistics() {
+        return new CoalescingStatistics(executionCount.sum(), coalescedCount.sum(), calls.size());
+    }
+
+    private Object awaitResult(Call call) {
+        try {
+            return call.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Followers are counted inside the map operations, so the count is final once the call is removed from the map.
+     */
+    private static class Call {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private int followerCount;
+    }
+}
@@ -0,0 +1,22 @@
+package com.epam.esm.service.exception;
+
+public class CertificateVersionMismatchException extends ServiceException {
+    public CertificateVersionMismatchException() {
+    }
+
+    public CertificateVersionMismatchException(String message) {
+        super(message);
+    }
+
+    public CertificateVersionMismatchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public CertificateVersionMismatchException(Throwable cause) {
+        super(cause);
+    }
+
+    public CertificateVersionMismatchException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,22 @@
+package com.epam.esm.service.exception;
+
+public class ConcurrentCertificateUpdateException extends ServiceException {
+    public ConcurrentCertificateUpdateException() {
+    }
+
+    public ConcurrentCertificateUpdateException(String message) {
+        super(message);
+    }
+
+    public ConcurrentCertificateUpdateException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public ConcurrentCertificateUpdateException(Throwable cause) {
+        super(cause);
+    }
+
+    public ConcurrentCertificateUpdateException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
@@ -0,0 +1,22 @@
+package com.epam.esm.service.exception;
+
+public class InvalidExportParameterException extends ServiceException {
+    public InvalidExportParameterException() {
+    }
+
+    public InvalidExportParameterException(String message) {
+        super(message);
+    }
+
+    public InvalidExportParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidExportParameterException(Throwable cause) {
+        super(cause);
+    }
+
+    public InvalidExportParameterException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
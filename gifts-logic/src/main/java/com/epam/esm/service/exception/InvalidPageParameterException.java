@@ -0,0 +1,22 @@
+package com.epam.esm.service.exception;
+
+public class InvalidPageParameterException extends ServiceException {
+    public InvalidPageParameterException() {
+    }
+
+    public InvalidPageParameterException(String message) {
+        super(message);
+    }
+
+    public InvalidPageParameterException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public InvalidPageParameterException(Throwable cause) {
+        super(cause);
+    }
+
+    public InvalidPageParameterException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
+}
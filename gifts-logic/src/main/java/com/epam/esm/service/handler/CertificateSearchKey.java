@@ -0,0 +1,86 @@
+package com.epam.esm.service.handler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Canonical form of the handler parameters. Names and values are compared regardless of case as the handlers do,
+ * filters regardless of their order, while sorting handlers keep it.
+ */
+public class CertificateSearchKey {
+    private static final String VALUE_SEPARATOR = "=";
+    private final List<String> filters;
+    private final List<String> sortings;
+
+    private CertificateSearchKey(List<String> filters, List<String> sortings) {
+        this.filters = filters;
+        this.sortings = sortings;
+    }
+
+    public static CertificateSearchKey of(Map<String, String> handleParameters) {
+        List<String> filters = new ArrayList<>();
+        List<String> sortings = new ArrayList<>();
+        if (handleParameters != null) {
+            for (Map.Entry<String, String> parametersEntry : handleParameters.entrySet()) {
+                CertificatesHandler handler = CertificatesHandler.findHandlerByName(parametersEntry.getKey());
+                String handlerValue = handler.name() + VALUE_SEPARATOR
+                        + String.valueOf(parametersEntry.getValue()).toUpperCase(Locale.ROOT);
+                if (handler.isSorting()) {
+                    sortings.add(handlerValue);
+                } else {
+                    filters.add(handlerValue);
+                }
+            }
+        }
+
+        Collections.sort(filters);
+        return new CertificateSearchKey(filters, sortings);
+    }
+
+    public List<String> getFilters() {
+        return Collections.unmodifiableList(filters);
+    }
+
+    public List<String> getSortings() {
+        return Collections.unmodifiableList(sortings);
+    }
+
+    public int getLength() {
+        int length = 0;
+        for (String filter : filters) {
+            length += filter.length();
+        }
+
+        for (String sorting : sortings) {
+            length += sorting.length();
+        }
+
+        return length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificateSearchKey that = (CertificateSearchKey) o;
+        return filters.equals(that.filters) &&
+                sortings.equals(that.sortings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filters, sortings);
+    }
+
+    @Override
+    public String toString() {
+        return "CertificateSearchKey{" +
+                "filters=" + filters +
+                ", sortings=" + sortings +
+                '}';
+    }
+}
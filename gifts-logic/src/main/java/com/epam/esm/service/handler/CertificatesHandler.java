@@ -1,12 +1,19 @@
 package com.epam.esm.service.handler;
 
+import com.epam.esm.dao.query.CertificateQueryBuilder;
+import com.epam.esm.dao.query.CertificateSortField;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.service.exception.InvalidSortParameterException;
+import com.epam.esm.service.index.CertificateIdSet;
+import com.epam.esm.service.index.CertificateTextIndex;
+import com.epam.esm.service.index.TagIndex;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public enum CertificatesHandler {
@@ -14,38 +21,118 @@ public enum CertificatesHandler {
         @Override
         public List<Certificate> handle(List<Certificate> certificateList, String parameter) {
             return certificateList.stream()
-                    .filter(currentCertificate -> currentCertificate.getTags().stream()
-                            .anyMatch(tag -> tag.getName().toUpperCase().equals(parameter.toUpperCase())))
+                    .filter(currentCertificate -> hasTag(currentCertificate, parameter))
                     .collect(Collectors.toList());
         }
+
+        @Override
+        public void applyToQuery(CertificateQueryBuilder queryBuilder, String parameter) {
+            queryBuilder.withTagName(parameter);
+        }
+
+        @Override
+        public Optional<CertificateIdSet> selectFromIndex(TagIndex tagIndex, String parameter) {
+            return Optional.of(tagIndex.findByTagName(parameter));
+        }
+    },
+    FIND_BY_ALL_TAG_NAMES("tagNames") {
+        @Override
+        public List<Certificate> handle(List<Certificate> certificateList, String parameter) {
+            List<String> tagNames = parseTagNames(parameter);
+            return certificateList.stream()
+                    .filter(currentCertificate -> tagNames.stream()
+                            .allMatch(tagName -> hasTag(currentCertificate, tagName)))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void applyToQuery(CertificateQueryBuilder queryBuilder, String parameter) {
+            queryBuilder.withAllTagNames(parseTagNames(parameter));
+        }
+
+        @Override
+        public Optional<CertificateIdSet> selectFromIndex(TagIndex tagIndex, String parameter) {
+            return Optional.of(tagIndex.findByAllTagNames(parseTagNames(parameter)));
+        }
+    },
+    FIND_BY_ANY_TAG_NAME("anyTagNames") {
+        @Override
+        public List<Certificate> handle(List<Certificate> certificateList, String parameter) {
+            List<String> tagNames = parseTagNames(parameter);
+            return certificateList.stream()
+                    .filter(currentCertificate -> tagNames.stream()
+                            .anyMatch(tagName -> hasTag(currentCertificate, tagName)))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public void applyToQuery(CertificateQueryBuilder queryBuilder, String parameter) {
+            queryBuilder.withAnyTagName(parseTagNames(parameter));
+        }
+
+        @Override
+        public Optional<CertificateIdSet> selectFromIndex(TagIndex tagIndex, String parameter) {
+            return Optional.of(tagIndex.findByAnyTagName(parseTagNames(parameter)));
+        }
     },
     FIND_BY_NAME_PART("namePart") {
         @Override
         public List<Certificate> handle(List<Certificate> certificateList, String parameter) {
             return certificateList.stream()
                     .filter(currentCertificate -> currentCertificate.getName()
-                            .toUpperCase().contains(parameter.toUpperCase()))
+                            .toUpperCase(Locale.ROOT).contains(parameter.toUpperCase(Locale.ROOT)))
                     .collect(Collectors.toList());
         }
+
+        @Override
+        public void applyToQuery(CertificateQueryBuilder queryBuilder, String parameter) {
+            queryBuilder.withNamePart(parameter);
+        }
+
+        @Override
+        public Optional<CertificateIdSet> narrowByTextIndex(CertificateTextIndex textIndex, String parameter) {
+            return textIndex.findCandidatesByNamePart(parameter);
+        }
     },
     FIND_BY_DESCRIPTION_PART("descriptionPart") {
         @Override
         public List<Certificate> handle(List<Certificate> certificateList, String parameter) {
             return certificateList.stream()
                     .filter(currentCertificate -> currentCertificate.getDescription()
-                            .toUpperCase().contains(parameter.toUpperCase()))
+                            .toUpperCase(Locale.ROOT).contains(parameter.toUpperCase(Locale.ROOT)))
                     .collect(Collectors.toList());
         }
+
+        @Override
+        public void applyToQuery(CertificateQueryBuilder queryBuilder, String parameter) {
+            queryBuilder.withDescriptionPart(parameter);
+        }
+
+        @Override
+        public Optional<CertificateIdSet> narrowByTextIndex(CertificateTextIndex textIndex, String parameter) {
+            return textIndex.findCandidatesByDescriptionPart(parameter);
+        }
     },
     SORT_BY_NAME("nameSort") {
         @Override
         public List<Certificate> handle(List<Certificate> certificateList, String parameter) {
             List<Certificate> handledList = certificateList.stream()
-                    .sorted(Comparator.comparing(firstCertificate -> firstCertificate.getName().toUpperCase()))
+                    .sorted(Comparator.comparing(firstCertificate -> firstCertificate.getName()
+                            .toUpperCase(Locale.ROOT)))
                     .collect(Collectors.toList());
 
             return defineListOrder(handledList, parameter);
         }
+
+        @Override
+        public boolean isSorting() {
+            return true;
+        }
+
+        @Override
+        public void applyToQuery(CertificateQueryBuilder queryBuilder, String parameter) {
+            queryBuilder.sortBy(CertificateSortField.NAME, isAscendingOrder(parameter));
+        }
     },
     SORT_BY_CREATE_DATE("createDateSort") {
         @Override
@@ -56,6 +143,16 @@ public enum CertificatesHandler {
 
            return defineListOrder(handledList, parameter);
         }
+
+        @Override
+        public boolean isSorting() {
+            return true;
+        }
+
+        @Override
+        public void applyToQuery(CertificateQueryBuilder queryBuilder, String parameter) {
+            queryBuilder.sortBy(CertificateSortField.CREATE_DATE, isAscendingOrder(parameter));
+        }
     },
     SORT_BY_LAST_UPDATE_DATE("lastUpdateDateSort") {
         @Override
@@ -66,8 +163,19 @@ public enum CertificatesHandler {
 
             return defineListOrder(handledList, parameter);
         }
+
+        @Override
+        public boolean isSorting() {
+            return true;
+        }
+
+        @Override
+        public void applyToQuery(CertificateQueryBuilder queryBuilder, String parameter) {
+            queryBuilder.sortBy(CertificateSortField.LAST_UPDATE_DATE, isAscendingOrder(parameter));
+        }
     };
 
+    private static final String TAG_NAMES_SEPARATOR = ",";
     private static final String ASC_PARAMETER = "ASC";
     private static final String DESC_PARAMETER = "DESC";
     private static final String INVALID_HANDLER_MESSAGE = "invalid.handler";
@@ -84,23 +192,68 @@ public enum CertificatesHandler {
 
     public abstract List<Certificate> handle(List<Certificate> certificateList, String searchParameter);
 
+    public abstract void applyToQuery(CertificateQueryBuilder queryBuilder, String searchParameter);
+
+    /**
+     * Sorting handlers depend on the order they are applied in, filters do not.
+     */
+    public boolean isSorting() {
+        return false;
+    }
+
+    /**
+     * Tag filters are answered by the tag index, the result is empty for the other handlers.
+     */
+    public Optional<CertificateIdSet> selectFromIndex(TagIndex tagIndex, String searchParameter) {
+        return Optional.empty();
+    }
+
+    /**
+     * Text filters may narrow the candidates through the text index, the query still has to verify them.
+     */
+    public Optional<CertificateIdSet> narrowByTextIndex(CertificateTextIndex textIndex, String searchParameter) {
+        return Optional.empty();
+    }
+
     public static CertificatesHandler findHandlerByName(String handlerTypeName) {
         return Arrays.stream(values())
                 .filter(certificatesSortHandler -> certificatesSortHandler.getHandlerName()
-                        .toUpperCase().equals(handlerTypeName.toUpperCase()))
+                        .toUpperCase(Locale.ROOT).equals(handlerTypeName.toUpperCase(Locale.ROOT)))
                 .findFirst()
                 .orElseThrow(() -> new InvalidSortParameterException(INVALID_HANDLER_MESSAGE));
     }
 
+    private static boolean hasTag(Certificate certificate, String tagName) {
+        return certificate.getTags().stream()
+                .anyMatch(tag -> tag.getName().equalsIgnoreCase(tagName));
+    }
+
+    private static List<String> parseTagNames(String parameter) {
+        List<String> tagNames = Arrays.stream(parameter.split(TAG_NAMES_SEPARATOR))
+                .map(String::trim)
+                .filter(tagName -> !tagName.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        if (tagNames.isEmpty()) {
+            throw new InvalidSortParameterException(INVALID_HANDLER_MESSAGE);
+        }
+
+        return tagNames;
+    }
+
     private static List<Certificate> defineListOrder(List<Certificate> certificateList, String orderParameter) {
-        String parameterInUpperCase = orderParameter.toUpperCase();
+       return isAscendingOrder(orderParameter)
+               ? certificateList
+               : invertCertificateList(certificateList);
+    }
+
+    private static boolean isAscendingOrder(String orderParameter) {
+        String parameterInUpperCase = orderParameter.toUpperCase(Locale.ROOT);
         if (!parameterInUpperCase.equals(ASC_PARAMETER) && !parameterInUpperCase.equals(DESC_PARAMETER)) {
             throw new InvalidSortParameterException(INVALID_SORT_PARAMETER_MESSAGE);
         }
 
-       return orderParameter.toUpperCase().equals(ASC_PARAMETER)
-               ? certificateList
-               : invertCertificateList(certificateList);
+        return parameterInUpperCase.equals(ASC_PARAMETER);
     }
 
     private static List<Certificate> invertCertificateList(List<Certificate> certificateList) {
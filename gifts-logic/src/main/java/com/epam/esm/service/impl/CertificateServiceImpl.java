@@ -1,44 +1,112 @@
 package com.epam.esm.service.impl;
 
 import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.dao.query.CertificateCursor;
+import com.epam.esm.dao.query.CertificateQueryBuilder;
+import com.epam.esm.dao.query.CertificateSortField;
+import com.epam.esm.dao.query.CertificateSortOrder;
 import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.CertificateImportReport;
+import com.epam.esm.entity.CertificatePage;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.service.CertificateService;
 import com.epam.esm.service.TagService;
+import com.epam.esm.service.cache.CertificateCache;
+import com.epam.esm.service.cache.CertificateQueryCache;
 import com.epam.esm.service.checker.CertificateDuplicationChecker;
+import com.epam.esm.service.coalescer.RequestCoalescer;
 import com.epam.esm.service.collector.CertificateFullDataCollector;
+import com.epam.esm.service.exception.CertificateVersionMismatchException;
+import com.epam.esm.service.exception.ConcurrentCertificateUpdateException;
 import com.epam.esm.service.exception.DuplicateCertificateException;
+import com.epam.esm.service.exception.InvalidPageParameterException;
 import com.epam.esm.service.exception.UnknownCertificateException;
+import com.epam.esm.service.handler.CertificateSearchKey;
 import com.epam.esm.service.handler.CertificatesHandler;
+import com.epam.esm.service.importer.CertificateImporter;
+import com.epam.esm.service.index.CertificateIdSet;
+import com.epam.esm.service.index.CertificateTextIndex;
+import com.epam.esm.service.index.TagIndex;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import com.epam.esm.service.metric.LatencyTimer;
+import com.epam.esm.service.metric.MetricRegistry;
+import com.epam.esm.service.routing.RecentWriteTracker;
 import com.epam.esm.service.validator.CertificateValidator;
+import com.epam.esm.service.version.CatalogVersion;
+import com.epam.esm.service.version.EntityVersion;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 public class CertificateServiceImpl implements CertificateService {
     private static final String NONEXISTENT_CERTIFICATE_MESSAGE = "nonexistent.certificate";
     private static final String DUPLICATE_CERTIFICATE_MESSAGE = "duplicate.certificate";
+    private static final String CERTIFICATE_VERSION_MISMATCH_MESSAGE = "certificate.version.mismatch";
+    private static final String CONCURRENT_CERTIFICATE_UPDATE_MESSAGE = "concurrent.certificate.update";
+    private static final String INVALID_PAGE_PARAMETER_MESSAGE = "invalid.page.parameter";
+    private static final int MIN_PAGE_SIZE = 1;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_INDEXED_CERTIFICATE_IDS = 1000;
+    private static final String FIND_ALL_CERTIFICATES_KEY = "findAllCertificates";
+    private static final String FIND_CERTIFICATE_BY_ID_KEY = "findCertificateById";
+    private static final String HANDLER_METRIC = "gifts_handler";
+    private static final String HANDLER_METRIC_DESCRIPTION = "Certificates handler stage";
+    private static final String HANDLER_LABEL = "handler";
     private final CertificateDao certificateDao;
     private final TagService tagService;
     private final CertificateValidator certificateValidator;
     private final CertificateDuplicationChecker certificateDuplicationChecker;
     private final CertificateFullDataCollector certificateFullDataCollector;
+    private final CertificateCache certificateCache;
+    private final TagIndex tagIndex;
+    private final CertificateTextIndex certificateTextIndex;
+    private final CertificateImporter certificateImporter;
+    private final CatalogVersion catalogVersion;
+    private final RequestCoalescer requestCoalescer;
+    private final CertificateQueryCache certificateQueryCache;
+    private final RecentWriteTracker recentWriteTracker;
+    private final Map<CertificatesHandler, LatencyTimer> handlerTimers;
+    private final List<CatalogChangeListener> catalogChangeListeners;
+    private final boolean fullTextSearch;
 
     @Autowired
-    public CertificateServiceImpl(CertificateDao certificateDao, TagService tagService, CertificateValidator certificateValidator, CertificateDuplicationChecker certificateDuplicationChecker, CertificateFullDataCollector certificateFullDataCollector) {
+    public CertificateServiceImpl(CertificateDao certificateDao, TagService tagService, CertificateValidator certificateValidator, CertificateDuplicationChecker certificateDuplicationChecker, CertificateFullDataCollector certificateFullDataCollector, CertificateCache certificateCache, TagIndex tagIndex, CertificateTextIndex certificateTextIndex, CertificateImporter certificateImporter, CatalogVersion catalogVersion, RequestCoalescer requestCoalescer, CertificateQueryCache certificateQueryCache, RecentWriteTracker recentWriteTracker, MetricRegistry metricRegistry, List<CatalogChangeListener> catalogChangeListeners, @Value("${search.description.fulltext.enabled:false}") boolean fullTextSearch) {
         this.certificateDao = certificateDao;
         this.tagService = tagService;
         this.certificateValidator = certificateValidator;
         this.certificateDuplicationChecker = certificateDuplicationChecker;
         this.certificateFullDataCollector = certificateFullDataCollector;
+        this.certificateCache = certificateCache;
+        this.tagIndex = tagIndex;
+        this.certificateTextIndex = certificateTextIndex;
+        this.certificateImporter = certificateImporter;
+        this.catalogVersion = catalogVersion;
+        this.requestCoalescer = requestCoalescer;
+        this.certificateQueryCache = certificateQueryCache;
+        this.recentWriteTracker = recentWriteTracker;
+        this.handlerTimers = new EnumMap<>(CertificatesHandler.class);
+        for (CertificatesHandler handler : CertificatesHandler.values()) {
+            handlerTimers.put(handler, metricRegistry.timer(HANDLER_METRIC, HANDLER_METRIC_DESCRIPTION,
+                    HANDLER_LABEL, handler.name()));
+        }
+
+        this.catalogChangeListeners = catalogChangeListeners;
+        this.fullTextSearch = fullTextSearch;
     }
 
     @Override
@@ -52,58 +120,134 @@ public class CertificateServiceImpl implements CertificateService {
             throw new DuplicateCertificateException(DUPLICATE_CERTIFICATE_MESSAGE);
         }
 
-        certificateDao.add(certificate);
-        long addedCertificateId = Collections.max(certificateDao.findAll().stream()
-                .map(Certificate::getId)
-                .collect(Collectors.toList()));
+        long addedCertificateId = certificateDao.add(certificate);
         addCertificateTags(addedCertificateId, certificate.getTags());
-        return certificateDao.findById(addedCertificateId).get();
+        Certificate addedCertificate = certificateDao.findById(addedCertificateId).get();
+        catalogChangeListeners.forEach(listener -> listener.onCertificateSaved(addedCertificate));
+        return addedCertificate;
     }
 
+    /**
+     * Searches with the same canonical parameters share cached results, equal concurrent searches share one query.
+     */
     @Override
+    @Transactional(readOnly = true)
     public List<Certificate> findAllCertificates(Map<String, String> handleParameters) {
-        List<Certificate> certificates = certificateDao.findAll();
+        CertificateSearchKey searchKey = CertificateSearchKey.of(handleParameters);
+        return requestCoalescer.execute(Arrays.asList(FIND_ALL_CERTIFICATES_KEY, searchKey),
+                () -> certificateQueryCache.findAll(searchKey, () -> searchCertificates(handleParameters)),
+                this::copyCertificates);
+    }
 
-        if (handleParameters != null && !handleParameters.isEmpty()) {
-            for (Map.Entry<String, String> parametersEntry : handleParameters.entrySet()) {
-                certificates = CertificatesHandler
-                        .findHandlerByName(parametersEntry.getKey())
-                        .handle(certificates, parametersEntry.getValue());
-            }
+    @Override
+    @Transactional(readOnly = true)
+    public void findAllCertificates(Map<String, String> handleParameters, Consumer<Certificate> certificateConsumer) {
+        CertificateQueryBuilder queryBuilder = new CertificateQueryBuilder(fullTextSearch);
+        CertificateIdSet restrictingCertificateIds = applyHandleParameters(queryBuilder, handleParameters);
+        if (restrictingCertificateIds == null || !restrictingCertificateIds.isEmpty()) {
+            certificateDao.findAll(queryBuilder.build(), certificateConsumer);
         }
+    }
 
-        return certificates;
+    /**
+     * Certificates come in the order of their last update and id. The export continues after the certificate with
+     * the given date and id, so an interrupted export may be resumed from the last received one without skipping
+     * certificates updated within the same second. With no id the certificates updated at the date are included.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCertificates(LocalDateTime updatedAfter, long afterId,
+                                   Consumer<Certificate> certificateConsumer) {
+        CertificateQueryBuilder queryBuilder = new CertificateQueryBuilder()
+                .sortBy(CertificateSortField.LAST_UPDATE_DATE, true);
+        if (updatedAfter != null) {
+            Certificate lastExportedCertificate = new Certificate();
+            lastExportedCertificate.setId(afterId);
+            lastExportedCertificate.setLastUpdateDate(updatedAfter);
+            queryBuilder.seekAfter(CertificateCursor.of(queryBuilder.getSortOrders(), lastExportedCertificate));
+        }
+
+        certificateDao.findAll(queryBuilder.build(), certificateConsumer);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public CertificatePage findCertificatesPage(Map<String, String> handleParameters, int pageSize, String cursor) {
+        if (pageSize < MIN_PAGE_SIZE || pageSize > MAX_PAGE_SIZE) {
+            throw new InvalidPageParameterException(INVALID_PAGE_PARAMETER_MESSAGE);
+        }
+
+        CertificateQueryBuilder queryBuilder = new CertificateQueryBuilder(fullTextSearch).limit(pageSize + 1);
+        CertificateIdSet restrictingCertificateIds = applyHandleParameters(queryBuilder, handleParameters);
+        if (cursor != null) {
+            queryBuilder.seekAfter(decodeCursor(cursor, queryBuilder.getSortOrders()));
+        }
+
+        if (restrictingCertificateIds != null && restrictingCertificateIds.isEmpty()) {
+            return new CertificatePage(new ArrayList<>(), null);
+        }
+
+        List<Certificate> certificates = certificateDao.findAll(queryBuilder.build());
+        if (certificates.size() <= pageSize) {
+            return new CertificatePage(certificates, null);
+        }
+
+        List<Certificate> pageCertificates = new ArrayList<>(certificates.subList(0, pageSize));
+        String nextCursor = CertificateCursor.of(queryBuilder.getSortOrders(), pageCertificates.get(pageSize - 1))
+                .encode();
+        return new CertificatePage(pageCertificates, nextCursor);
+    }
+
+    /**
+     * A certificate changed within the stickiness window is read from the primary, such reads are not coalesced with
+     * the ones that may go to a replica.
+     */
+    @Override
+    @Transactional(readOnly = true)
     public Certificate findCertificateById(long id) {
-        Optional<Certificate> certificate = certificateDao.findById(id);
-        if (!certificate.isPresent()) {
-            throw new UnknownCertificateException(NONEXISTENT_CERTIFICATE_MESSAGE);
+        boolean writeRecent = recentWriteTracker.isWriteRecent(id);
+        if (writeRecent) {
+            recentWriteTracker.requirePrimary();
         }
 
-        return certificate.get();
+        return requestCoalescer.execute(Arrays.asList(FIND_CERTIFICATE_BY_ID_KEY, id, writeRecent), () -> {
+            Optional<Certificate> certificate = certificateCache.findById(id);
+            if (!certificate.isPresent()) {
+                throw new UnknownCertificateException(NONEXISTENT_CERTIFICATE_MESSAGE);
+            }
+
+            return certificate.get();
+        }, Certificate::new);
     }
 
     @Override
-    @Transactional
-    public Certificate updateCertificate(Certificate certificate) {
-        Optional<Certificate> actualCertificate = certificateDao.findById(certificate.getId());
-        if (!actualCertificate.isPresent()) {
+    public EntityVersion findCertificateVersion(long id) {
+        Optional<Certificate> certificateVersion = certificateDao.findVersionById(id);
+        if (!certificateVersion.isPresent()) {
             throw new UnknownCertificateException(NONEXISTENT_CERTIFICATE_MESSAGE);
         }
 
-        certificate.setLastUpdateDate(LocalDateTime.now());
-        certificate.setCreateDate(actualCertificate.get().getCreateDate());
+        return catalogVersion.getCertificateVersion(certificateVersion.get().getVersion(),
+                certificateVersion.get().getLastUpdateDate());
+    }
 
-        certificateValidator.validateCertificate(certificate);
-        if (!certificateDuplicationChecker.checkCertificateForUpdatingDuplication(certificate)) {
-            throw new DuplicateCertificateException(DUPLICATE_CERTIFICATE_MESSAGE);
-        }
+    @Override
+    @Transactional
+    public Certificate updateCertificate(Certificate certificate) {
+        return updateCertificate(certificate, null);
+    }
 
-        certificateDao.update(certificate);
-        updateCertificateTags(certificate);
-        return findCertificateById(certificate.getId());
+    /**
+     * The certificate is written only if it is still of the version it was read in, a version changed meanwhile
+     * fails the update with ConcurrentCertificateUpdateException, an If-Match not matching the current version fails
+     * it with CertificateVersionMismatchException.
+     */
+    @Override
+    @Transactional
+    public Certificate updateCertificate(Certificate certificate, String ifMatch) {
+        Certificate actualCertificate = findActualCertificate(certificate.getId(), ifMatch);
+        certificate.setCreateDate(actualCertificate.getCreateDate());
+        return saveCertificate(certificate, actualCertificate.getVersion());
     }
 
     @Override
@@ -114,40 +258,148 @@ public class CertificateServiceImpl implements CertificateService {
             throw new UnknownCertificateException(NONEXISTENT_CERTIFICATE_MESSAGE);
         }
 
+        catalogChangeListeners.forEach(listener -> listener.onCertificateRemoved(id));
         return true;
     }
 
     @Override
     @Transactional
     public Certificate patchCertificate(Certificate certificate) {
-        Optional<Certificate> actualCertificate = certificateDao.findById(certificate.getId());
-        if (!actualCertificate.isPresent()) {
-            throw new UnknownCertificateException(NONEXISTENT_CERTIFICATE_MESSAGE);
-        }
-        return updateCertificate(certificateFullDataCollector
-                .collectFullCertificateData(certificate, actualCertificate.get()));
+        return patchCertificate(certificate, null);
     }
 
-    private boolean isExistentConnectionBetweenCertificateAndTag(long certificateId, long tagId) {
-        Optional<Certificate> certificate = certificateDao.findById(certificateId);
-        if (!certificate.isPresent()) {
-            throw new UnknownCertificateException(NONEXISTENT_CERTIFICATE_MESSAGE);
+    /**
+     * The changes are merged into the certificate read here, so it is saved only if nothing was written since.
+     */
+    @Override
+    @Transactional
+    public Certificate patchCertificate(Certificate certificate, String ifMatch) {
+        Certificate actualCertificate = findActualCertificate(certificate.getId(), ifMatch);
+        long actualVersion = actualCertificate.getVersion();
+        return saveCertificate(certificateFullDataCollector.collectFullCertificateData(certificate,
+                actualCertificate), actualVersion);
+    }
+
+    @Override
+    public CertificateImportReport importCertificates(Iterator<Certificate> certificates) {
+        return certificateImporter.importCertificates(certificates);
+    }
+
+    /**
+     * Tag filters are resolved through the tag index and text filters are narrowed by the text index, the found ids
+     * restrict the query. Too large id sets are left to the database instead.
+     *
+     * @return ids the query is restricted to or null if it is not restricted
+     */
+    private CertificateIdSet applyHandleParameters(CertificateQueryBuilder queryBuilder,
+                                                   Map<String, String> handleParameters) {
+        if (handleParameters == null) {
+            return null;
+        }
+
+        CertificateIdSet restrictingCertificateIds = null;
+        List<Map.Entry<String, String>> tagFilterParameters = new ArrayList<>();
+        for (Map.Entry<String, String> parametersEntry : handleParameters.entrySet()) {
+            CertificatesHandler handler = CertificatesHandler.findHandlerByName(parametersEntry.getKey());
+            long stageStartTime = System.nanoTime();
+            boolean stageFailed = true;
+            Optional<CertificateIdSet> certificateIds;
+            try {
+                certificateIds = handler.selectFromIndex(tagIndex, parametersEntry.getValue());
+                if (certificateIds.isPresent()) {
+                    tagFilterParameters.add(parametersEntry);
+                } else {
+                    handler.applyToQuery(queryBuilder, parametersEntry.getValue());
+                    certificateIds = handler.narrowByTextIndex(certificateTextIndex, parametersEntry.getValue());
+                }
+
+                stageFailed = false;
+            } finally {
+                handlerTimers.get(handler).record(System.nanoTime() - stageStartTime, stageFailed);
+            }
+
+            if (certificateIds.isPresent()) {
+                restrictingCertificateIds = restrictingCertificateIds == null
+                        ? certificateIds.get()
+                        : restrictingCertificateIds.and(certificateIds.get());
+            }
+        }
+
+        if (restrictingCertificateIds == null || restrictingCertificateIds.isEmpty()) {
+            return restrictingCertificateIds;
+        }
+
+        if (restrictingCertificateIds.size() > MAX_INDEXED_CERTIFICATE_IDS) {
+            tagFilterParameters.forEach(parametersEntry -> CertificatesHandler
+                    .findHandlerByName(parametersEntry.getKey())
+                    .applyToQuery(queryBuilder, parametersEntry.getValue()));
+            return null;
         }
 
-        return certificate.get().getTags().stream()
-                .noneMatch(tag -> tag.getId() == tagId);
+        queryBuilder.withCertificateIds(restrictingCertificateIds.toArray());
+        return restrictingCertificateIds;
+    }
+
+    private CertificateCursor decodeCursor(String cursor, List<CertificateSortOrder> sortOrders) {
+        try {
+            CertificateCursor decodedCursor = CertificateCursor.decode(cursor);
+            if (!decodedCursor.isCompatibleWith(sortOrders)) {
+                throw new InvalidPageParameterException(INVALID_PAGE_PARAMETER_MESSAGE);
+            }
+
+            return decodedCursor;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageParameterException(INVALID_PAGE_PARAMETER_MESSAGE, e);
+        }
     }
 
     public void addCertificateTags(long certificateId, List<Tag> tags) {
         if (!tags.isEmpty()) {
-            tags.forEach(tag -> {
-                tagService.addTagIfNotExists(tag);
-                Tag currentTag = tagService.findTagByName(tag.getName());
-                if (isExistentConnectionBetweenCertificateAndTag(certificateId, currentTag.getId())) {
-                    certificateDao.addTagToCertificate(certificateId, currentTag.getId());
+            Set<Long> linkedTagIds = new HashSet<>(certificateDao.findCertificateTagIds(certificateId));
+            List<Long> newTagIds = new ArrayList<>();
+            for (Tag tag : tagService.addTagsIfNotExist(tags)) {
+                if (linkedTagIds.add(tag.getId())) {
+                    newTagIds.add(tag.getId());
                 }
-            });
+            }
+
+            if (!newTagIds.isEmpty()) {
+                certificateDao.addTagsToCertificate(certificateId, newTagIds);
+            }
+        }
+    }
+
+    private Certificate findActualCertificate(long id, String ifMatch) {
+        Optional<Certificate> actualCertificate = certificateDao.findById(id);
+        if (!actualCertificate.isPresent()) {
+            throw new UnknownCertificateException(NONEXISTENT_CERTIFICATE_MESSAGE);
+        }
+
+        if (ifMatch != null
+                && !catalogVersion.matchesCertificateVersion(actualCertificate.get().getVersion(), ifMatch)) {
+            throw new CertificateVersionMismatchException(CERTIFICATE_VERSION_MISMATCH_MESSAGE);
+        }
+
+        return actualCertificate.get();
+    }
+
+    private Certificate saveCertificate(Certificate certificate, long expectedVersion) {
+        certificate.setLastUpdateDate(LocalDateTime.now());
+        certificate.setVersion(expectedVersion);
+
+        certificateValidator.validateCertificate(certificate);
+        if (!certificateDuplicationChecker.checkCertificateForUpdatingDuplication(certificate)) {
+            throw new DuplicateCertificateException(DUPLICATE_CERTIFICATE_MESSAGE);
         }
+
+        if (!certificateDao.update(certificate)) {
+            throw new ConcurrentCertificateUpdateException(CONCURRENT_CERTIFICATE_UPDATE_MESSAGE);
+        }
+
+        updateCertificateTags(certificate);
+        Certificate updatedCertificate = certificateDao.findById(certificate.getId()).get();
+        catalogChangeListeners.forEach(listener -> listener.onCertificateSaved(updatedCertificate));
+        return updatedCertificate;
     }
 
     private void updateCertificateTags(Certificate certificate) {
@@ -156,4 +408,24 @@ public class CertificateServiceImpl implements CertificateService {
             addCertificateTags(certificate.getId(), certificate.getTags());
         }
     }
-}
\ No newline at end of file
+
+    private List<Certificate> searchCertificates(Map<String, String> handleParameters) {
+        if (handleParameters == null || handleParameters.isEmpty()) {
+            return certificateDao.findAll();
+        }
+
+        CertificateQueryBuilder queryBuilder = new CertificateQueryBuilder(fullTextSearch);
+        CertificateIdSet restrictingCertificateIds = applyHandleParameters(queryBuilder, handleParameters);
+        if (restrictingCertificateIds != null && restrictingCertificateIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return certificateDao.findAll(queryBuilder.build());
+    }
+
+    private List<Certificate> copyCertificates(List<Certificate> certificates) {
+        return certificates.stream()
+                .map(Certificate::new)
+                .collect(Collectors.toList());
+    }
+}
@@ -3,17 +3,26 @@ package com.epam.esm.service.impl;
 import com.epam.esm.dao.TagDao;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.service.TagService;
+import com.epam.esm.service.cache.TagDictionary;
 import com.epam.esm.service.checker.TagDuplicationChecker;
 import com.epam.esm.service.exception.DuplicateTagException;
 import com.epam.esm.service.exception.InvalidTagException;
 import com.epam.esm.service.exception.UnknownTagException;
+import com.epam.esm.service.listener.CatalogChangeListener;
 import com.epam.esm.service.validator.TagValidator;
+import com.epam.esm.service.version.CatalogVersion;
+import com.epam.esm.service.version.EntityVersion;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 @Service
 public class TagServiceImpl implements TagService {
@@ -23,12 +32,18 @@ public class TagServiceImpl implements TagService {
     private final TagValidator tagValidator;
     private final TagDuplicationChecker tagDuplicationChecker;
     private final TagDao tagDao;
+    private final TagDictionary tagDictionary;
+    private final CatalogVersion catalogVersion;
+    private final List<CatalogChangeListener> catalogChangeListeners;
 
     @Autowired
-    public TagServiceImpl(TagValidator tagValidator, TagDuplicationChecker tagDuplicationChecker, TagDao tagDao) {
+    public TagServiceImpl(TagValidator tagValidator, TagDuplicationChecker tagDuplicationChecker, TagDao tagDao, TagDictionary tagDictionary, CatalogVersion catalogVersion, List<CatalogChangeListener> catalogChangeListeners) {
         this.tagValidator = tagValidator;
         this.tagDuplicationChecker = tagDuplicationChecker;
         this.tagDao = tagDao;
+        this.tagDictionary = tagDictionary;
+        this.catalogVersion = catalogVersion;
+        this.catalogChangeListeners = catalogChangeListeners;
     }
 
     @Override
@@ -42,18 +57,19 @@ public class TagServiceImpl implements TagService {
             throw new DuplicateTagException(REPEATING_TAG_MESSAGE);
         }
 
-        tagDao.add(tag);
-        return tagDao.findByName(tag.getName()).get();
+        Tag addedTag = new Tag(tagDao.add(tag), tag.getName());
+        catalogChangeListeners.forEach(listener -> listener.onTagAdded(addedTag));
+        return addedTag;
     }
 
     @Override
     public List<Tag> findAllTags() {
-        return tagDao.findAll();
+        return tagDictionary.findAll();
     }
 
     @Override
     public Tag findTagById(long id) {
-        Optional<Tag> tag = tagDao.findById(id);
+        Optional<Tag> tag = tagDictionary.findById(id);
         if (!tag.isPresent()) {
             throw new UnknownTagException(NONEXISTENT_TAG_MESSAGE);
         }
@@ -61,9 +77,23 @@ public class TagServiceImpl implements TagService {
         return tag.get();
     }
 
+    @Override
+    public EntityVersion findTagsVersion() {
+        return catalogVersion.getTagsVersion();
+    }
+
+    @Override
+    public EntityVersion findTagVersion(long id) {
+        if (!tagDictionary.findById(id).isPresent()) {
+            throw new UnknownTagException(NONEXISTENT_TAG_MESSAGE);
+        }
+
+        return catalogVersion.getTagsVersion();
+    }
+
     @Override
     public Tag findTagByName(String name) {
-        Optional<Tag> tag = tagDao.findByName(name);
+        Optional<Tag> tag = tagDictionary.findByName(name);
         if (!tag.isPresent()) {
             throw new UnknownTagException(NONEXISTENT_TAG_MESSAGE);
         }
@@ -72,6 +102,7 @@ public class TagServiceImpl implements TagService {
     }
 
     @Override
+    @Transactional
     public Tag updateTag(Tag tag) {
         if (!tagValidator.validateTag(tag)) {
             throw new InvalidTagException(INVALID_TAG_MESSAGE);
@@ -81,26 +112,72 @@ public class TagServiceImpl implements TagService {
             throw new DuplicateTagException(REPEATING_TAG_MESSAGE);
         }
 
+        Tag previousTag = findTagById(tag.getId());
         tagDao.update(tag);
-        return findTagById(tag.getId());
+        Tag updatedTag = new Tag(tag.getId(), tag.getName());
+        List<Long> certificateIds = tagDao.findTagCertificateIds(tag.getId());
+        catalogChangeListeners.forEach(listener -> listener.onTagUpdated(previousTag, updatedTag, certificateIds));
+        return updatedTag;
     }
 
     @Override
     @Transactional
     public boolean removeTagById(long id) {
-        if (!tagDao.findById(id).isPresent()) {
+        Optional<Tag> removingTag = tagDictionary.findById(id);
+        if (!removingTag.isPresent()) {
             throw new UnknownTagException(NONEXISTENT_TAG_MESSAGE);
         }
 
+        List<Long> certificateIds = tagDao.findTagCertificateIds(id);
         tagDao.removeTagFromCertificates(id);
-        return tagDao.remove(id);
+        boolean isRemoved = tagDao.remove(id);
+        catalogChangeListeners.forEach(listener -> listener.onTagRemoved(removingTag.get(), certificateIds));
+        return isRemoved;
     }
 
     @Override
     public void addTagIfNotExists(Tag tag) {
-        Optional<Tag> searchedTag = tagDao.findByName(tag.getName());
+        Optional<Tag> searchedTag = tagDictionary.findByName(tag.getName());
         if (!searchedTag.isPresent()) {
             addTag(tag);
         }
     }
+
+    @Override
+    @Transactional
+    public List<Tag> addTagsIfNotExist(List<Tag> tags) {
+        Set<String> tagNames = new LinkedHashSet<>();
+        for (Tag tag : tags) {
+            if (!tagValidator.validateTag(tag)) {
+                throw new InvalidTagException(INVALID_TAG_MESSAGE);
+            }
+
+            tagNames.add(tag.getName());
+        }
+
+        List<Tag> existingTags = tagDictionary.findAllByNames(tagNames);
+        Set<String> missingTagNames = findMissingTagNames(tagNames, existingTags);
+        if (missingTagNames.isEmpty()) {
+            return existingTags;
+        }
+
+        tagDao.addAll(missingTagNames.stream()
+                .map(Tag::new)
+                .collect(Collectors.toList()));
+        List<Tag> addedTags = tagDao.findAllByNames(missingTagNames);
+        addedTags.forEach(addedTag -> catalogChangeListeners.forEach(listener -> listener.onTagAdded(addedTag)));
+
+        List<Tag> resolvedTags = new ArrayList<>(existingTags);
+        resolvedTags.addAll(addedTags);
+        return resolvedTags;
+    }
+
+    private Set<String> findMissingTagNames(Set<String> tagNames, List<Tag> existingTags) {
+        Set<String> existingTagNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        existingTags.forEach(tag -> existingTagNames.add(tag.getName()));
+
+        return tagNames.stream()
+                .filter(tagName -> !existingTagNames.contains(tagName))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
 }
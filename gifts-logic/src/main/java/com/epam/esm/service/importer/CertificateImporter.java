@@ -0,0 +1,10 @@
+package com.epam.esm.service.importer;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.CertificateImportReport;
+
+import java.util.Iterator;
+
+public interface CertificateImporter {
+    CertificateImportReport importCertificates(Iterator<Certificate> certificates);
+}
@@ -0,0 +1,214 @@
+package com.epam.esm.service.importer.impl;
+
+import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.CertificateImportReport;
+import com.epam.esm.entity.CertificateImportResult;
+import com.epam.esm.entity.CertificateImportStatus;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.TagService;
+import com.epam.esm.service.importer.CertificateImporter;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import com.epam.esm.service.validator.CertificateValidationResult;
+import com.epam.esm.service.validator.CertificateValidator;
+import com.epam.esm.service.validator.TagValidator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Validates the certificates one by one and writes the accepted ones in chunks, every chunk in its own transaction
+ * with batch inserts. Names are compared ignoring case both inside the chunk and with the stored certificates, so
+ * a name repeated in a later chunk is found among the stored ones. Only the rejected certificates are kept for the
+ * report, the memory does not grow with the imported ones.
+ */
+@Component
+public class CertificateImporterImpl implements CertificateImporter {
+    private static final String INVALID_TAGS_CAUSE = "tag name";
+    private final CertificateDao certificateDao;
+    private final TagService tagService;
+    private final CertificateValidator certificateValidator;
+    private final TagValidator tagValidator;
+    private final TransactionTemplate transactionTemplate;
+    private final List<CatalogChangeListener> catalogChangeListeners;
+    private final int chunkSize;
+
+    @Autowired
+    public CertificateImporterImpl(CertificateDao certificateDao, TagService tagService,
+                                   CertificateValidator certificateValidator, TagValidator tagValidator,
+                                   TransactionTemplate transactionTemplate,
+                                   List<CatalogChangeListener> catalogChangeListeners,
+                                   @Value("${certificate.import.chunk.size:500}") int chunkSize) {
+        this.certificateDao = certificateDao;
+        this.tagService = tagService;
+        this.certificateValidator = certificateValidator;
+        this.tagValidator = tagValidator;
+        this.transactionTemplate = transactionTemplate;
+        this.catalogChangeListeners = catalogChangeListeners;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * A certificate that can not be read stops the import. The certificates before it are still written and the
+     * report is marked as not complete.
+     */
+    @Override
+    public CertificateImportReport importCertificates(Iterator<Certificate> certificates) {
+        CertificateImportReport report = new CertificateImportReport();
+        Set<String> chunkNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        List<Certificate> chunk = new ArrayList<>();
+        List<CertificateImportResult> chunkResults = new ArrayList<>();
+        int index = 0;
+
+        while (true) {
+            Certificate certificate;
+            try {
+                if (!certificates.hasNext()) {
+                    break;
+                }
+
+                certificate = certificates.next();
+            } catch (UncheckedIOException e) {
+                report.getResults().add(new CertificateImportResult(index, null, CertificateImportStatus.MALFORMED,
+                        null, e.getCause().getMessage()));
+                report.setComplete(false);
+                break;
+            }
+
+            CertificateImportResult result = new CertificateImportResult(index++,
+                    certificate != null ? certificate.getName() : null, null, null, null);
+            String cause = findViolations(certificate);
+            if (cause != null) {
+                result.setStatus(CertificateImportStatus.INVALID);
+                result.setCause(cause);
+                report.getResults().add(result);
+            } else if (!chunkNames.add(certificate.getName())) {
+                result.setStatus(CertificateImportStatus.DUPLICATE);
+                report.getResults().add(result);
+            } else {
+                chunk.add(certificate);
+                chunkResults.add(result);
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, chunkResults, report);
+                    chunk.clear();
+                    chunkResults.clear();
+                    chunkNames.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, chunkResults, report);
+        }
+
+        report.setRejected(report.getResults().size());
+        return report;
+    }
+
+    private String findViolations(Certificate certificate) {
+        if (certificate != null) {
+            certificate.setCreateDate(LocalDateTime.now());
+            certificate.setLastUpdateDate(certificate.getCreateDate());
+        }
+
+        CertificateValidationResult validationResult = certificateValidator.checkCertificate(certificate);
+        if (!validationResult.isValid()) {
+            return validationResult.getCause();
+        }
+
+        return certificate.getTags().stream().allMatch(tagValidator::validateTag) ? null : INVALID_TAGS_CAUSE;
+    }
+
+    /**
+     * Stored names are rejected as duplicates. If the chunk can not be written it is rolled back as a whole and
+     * its names may come again later in the import.
+     */
+    private void writeChunk(List<Certificate> chunk, List<CertificateImportResult> chunkResults,
+                            CertificateImportReport report) {
+        Map<String, Long> storedCertificateIds = certificateDao.findIdsByNames(chunk.stream()
+                .map(Certificate::getName)
+                .collect(Collectors.toList()));
+        List<Certificate> newCertificates = new ArrayList<>();
+        List<CertificateImportResult> newCertificateResults = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (storedCertificateIds.containsKey(chunk.get(i).getName())) {
+                chunkResults.get(i).setStatus(CertificateImportStatus.DUPLICATE);
+                report.getResults().add(chunkResults.get(i));
+            } else {
+                newCertificates.add(chunk.get(i));
+                newCertificateResults.add(chunkResults.get(i));
+            }
+        }
+
+        if (newCertificates.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> addCertificates(newCertificates));
+            report.setImported(report.getImported() + newCertificates.size());
+        } catch (DataAccessException e) {
+            newCertificateResults.forEach(result -> result.setStatus(CertificateImportStatus.FAILED));
+            report.getResults().addAll(newCertificateResults);
+        }
+    }
+
+    private void addCertificates(List<Certificate> certificates) {
+        Map<String, Tag> tagsByName = addTags(certificates);
+        certificateDao.addAll(certificates);
+        Map<String, Long> certificateIds = certificateDao.findIdsByNames(certificates.stream()
+                .map(Certificate::getName)
+                .collect(Collectors.toList()));
+
+        Map<Long, Set<Long>> certificateTagIds = new LinkedHashMap<>();
+        for (Certificate certificate : certificates) {
+            certificate.setId(certificateIds.get(certificate.getName()));
+            Map<Long, Tag> certificateTags = new LinkedHashMap<>();
+            certificate.getTags().forEach(tag -> {
+                Tag storedTag = tagsByName.get(tag.getName());
+                certificateTags.put(storedTag.getId(), storedTag);
+            });
+
+            certificate.setTags(new ArrayList<>(certificateTags.values()));
+            if (!certificateTags.isEmpty()) {
+                certificateTagIds.put(certificate.getId(), new LinkedHashSet<>(certificateTags.keySet()));
+            }
+        }
+
+        if (!certificateTagIds.isEmpty()) {
+            certificateDao.addTagsToCertificates(certificateTagIds);
+        }
+
+        certificates.forEach(certificate -> catalogChangeListeners
+                .forEach(listener -> listener.onCertificateSaved(certificate)));
+    }
+
+    private Map<String, Tag> addTags(List<Certificate> certificates) {
+        Map<String, Tag> tagsByName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        certificates.forEach(certificate -> certificate.getTags()
+                .forEach(tag -> tagsByName.putIfAbsent(tag.getName(), tag)));
+        if (tagsByName.isEmpty()) {
+            return tagsByName;
+        }
+
+        List<Tag> storedTags = tagService.addTagsIfNotExist(new ArrayList<>(tagsByName.values()));
+        tagsByName.clear();
+        storedTags.forEach(tag -> tagsByName.put(tag.getName(), tag));
+        return tagsByName;
+    }
+}
@@ -0,0 +1,186 @@
+package com.epam.esm.service.index;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of certificate ids kept as a sorted array of primitives.
+ */
+public final class CertificateIdSet {
+    private static final CertificateIdSet EMPTY = new CertificateIdSet(new long[0]);
+    private final long[] ids;
+
+    private CertificateIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static CertificateIdSet empty() {
+        return EMPTY;
+    }
+
+    public static CertificateIdSet of(long... ids) {
+        return ids.length == 0 ? EMPTY : sortedSet(ids.clone());
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public long[] toArray() {
+        return ids.clone();
+    }
+
+    public CertificateIdSet with(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position >= 0) {
+            return this;
+        }
+
+        int insertionPoint = -position - 1;
+        long[] newIds = new long[ids.length + 1];
+        System.arraycopy(ids, 0, newIds, 0, insertionPoint);
+        newIds[insertionPoint] = id;
+        System.arraycopy(ids, insertionPoint, newIds, insertionPoint + 1, ids.length - insertionPoint);
+        return new CertificateIdSet(newIds);
+    }
+
+    public CertificateIdSet without(long id) {
+        int position = Arrays.binarySearch(ids, id);
+        if (position < 0) {
+            return this;
+        }
+
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+
+        long[] newIds = new long[ids.length - 1];
+        System.arraycopy(ids, 0, newIds, 0, position);
+        System.arraycopy(ids, position + 1, newIds, position, ids.length - position - 1);
+        return new CertificateIdSet(newIds);
+    }
+
+    public CertificateIdSet and(CertificateIdSet other) {
+        if (isEmpty() || other.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] smallerIds = ids.length <= other.ids.length ? ids : other.ids;
+        long[] largerIds = smallerIds == ids ? other.ids : ids;
+        long[] commonIds = new long[smallerIds.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < smallerIds.length && j < largerIds.length) {
+            if (smallerIds[i] < largerIds[j]) {
+                i++;
+            } else if (smallerIds[i] > largerIds[j]) {
+                j++;
+            } else {
+                commonIds[size++] = smallerIds[i];
+                i++;
+                j++;
+            }
+        }
+
+        return size == smallerIds.length && smallerIds == ids ? this : trimmed(commonIds, size);
+    }
+
+    public CertificateIdSet or(CertificateIdSet other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+
+        if (isEmpty()) {
+            return other;
+        }
+
+        long[] allIds = new long[ids.length + other.ids.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < ids.length || j < other.ids.length) {
+            if (j == other.ids.length || (i < ids.length && ids[i] < other.ids[j])) {
+                allIds[size++] = ids[i++];
+            } else if (i == ids.length || ids[i] > other.ids[j]) {
+                allIds[size++] = other.ids[j++];
+            } else {
+                allIds[size++] = ids[i];
+                i++;
+                j++;
+            }
+        }
+
+        return trimmed(allIds, size);
+    }
+
+    private static CertificateIdSet sortedSet(long[] ids) {
+        Arrays.sort(ids);
+        int size = 1;
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] != ids[size - 1]) {
+                ids[size++] = ids[i];
+            }
+        }
+
+        return trimmed(ids, size);
+    }
+
+    private static CertificateIdSet trimmed(long[] ids, int size) {
+        return size == 0 ? EMPTY : new CertificateIdSet(size == ids.length ? ids : Arrays.copyOf(ids, size));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificateIdSet that = (CertificateIdSet) o;
+        return Arrays.equals(ids, that.ids);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ids);
+    }
+
+    @Override
+    public String toString() {
+        return "CertificateIdSet{" +
+                "ids=" + Arrays.toString(ids) +
+                '}';
+    }
+
+    /**
+     * Collects ids in any order and with repeats into a growable array, which is sorted once when the set is built.
+     * Cheaper than a chain of with() calls, each of which copies the whole set.
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 4;
+        private long[] ids;
+        private int size;
+
+        public Builder() {
+            ids = new long[INITIAL_CAPACITY];
+        }
+
+        public Builder add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+
+            ids[size++] = id;
+            return this;
+        }
+
+        public CertificateIdSet build() {
+            return size == 0 ? EMPTY : sortedSet(Arrays.copyOf(ids, size));
+        }
+    }
+}
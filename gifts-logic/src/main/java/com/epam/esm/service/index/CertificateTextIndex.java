@@ -0,0 +1,15 @@
+package com.epam.esm.service.index;
+
+import java.util.Optional;
+
+public interface CertificateTextIndex {
+    /**
+     * @return ids of the certificates which names may contain the part, or nothing if the part is too short to
+     * narrow the search
+     */
+    Optional<CertificateIdSet> findCandidatesByNamePart(String namePart);
+
+    Optional<CertificateIdSet> findCandidatesByDescriptionPart(String descriptionPart);
+
+    void rebuild();
+}
@@ -0,0 +1,13 @@
+package com.epam.esm.service.index;
+
+import java.util.Collection;
+
+public interface TagIndex {
+    CertificateIdSet findByTagName(String tagName);
+
+    CertificateIdSet findByAllTagNames(Collection<String> tagNames);
+
+    CertificateIdSet findByAnyTagName(Collection<String> tagNames);
+
+    void rebuild();
+}
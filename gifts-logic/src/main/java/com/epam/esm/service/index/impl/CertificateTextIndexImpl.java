@@ -0,0 +1,212 @@
+package com.epam.esm.service.index.impl;
+
+import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.service.index.CertificateIdSet;
+import com.epam.esm.service.index.CertificateTextIndex;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Trigram index over certificate names and descriptions. It only narrows the candidates of a substring search,
+ * the matches still have to be verified against the text itself. Changes made in a transaction are applied once it
+ * is committed.
+ */
+@Component
+public class CertificateTextIndexImpl implements CertificateTextIndex, CatalogChangeListener, InitializingBean {
+    private static final int GRAM_LENGTH = 3;
+    private final CertificateDao certificateDao;
+    private volatile TrigramIndex nameIndex;
+    private volatile TrigramIndex descriptionIndex;
+
+    @Autowired
+    public CertificateTextIndexImpl(CertificateDao certificateDao) {
+        this.certificateDao = certificateDao;
+        nameIndex = new TrigramIndex();
+        descriptionIndex = new TrigramIndex();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        rebuild();
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        List<Certificate> certificates = certificateDao.findAllWithoutTags();
+        nameIndex = TrigramIndex.build(certificates, Certificate::getName);
+        descriptionIndex = TrigramIndex.build(certificates, Certificate::getDescription);
+    }
+
+    @Override
+    public Optional<CertificateIdSet> findCandidatesByNamePart(String namePart) {
+        return nameIndex.findCandidates(namePart);
+    }
+
+    @Override
+    public Optional<CertificateIdSet> findCandidatesByDescriptionPart(String descriptionPart) {
+        return descriptionIndex.findCandidates(descriptionPart);
+    }
+
+    @Override
+    public void onCertificateSaved(Certificate certificate) {
+        applyAfterCommit(() -> {
+            nameIndex.put(certificate.getId(), certificate.getName());
+            descriptionIndex.put(certificate.getId(), certificate.getDescription());
+        });
+    }
+
+    @Override
+    public void onCertificateRemoved(long certificateId) {
+        applyAfterCommit(() -> {
+            nameIndex.remove(certificateId);
+            descriptionIndex.remove(certificateId);
+        });
+    }
+
+    private void applyAfterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyChange(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyChange(change);
+            }
+        });
+    }
+
+    private synchronized void applyChange(Runnable change) {
+        change.run();
+    }
+
+    private static String normalize(String text) {
+        return text.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Every trigram is packed into a long, 16 bits per character.
+     */
+    private static long[] toTrigrams(String normalizedText) {
+        if (normalizedText.length() < GRAM_LENGTH) {
+            return new long[0];
+        }
+
+        long[] trigrams = new long[normalizedText.length() - GRAM_LENGTH + 1];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) normalizedText.charAt(i) << 32)
+                    | ((long) normalizedText.charAt(i + 1) << 16)
+                    | normalizedText.charAt(i + 2);
+        }
+
+        Arrays.sort(trigrams);
+        int size = trigrams.length == 0 ? 0 : 1;
+        for (int i = 1; i < trigrams.length; i++) {
+            if (trigrams[i] != trigrams[size - 1]) {
+                trigrams[size++] = trigrams[i];
+            }
+        }
+
+        return Arrays.copyOf(trigrams, size);
+    }
+
+    private static class TrigramIndex {
+        private final Map<Long, CertificateIdSet> postings = new ConcurrentHashMap<>();
+        private final Map<Long, long[]> trigramsByCertificateId = new HashMap<>();
+
+        /**
+         * Posting lists are collected in builders and turned into id sets once per trigram.
+         */
+        private static TrigramIndex build(List<Certificate> certificates, Function<Certificate, String> textField) {
+            TrigramIndex index = new TrigramIndex();
+            Map<Long, CertificateIdSet.Builder> postingBuilders = new HashMap<>();
+            for (Certificate certificate : certificates) {
+                String text = textField.apply(certificate);
+                if (text == null) {
+                    continue;
+                }
+
+                long[] trigrams = toTrigrams(normalize(text));
+                for (long trigram : trigrams) {
+                    postingBuilders.computeIfAbsent(trigram, gram -> new CertificateIdSet.Builder())
+                            .add(certificate.getId());
+                }
+
+                index.trigramsByCertificateId.put(certificate.getId(), trigrams);
+            }
+
+            postingBuilders.forEach((trigram, builder) -> index.postings.put(trigram, builder.build()));
+            return index;
+        }
+
+        private void put(long certificateId, String text) {
+            remove(certificateId);
+            if (text == null) {
+                return;
+            }
+
+            long[] trigrams = toTrigrams(normalize(text));
+            for (long trigram : trigrams) {
+                postings.merge(trigram, CertificateIdSet.of(certificateId), (ids, addedIds) -> ids.with(certificateId));
+            }
+
+            trigramsByCertificateId.put(certificateId, trigrams);
+        }
+
+        private void remove(long certificateId) {
+            long[] trigrams = trigramsByCertificateId.remove(certificateId);
+            if (trigrams == null) {
+                return;
+            }
+
+            for (long trigram : trigrams) {
+                postings.computeIfPresent(trigram, (gram, ids) -> {
+                    CertificateIdSet remainingIds = ids.without(certificateId);
+                    return remainingIds.isEmpty() ? null : remainingIds;
+                });
+            }
+        }
+
+        private Optional<CertificateIdSet> findCandidates(String part) {
+            long[] trigrams = toTrigrams(normalize(part));
+            if (trigrams.length == 0) {
+                return Optional.empty();
+            }
+
+            List<CertificateIdSet> postingLists = new ArrayList<>(trigrams.length);
+            for (long trigram : trigrams) {
+                CertificateIdSet ids = postings.get(trigram);
+                if (ids == null) {
+                    return Optional.of(CertificateIdSet.empty());
+                }
+
+                postingLists.add(ids);
+            }
+
+            postingLists.sort(Comparator.comparingInt(CertificateIdSet::size));
+            CertificateIdSet candidateIds = postingLists.get(0);
+            for (int i = 1; i < postingLists.size() && !candidateIds.isEmpty(); i++) {
+                candidateIds = candidateIds.and(postingLists.get(i));
+            }
+
+            return Optional.of(candidateIds);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.epam.esm.service.index.impl;
+
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.index.CertificateIdSet;
+import com.epam.esm.service.index.TagIndex;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index from normalized tag name to the ids of certificates having that tag.
+ * Readers never lock, the stored id sets are immutable and replaced on every change. Changes made in a transaction
+ * are applied once it is committed.
+ */
+@Component
+public class TagIndexImpl implements TagIndex, CatalogChangeListener, InitializingBean {
+    private final TagDao tagDao;
+    private volatile Map<String, CertificateIdSet> idsByTagName;
+    private Map<Long, Set<String>> tagNamesByCertificateId;
+
+    @Autowired
+    public TagIndexImpl(TagDao tagDao) {
+        this.tagDao = tagDao;
+        idsByTagName = new ConcurrentHashMap<>();
+        tagNamesByCertificateId = new HashMap<>();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        rebuild();
+    }
+
+    @Override
+    public synchronized void rebuild() {
+        Map<String, CertificateIdSet> builtIdsByTagName = new ConcurrentHashMap<>();
+        Map<Long, Set<String>> builtTagNamesByCertificateId = new HashMap<>();
+        tagDao.findAllTagCertificateIds().forEach((tagName, certificateIds) -> {
+            if (tagName == null) {
+                return;
+            }
+
+            String normalizedTagName = normalize(tagName);
+            long[] ids = new long[certificateIds.size()];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = certificateIds.get(i);
+                builtTagNamesByCertificateId.computeIfAbsent(ids[i], id -> new HashSet<>()).add(normalizedTagName);
+            }
+
+            builtIdsByTagName.merge(normalizedTagName, CertificateIdSet.of(ids), CertificateIdSet::or);
+        });
+
+        idsByTagName = builtIdsByTagName;
+        tagNamesByCertificateId = builtTagNamesByCertificateId;
+    }
+
+    @Override
+    public CertificateIdSet findByTagName(String tagName) {
+        return idsByTagName.getOrDefault(normalize(tagName), CertificateIdSet.empty());
+    }
+
+    @Override
+    public CertificateIdSet findByAllTagNames(Collection<String> tagNames) {
+        if (tagNames.isEmpty()) {
+            return CertificateIdSet.empty();
+        }
+
+        List<CertificateIdSet> idSets = new ArrayList<>(tagNames.size());
+        for (String tagName : tagNames) {
+            CertificateIdSet ids = findByTagName(tagName);
+            if (ids.isEmpty()) {
+                return ids;
+            }
+
+            idSets.add(ids);
+        }
+
+        idSets.sort(Comparator.comparingInt(CertificateIdSet::size));
+        CertificateIdSet commonIds = idSets.get(0);
+        for (int i = 1; i < idSets.size() && !commonIds.isEmpty(); i++) {
+            commonIds = commonIds.and(idSets.get(i));
+        }
+
+        return commonIds;
+    }
+
+    @Override
+    public CertificateIdSet findByAnyTagName(Collection<String> tagNames) {
+        CertificateIdSet allIds = CertificateIdSet.empty();
+        for (String tagName : tagNames) {
+            allIds = allIds.or(findByTagName(tagName));
+        }
+
+        return allIds;
+    }
+
+    @Override
+    public void onCertificateSaved(Certificate certificate) {
+        Set<String> tagNames = new HashSet<>();
+        certificate.getTags().stream()
+                .filter(tag -> tag.getName() != null)
+                .forEach(tag -> tagNames.add(normalize(tag.getName())));
+        applyAfterCommit(() -> {
+            Set<String> previousTagNames = tagNamesByCertificateId.getOrDefault(certificate.getId(),
+                    Collections.emptySet());
+            previousTagNames.stream()
+                    .filter(tagName -> !tagNames.contains(tagName))
+                    .forEach(tagName -> removeId(tagName, certificate.getId()));
+            tagNames.stream()
+                    .filter(tagName -> !previousTagNames.contains(tagName))
+                    .forEach(tagName -> addId(tagName, certificate.getId()));
+            if (tagNames.isEmpty()) {
+                tagNamesByCertificateId.remove(certificate.getId());
+            } else {
+                tagNamesByCertificateId.put(certificate.getId(), tagNames);
+            }
+        });
+    }
+
+    @Override
+    public void onCertificateRemoved(long certificateId) {
+        applyAfterCommit(() -> {
+            Set<String> previousTagNames = tagNamesByCertificateId.remove(certificateId);
+            if (previousTagNames != null) {
+                previousTagNames.forEach(tagName -> removeId(tagName, certificateId));
+            }
+        });
+    }
+
+    @Override
+    public void onTagUpdated(Tag previousTag, Tag updatedTag, List<Long> certificateIds) {
+        String previousTagName = normalize(previousTag.getName());
+        String updatedTagName = normalize(updatedTag.getName());
+        if (previousTagName.equals(updatedTagName)) {
+            return;
+        }
+
+        applyAfterCommit(() -> {
+            for (long certificateId : certificateIds) {
+                removeId(previousTagName, certificateId);
+                addId(updatedTagName, certificateId);
+                Set<String> tagNames = tagNamesByCertificateId.computeIfAbsent(certificateId, id -> new HashSet<>());
+                tagNames.remove(previousTagName);
+                tagNames.add(updatedTagName);
+            }
+        });
+    }
+
+    @Override
+    public void onTagRemoved(Tag removedTag, List<Long> certificateIds) {
+        String removedTagName = normalize(removedTag.getName());
+        applyAfterCommit(() -> {
+            for (long certificateId : certificateIds) {
+                removeId(removedTagName, certificateId);
+                Set<String> tagNames = tagNamesByCertificateId.get(certificateId);
+                if (tagNames != null && tagNames.remove(removedTagName) && tagNames.isEmpty()) {
+                    tagNamesByCertificateId.remove(certificateId);
+                }
+            }
+        });
+    }
+
+    private void addId(String tagName, long certificateId) {
+        idsByTagName.merge(tagName, CertificateIdSet.of(certificateId), (ids, addedIds) -> ids.with(certificateId));
+    }
+
+    private void removeId(String tagName, long certificateId) {
+        idsByTagName.computeIfPresent(tagName, (name, ids) -> {
+            CertificateIdSet remainingIds = ids.without(certificateId);
+            return remainingIds.isEmpty() ? null : remainingIds;
+        });
+    }
+
+    private void applyAfterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyChange(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyChange(change);
+            }
+        });
+    }
+
+    private synchronized void applyChange(Runnable change) {
+        change.run();
+    }
+
+    private String normalize(String tagName) {
+        return tagName.toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,23 @@
+package com.epam.esm.service.listener;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+
+import java.util.List;
+
+public interface CatalogChangeListener {
+    default void onCertificateSaved(Certificate certificate) {
+    }
+
+    default void onCertificateRemoved(long certificateId) {
+    }
+
+    default void onTagAdded(Tag tag) {
+    }
+
+    default void onTagUpdated(Tag previousTag, Tag updatedTag, List<Long> certificateIds) {
+    }
+
+    default void onTagRemoved(Tag removedTag, List<Long> certificateIds) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.epam.esm.service.metric;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts calls, failures and their latency. Latencies are counted in fixed buckets that are the same for every
+ * timer and every instance, so the counts can be summed across instances and turned into quantiles over any window
+ * by the monitoring server. Recording takes no locks and no allocation.
+ */
+public class LatencyTimer {
+    private static final long[] BUCKET_BOUNDS_NANOS = {500_000L, 1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L,
+            25_000_000L, 50_000_000L, 100_000_000L, 250_000_000L, 500_000_000L, 1_000_000_000L, 2_500_000_000L,
+            5_000_000_000L, 10_000_000_000L};
+    private final AtomicLongArray buckets;
+    private final LongAdder errorCount;
+    private final LongAdder totalNanos;
+
+    public LatencyTimer() {
+        buckets = new AtomicLongArray(BUCKET_BOUNDS_NANOS.length + 1);
+        errorCount = new LongAdder();
+        totalNanos = new LongAdder();
+    }
+
+    public void record(long nanos, boolean failed) {
+        long latency = Math.max(nanos, 0);
+        buckets.incrementAndGet(findBucket(latency));
+        totalNanos.add(latency);
+        if (failed) {
+            errorCount.increment();
+        }
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            count += buckets.get(i);
+        }
+
+        return count;
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Returns the inclusive upper bounds of the buckets, the last bucket has no bound.
+     */
+    public static long[] getBucketBoundsNanos() {
+        return BUCKET_BOUNDS_NANOS.clone();
+    }
+
+    /**
+     * Returns for every bucket the number of latencies up to its bound, the last element is the count of all of
+     * them.
+     */
+    public long[] getCumulativeCounts() {
+        long[] cumulativeCounts = new long[buckets.length()];
+        long passedCount = 0;
+        for (int i = 0; i < cumulativeCounts.length; i++) {
+            passedCount += buckets.get(i);
+            cumulativeCounts[i] = passedCount;
+        }
+
+        return cumulativeCounts;
+    }
+
+    private static int findBucket(long nanos) {
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_NANOS.length && nanos > BUCKET_BOUNDS_NANOS[bucket]) {
+            bucket++;
+        }
+
+        return bucket;
+    }
+}
@@ -0,0 +1,11 @@
+package com.epam.esm.service.metric;
+
+import java.util.function.DoubleSupplier;
+
+public interface MetricRegistry {
+    LatencyTimer timer(String name, String description, String... labels);
+
+    void gauge(String name, String description, DoubleSupplier value, String... labels);
+
+    String scrape();
+}
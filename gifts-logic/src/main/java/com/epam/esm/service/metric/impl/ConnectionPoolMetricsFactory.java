@@ -0,0 +1,51 @@
+package com.epam.esm.service.metric.impl;
+
+import com.epam.esm.service.metric.LatencyTimer;
+import com.epam.esm.service.metric.MetricRegistry;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the connection pool state as gauges and times connection acquisition. A timed out acquisition is
+ * recorded as a failure that took the whole connection timeout.
+ */
+public class ConnectionPoolMetricsFactory implements MetricsTrackerFactory {
+    private static final String POOL_LABEL = "pool";
+    private final MetricRegistry metricRegistry;
+    private final HikariConfigMXBean poolConfig;
+
+    public ConnectionPoolMetricsFactory(MetricRegistry metricRegistry, HikariConfigMXBean poolConfig) {
+        this.metricRegistry = metricRegistry;
+        this.poolConfig = poolConfig;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        metricRegistry.gauge("gifts_pool_active_connections", "Connections in use",
+                poolStats::getActiveConnections, POOL_LABEL, poolName);
+        metricRegistry.gauge("gifts_pool_idle_connections", "Idle connections",
+                poolStats::getIdleConnections, POOL_LABEL, poolName);
+        metricRegistry.gauge("gifts_pool_pending_threads", "Threads waiting for a connection",
+                poolStats::getPendingThreads, POOL_LABEL, poolName);
+        metricRegistry.gauge("gifts_pool_max_connections", "Maximum pool size",
+                poolStats::getMaxConnections, POOL_LABEL, poolName);
+        LatencyTimer acquireTimer = metricRegistry.timer("gifts_pool_acquire", "Connection acquisition",
+                POOL_LABEL, poolName);
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquireTimer.record(elapsedAcquiredNanos, false);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                acquireTimer.record(TimeUnit.MILLISECONDS.toNanos(poolConfig.getConnectionTimeout()), true);
+            }
+        };
+    }
+}
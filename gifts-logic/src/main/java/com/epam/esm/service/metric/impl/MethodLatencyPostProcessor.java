@@ -0,0 +1,115 @@
+package com.epam.esm.service.metric.impl;
+
+import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.service.CertificateService;
+import com.epam.esm.service.TagService;
+import com.epam.esm.service.metric.LatencyTimer;
+import com.epam.esm.service.metric.MetricRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call of the DAO and service beans. A bean that is already proxied, as the transactional services
+ * are, gets the timing as its outermost advice, the others are proxied by class so they can still be injected as
+ * their implementations.
+ */
+@Component
+public class MethodLatencyPostProcessor implements BeanPostProcessor {
+    private static final String METHOD_LABEL = "method";
+    private static final TimedLayer DAO_LAYER = new TimedLayer("gifts_dao", "DAO method", "dao");
+    private static final TimedLayer SERVICE_LAYER = new TimedLayer("gifts_service", "Service method", "service");
+    private static final Map<Class<?>, TimedLayer> TIMED_TYPES = new LinkedHashMap<>();
+
+    static {
+        TIMED_TYPES.put(CertificateDao.class, DAO_LAYER);
+        TIMED_TYPES.put(TagDao.class, DAO_LAYER);
+        TIMED_TYPES.put(CertificateService.class, SERVICE_LAYER);
+        TIMED_TYPES.put(TagService.class, SERVICE_LAYER);
+    }
+
+    private final MetricRegistry metricRegistry;
+
+    @Autowired
+    public MethodLatencyPostProcessor(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        for (Map.Entry<Class<?>, TimedLayer> timedType : TIMED_TYPES.entrySet()) {
+            if (timedType.getKey().isInstance(bean)) {
+                return addTiming(bean, new LatencyInterceptor(timedType.getKey().getSimpleName(), timedType.getValue()));
+            }
+        }
+
+        return bean;
+    }
+
+    private Object addTiming(Object bean, LatencyInterceptor latencyInterceptor) {
+        if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+            ((Advised) bean).addAdvice(0, latencyInterceptor);
+            return bean;
+        }
+
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(latencyInterceptor);
+        return proxyFactory.getProxy();
+    }
+
+    private class LatencyInterceptor implements MethodInterceptor {
+        private final String typeName;
+        private final TimedLayer layer;
+        private final Map<Method, LatencyTimer> timers;
+
+        private LatencyInterceptor(String typeName, TimedLayer layer) {
+            this.typeName = typeName;
+            this.layer = layer;
+            this.timers = new ConcurrentHashMap<>();
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Method method = invocation.getMethod();
+            if (ReflectionUtils.isObjectMethod(method)) {
+                return invocation.proceed();
+            }
+
+            LatencyTimer timer = timers.computeIfAbsent(method, timedMethod -> metricRegistry.timer(layer.metricName,
+                    layer.description, layer.typeLabel, typeName, METHOD_LABEL, timedMethod.getName()));
+            long startTime = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = invocation.proceed();
+                failed = false;
+                return result;
+            } finally {
+                timer.record(System.nanoTime() - startTime, failed);
+            }
+        }
+    }
+
+    private static class TimedLayer {
+        private final String metricName;
+        private final String description;
+        private final String typeLabel;
+
+        private TimedLayer(String metricName, String description, String typeLabel) {
+            this.metricName = metricName;
+            this.description = description;
+            this.typeLabel = typeLabel;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.epam.esm.service.metric.impl;
+
+import com.epam.esm.service.metric.LatencyTimer;
+import com.epam.esm.service.metric.MetricRegistry;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Keeps timers and gauges by name and labels and writes them in the Prometheus text format. A timer is written as
+ * a histogram of its latency in seconds and a counter of its failures, quantiles are left to histogram_quantile().
+ */
+@Component
+public class MetricRegistryImpl implements MetricRegistry {
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+    private static final int NANOS_SCALE = 9;
+    private static final String SECONDS_SUFFIX = "_seconds";
+    private static final String ERRORS_SUFFIX = "_errors_total";
+    private static final String BUCKET_LABEL = "le";
+    private static final String INFINITE_BOUND = "+Inf";
+    private static final List<String> BUCKET_BOUNDS = formatBucketBounds();
+    private final Map<String, MetricFamily<LatencyTimer>> timerFamilies;
+    private final Map<String, MetricFamily<DoubleSupplier>> gaugeFamilies;
+
+    public MetricRegistryImpl() {
+        timerFamilies = new ConcurrentHashMap<>();
+        gaugeFamilies = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public LatencyTimer timer(String name, String description, String... labels) {
+        return timerFamilies.computeIfAbsent(name, familyName -> new MetricFamily<>(description)).metrics
+                .computeIfAbsent(formatLabels(labels), labelText -> new LatencyTimer());
+    }
+
+    @Override
+    public void gauge(String name, String description, DoubleSupplier value, String... labels) {
+        gaugeFamilies.computeIfAbsent(name, familyName -> new MetricFamily<>(description)).metrics
+                .put(formatLabels(labels), value);
+    }
+
+    @Override
+    public String scrape() {
+        StringBuilder scrape = new StringBuilder();
+        new TreeMap<>(timerFamilies).forEach((name, family) -> writeTimers(scrape, name, family));
+        new TreeMap<>(gaugeFamilies).forEach((name, family) -> writeGauges(scrape, name, family));
+        return scrape.toString();
+    }
+
+    private void writeTimers(StringBuilder scrape, String name, MetricFamily<LatencyTimer> family) {
+        Map<String, LatencyTimer> timers = new TreeMap<>(family.metrics);
+        String latencyName = name + SECONDS_SUFFIX;
+        writeHeader(scrape, latencyName, family.description + " latency in seconds", "histogram");
+        timers.forEach((labelText, timer) -> {
+            long[] cumulativeCounts = timer.getCumulativeCounts();
+            for (int i = 0; i < cumulativeCounts.length; i++) {
+                String bucketLabels = joinLabels(labelText, formatLabels(BUCKET_LABEL, BUCKET_BOUNDS.get(i)));
+                writeSample(scrape, latencyName + "_bucket", bucketLabels, cumulativeCounts[i]);
+            }
+
+            writeSample(scrape, latencyName + "_sum", labelText, timer.getTotalNanos() / NANOS_PER_SECOND);
+            writeSample(scrape, latencyName + "_count", labelText, cumulativeCounts[cumulativeCounts.length - 1]);
+        });
+
+        String errorsName = name + ERRORS_SUFFIX;
+        writeHeader(scrape, errorsName, family.description + " failures", "counter");
+        timers.forEach((labelText, timer) -> writeSample(scrape, errorsName, labelText, timer.getErrorCount()));
+    }
+
+    private void writeGauges(StringBuilder scrape, String name, MetricFamily<DoubleSupplier> family) {
+        writeHeader(scrape, name, family.description, "gauge");
+        new TreeMap<>(family.metrics).forEach((labelText, value) ->
+                writeSample(scrape, name, labelText, value.getAsDouble()));
+    }
+
+    private void writeHeader(StringBuilder scrape, String name, String description, String type) {
+        scrape.append("# HELP ").append(name).append(' ').append(description).append('\n');
+        scrape.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private void writeSample(StringBuilder scrape, String name, String labelText, double value) {
+        scrape.append(name);
+        if (!labelText.isEmpty()) {
+            scrape.append('{').append(labelText).append('}');
+        }
+
+        scrape.append(' ').append(value).append('\n');
+    }
+
+    private String joinLabels(String firstLabelText, String secondLabelText) {
+        return firstLabelText.isEmpty() ? secondLabelText : firstLabelText + ',' + secondLabelText;
+    }
+
+    private String formatLabels(String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as name and value pairs");
+        }
+
+        StringBuilder labelText = new StringBuilder();
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                labelText.append(',');
+            }
+
+            labelText.append(labels[i]).append("=\"").append(escapeLabelValue(labels[i + 1])).append('"');
+        }
+
+        return labelText.toString();
+    }
+
+    private String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static List<String> formatBucketBounds() {
+        List<String> bucketBounds = new ArrayList<>();
+        for (long boundNanos : LatencyTimer.getBucketBoundsNanos()) {
+            bucketBounds.add(BigDecimal.valueOf(boundNanos, NANOS_SCALE).stripTrailingZeros().toPlainString());
+        }
+
+        bucketBounds.add(INFINITE_BOUND);
+        return bucketBounds;
+    }
+
+    private static class MetricFamily<T> {
+        private final String description;
+        private final Map<String, T> metrics;
+
+        private MetricFamily(String description) {
+            this.description = description;
+            this.metrics = new ConcurrentHashMap<>();
+        }
+    }
+}
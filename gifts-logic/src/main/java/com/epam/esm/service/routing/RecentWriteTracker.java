@@ -0,0 +1,9 @@
+package com.epam.esm.service.routing;
+
+public interface RecentWriteTracker {
+    boolean isWriteRecent(long certificateId);
+
+    void requirePrimary();
+
+    boolean isPrimaryRequired();
+}
@@ -0,0 +1,7 @@
+package com.epam.esm.service.routing;
+
+public interface ReplicaReadTracker {
+    void recordReplicaRead();
+
+    boolean isReplicaRead();
+}
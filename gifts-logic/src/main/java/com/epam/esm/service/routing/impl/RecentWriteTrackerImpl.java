@@ -0,0 +1,125 @@
+package com.epam.esm.service.routing.impl;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import com.epam.esm.service.routing.RecentWriteTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Tells whether a certificate was changed within the stickiness window, during which its reads go to the primary so
+ * the change is seen before the replicas catch up. The window is kept per certificate, so a write makes only the
+ * reads of the certificates it touched stick to the primary, and it is opened by the change and once more when its
+ * transaction is finished. A zero window turns the stickiness off.
+ */
+@Component
+public class RecentWriteTrackerImpl implements RecentWriteTracker, CatalogChangeListener {
+    private static final int MAX_TRACKED_CERTIFICATES = 10000;
+    private final long stickyNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Long, Long> lastWriteTimes;
+
+    @Autowired
+    public RecentWriteTrackerImpl(@Value("${replica.sticky.millis:0}") long stickyMillis) {
+        this(stickyMillis, System::nanoTime);
+    }
+
+    RecentWriteTrackerImpl(long stickyMillis, LongSupplier nanoClock) {
+        this.stickyNanos = TimeUnit.MILLISECONDS.toNanos(stickyMillis);
+        this.nanoClock = nanoClock;
+        this.lastWriteTimes = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean isWriteRecent(long certificateId) {
+        Long lastWriteTime = lastWriteTimes.get(certificateId);
+        return lastWriteTime != null && isRecent(lastWriteTime);
+    }
+
+    /**
+     * Marks the running transaction, it has to be called before its first statement as the connection is taken
+     * then. The mark is dropped when the transaction is finished.
+     */
+    @Override
+    public void requirePrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RecentWriteTrackerImpl.this);
+            }
+        });
+    }
+
+    @Override
+    public boolean isPrimaryRequired() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    @Override
+    public void onCertificateSaved(Certificate certificate) {
+        recordWrite(Collections.singletonList(certificate.getId()));
+    }
+
+    @Override
+    public void onCertificateRemoved(long certificateId) {
+        recordWrite(Collections.singletonList(certificateId));
+    }
+
+    @Override
+    public void onTagUpdated(Tag previousTag, Tag updatedTag, List<Long> certificateIds) {
+        recordWrite(certificateIds);
+    }
+
+    @Override
+    public void onTagRemoved(Tag removedTag, List<Long> certificateIds) {
+        recordWrite(certificateIds);
+    }
+
+    private void recordWrite(List<Long> certificateIds) {
+        if (stickyNanos <= 0 || certificateIds.isEmpty()) {
+            return;
+        }
+
+        markWrite(certificateIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    markWrite(certificateIds);
+                }
+            });
+        }
+    }
+
+    /**
+     * Certificates whose window is over are dropped once too many are tracked.
+     */
+    private void markWrite(List<Long> certificateIds) {
+        long writeTime = nanoClock.getAsLong();
+        certificateIds.forEach(certificateId -> lastWriteTimes.put(certificateId, writeTime));
+        if (lastWriteTimes.size() > MAX_TRACKED_CERTIFICATES) {
+            lastWriteTimes.values().removeIf(lastWriteTime -> !isRecent(lastWriteTime));
+        }
+    }
+
+    private boolean isRecent(long lastWriteTime) {
+        return nanoClock.getAsLong() - lastWriteTime < stickyNanos;
+    }
+}
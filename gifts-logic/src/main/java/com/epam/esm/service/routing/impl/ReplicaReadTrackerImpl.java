@@ -0,0 +1,35 @@
+package com.epam.esm.service.routing.impl;
+
+import com.epam.esm.service.routing.ReplicaReadTracker;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Marks the running transaction once its connection is taken from a replica, so the caches do not keep what it
+ * reads: a lagging replica may return rows older than the invalidations the caches have already seen. The mark is
+ * dropped when the transaction is finished.
+ */
+@Component
+public class ReplicaReadTrackerImpl implements ReplicaReadTracker {
+    @Override
+    public void recordReplicaRead() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaReadTrackerImpl.this);
+            }
+        });
+    }
+
+    @Override
+    public boolean isReplicaRead() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+}
@@ -0,0 +1,91 @@
+package com.epam.esm.service.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Violations found in one certificate kept as a bit mask of {@link CertificateViolation}, valid certificates share
+ * a single result.
+ */
+public final class CertificateValidationResult {
+    private static final CertificateValidationResult VALID = new CertificateValidationResult(0);
+    private static final String CAUSE_SEPARATOR = ", ";
+    private final int violationMask;
+
+    private CertificateValidationResult(int violationMask) {
+        this.violationMask = violationMask;
+    }
+
+    public static CertificateValidationResult valid() {
+        return VALID;
+    }
+
+    public static CertificateValidationResult of(int violationMask) {
+        return violationMask == 0 ? VALID : new CertificateValidationResult(violationMask);
+    }
+
+    public boolean isValid() {
+        return violationMask == 0;
+    }
+
+    public boolean hasViolation(CertificateViolation violation) {
+        return (violationMask & violation.getMask()) != 0;
+    }
+
+    public int getViolationMask() {
+        return violationMask;
+    }
+
+    public List<CertificateViolation> getViolations() {
+        if (isValid()) {
+            return Collections.emptyList();
+        }
+
+        List<CertificateViolation> violations = new ArrayList<>();
+        for (CertificateViolation violation : CertificateViolation.values()) {
+            if (hasViolation(violation)) {
+                violations.add(violation);
+            }
+        }
+
+        return violations;
+    }
+
+    /**
+     * Causes of the violations separated by commas in the declaration order.
+     */
+    public String getCause() {
+        StringBuilder cause = new StringBuilder();
+        for (CertificateViolation violation : getViolations()) {
+            if (cause.length() > 0) {
+                cause.append(CAUSE_SEPARATOR);
+            }
+
+            cause.append(violation.getCause());
+        }
+
+        return cause.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CertificateValidationResult that = (CertificateValidationResult) o;
+        return violationMask == that.violationMask;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(violationMask);
+    }
+
+    @Override
+    public String toString() {
+        return "CertificateValidationResult{" +
+                "violations=" + getViolations() +
+                '}';
+    }
+}
@@ -4,4 +4,6 @@ import com.epam.esm.entity.Certificate;
 
 public interface CertificateValidator {
     void validateCertificate(Certificate certificate);
+
+    CertificateValidationResult checkCertificate(Certificate certificate);
 }
@@ -0,0 +1,28 @@
+package com.epam.esm.service.validator;
+
+public enum CertificateViolation {
+    CERTIFICATE("certificate is null"),
+    NAME("name"),
+    DESCRIPTION("description"),
+    PRICE("price"),
+    DURATION("duration"),
+    CREATE_DATE("create date"),
+    LAST_UPDATE_DATE("last update date"),
+    TAGS("tags is null");
+
+    private final String cause;
+    private final int mask;
+
+    CertificateViolation(String cause) {
+        this.cause = cause;
+        this.mask = 1 << ordinal();
+    }
+
+    public String getCause() {
+        return cause;
+    }
+
+    public int getMask() {
+        return mask;
+    }
+}
@@ -3,100 +3,83 @@ package com.epam.esm.service.validator.impl;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.service.exception.InvalidCertificateException;
+import com.epam.esm.service.validator.CertificateValidationResult;
 import com.epam.esm.service.validator.CertificateValidator;
+import com.epam.esm.service.validator.CertificateViolation;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Stateless, the violations of every call are collected in a local bit mask, so the validator may be shared
+ * between threads.
+ */
 @Component
 public class CertificateValidatorImpl implements CertificateValidator {
     private static final BigDecimal MIN_PRICE = new BigDecimal("1");
     private static final BigDecimal MAX_PRICE = new BigDecimal("100000");
     private static final long MIN_DURATION = 7;
     private static final long MAX_DURATION = 365;
-    private List<String> invalidValues;
-
-    public CertificateValidatorImpl() {
-        invalidValues = new ArrayList<>();
-    }
 
     @Override
     public void validateCertificate(Certificate certificate) {
-        if (certificate == null) {
-            throw new InvalidCertificateException("certificate is null");
-        }
-
-        validateName(certificate.getName());
-        validateDescription(certificate.getDescription());
-        validatePrice(certificate.getPrice());
-        validateDuration(certificate.getDuration());
-        validateCreateDate(certificate.getCreateDate());
-        validateLastUpdateDate(certificate.getLastUpdateDate());
-        validateTags(certificate.getTags());
-
-        if (!invalidValues.isEmpty()) {
-            throw new InvalidCertificateException(collectCause(invalidValues));
+        CertificateValidationResult validationResult = checkCertificate(certificate);
+        if (!validationResult.isValid()) {
+            throw new InvalidCertificateException(validationResult.getCause());
         }
     }
 
-    private String collectCause(List<String> invalidParams) {
-        StringBuilder cause = new StringBuilder();
-        for (int i = 0; i < invalidParams.size(); i++) {
-            if (i < invalidParams.size() - 1) {
-                cause.append(invalidParams.get(i)).append(", ");
-            } else {
-                cause.append(invalidParams.get(i));
-            }
+    @Override
+    public CertificateValidationResult checkCertificate(Certificate certificate) {
+        if (certificate == null) {
+            return CertificateValidationResult.of(CertificateViolation.CERTIFICATE.getMask());
         }
 
-        invalidValues = new ArrayList<>();
-        return cause.toString();
+        int violationMask = validateName(certificate.getName())
+                | validateDescription(certificate.getDescription())
+                | validatePrice(certificate.getPrice())
+                | validateDuration(certificate.getDuration())
+                | validateCreateDate(certificate.getCreateDate())
+                | validateLastUpdateDate(certificate.getLastUpdateDate())
+                | validateTags(certificate.getTags());
+
+        return CertificateValidationResult.of(violationMask);
     }
 
-    private void validateTags(List<Tag> tags) {
-        if (tags == null) {
-            invalidValues.add("tags is null");
-        }
+    private int validateTags(List<Tag> tags) {
+        return tags == null ? CertificateViolation.TAGS.getMask() : 0;
     }
 
-    private void validateCreateDate(LocalDateTime createDate) {
-        if (createDate == null) {
-            invalidValues.add("create date");
-        }
+    private int validateCreateDate(LocalDateTime createDate) {
+        return createDate == null ? CertificateViolation.CREATE_DATE.getMask() : 0;
     }
 
-    private void validateLastUpdateDate(LocalDateTime createDate) {
-        if (createDate == null) {
-            invalidValues.add("last update date");
-        }
+    private int validateLastUpdateDate(LocalDateTime lastUpdateDate) {
+        return lastUpdateDate == null ? CertificateViolation.LAST_UPDATE_DATE.getMask() : 0;
     }
 
-    private void validateDuration(short duration) {
-        if (!(duration > MIN_DURATION && duration <= MAX_DURATION)) {
-            invalidValues.add("duration");
-        }
+    private int validateDuration(short duration) {
+        return duration > MIN_DURATION && duration <= MAX_DURATION ? 0 : CertificateViolation.DURATION.getMask();
     }
 
-    private void validateName(String certificateName) {
-        if (!(certificateName != null && !certificateName.isEmpty() && certificateName.length() > 1
-                && certificateName.length() <= 100)) {
-            invalidValues.add("name");
-        }
+    private int validateName(String certificateName) {
+        return certificateName != null && certificateName.length() > 1 && certificateName.length() <= 100
+                ? 0
+                : CertificateViolation.NAME.getMask();
     }
 
-    private void validateDescription(String certificateDescription) {
-        if (!(certificateDescription != null && !certificateDescription.isEmpty()
-                && certificateDescription.length() >= 15 && certificateDescription.length() <= 500)) {
-            invalidValues.add("description");
-        }
+    private int validateDescription(String certificateDescription) {
+        return certificateDescription != null && certificateDescription.length() >= 15
+                && certificateDescription.length() <= 500
+                ? 0
+                : CertificateViolation.DESCRIPTION.getMask();
     }
 
-    private void validatePrice(BigDecimal price) {
-        if (!(price != null && price.compareTo(MAX_PRICE) < 1 && price.compareTo(MIN_PRICE) > -1)) {
-            invalidValues.add("price");
-        }
+    private int validatePrice(BigDecimal price) {
+        return price != null && price.compareTo(MAX_PRICE) < 1 && price.compareTo(MIN_PRICE) > -1
+                ? 0
+                : CertificateViolation.PRICE.getMask();
     }
 }
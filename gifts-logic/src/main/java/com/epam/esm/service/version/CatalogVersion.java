@@ -0,0 +1,13 @@
+package com.epam.esm.service.version;
+
+import java.time.LocalDateTime;
+
+public interface CatalogVersion {
+    EntityVersion getTagsVersion();
+
+    EntityVersion getCertificateVersion(long version, LocalDateTime lastUpdateDate);
+
+    boolean matchesCertificateVersion(long version, String ifMatch);
+
+    long getCatalogGeneration();
+}
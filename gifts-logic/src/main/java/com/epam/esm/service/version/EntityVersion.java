@@ -0,0 +1,68 @@
+package com.epam.esm.service.version;
+
+import java.util.List;
+import java.util.Objects;
+
+public class EntityVersion {
+    private static final String ANY_TAG = "*";
+    private static final String WEAK_TAG_PREFIX = "W/";
+    private static final long NO_DATE = -1;
+    private final String eTag;
+    private final long lastModified;
+
+    public EntityVersion(String eTag, long lastModified) {
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Checks the values of If-None-Match with the weak comparison and, only if there are none, the If-Modified-Since
+     * date. The dates are compared in whole seconds as HTTP dates carry no milliseconds.
+     *
+     * @param ifModifiedSince milliseconds of the If-Modified-Since date or -1 if it is absent
+     */
+    public boolean isNotModified(List<String> ifNoneMatch, long ifModifiedSince) {
+        if (!ifNoneMatch.isEmpty()) {
+            String opaqueTag = toOpaqueTag(eTag);
+            return ifNoneMatch.stream()
+                    .map(String::trim)
+                    .anyMatch(tag -> ANY_TAG.equals(tag) || toOpaqueTag(tag).equals(opaqueTag));
+        }
+
+        return ifModifiedSince != NO_DATE && lastModified / 1000 * 1000 <= ifModifiedSince;
+    }
+
+    private String toOpaqueTag(String tag) {
+        return tag.startsWith(WEAK_TAG_PREFIX) ? tag.substring(WEAK_TAG_PREFIX.length()) : tag;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EntityVersion that = (EntityVersion) o;
+        return lastModified == that.lastModified &&
+                Objects.equals(eTag, that.eTag);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eTag, lastModified);
+    }
+
+    @Override
+    public String toString() {
+        return "EntityVersion{" +
+                "eTag='" + eTag + '\'' +
+                ", lastModified=" + lastModified +
+                '}';
+    }
+}
@@ -0,0 +1,151 @@
+package com.epam.esm.service.version.impl;
+
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.entity.TagCatalogVersion;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import com.epam.esm.service.version.CatalogVersion;
+import com.epam.esm.service.version.EntityVersion;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Versions used as validators for conditional requests and to check cached results. The tags are versioned by
+ * a counter stored in the database and changed in the transaction of the tag change, so every instance of the
+ * application gives the same tag for the same data, before and after a restart.
+ */
+@Component
+public class CatalogVersionImpl implements CatalogVersion, CatalogChangeListener {
+    private static final String ANY_TAG = "*";
+    private static final String TAG_SEPARATOR = ",";
+    private static final String PART_SEPARATOR = "-";
+    private static final char QUOTE = '"';
+    private static final int CERTIFICATE_TAG_PART_COUNT = 2;
+    private final TagDao tagDao;
+    private final AtomicLong catalogGeneration;
+
+    @Autowired
+    public CatalogVersionImpl(TagDao tagDao) {
+        this.tagDao = tagDao;
+        catalogGeneration = new AtomicLong();
+    }
+
+    @Override
+    public EntityVersion getTagsVersion() {
+        TagCatalogVersion tagsVersion = tagDao.findCatalogVersion();
+        return new EntityVersion(quote(Long.toHexString(tagsVersion.getVersion())),
+                toMillis(tagsVersion.getLastUpdateDate()));
+    }
+
+    /**
+     * Certificates contain tag names, so their version changes together with the tags as well. The stored version
+     * of the certificate is changed by every update, even by two within the same millisecond.
+     */
+    @Override
+    public EntityVersion getCertificateVersion(long version, LocalDateTime lastUpdateDate) {
+        TagCatalogVersion tagsVersion = tagDao.findCatalogVersion();
+        return new EntityVersion(quote(Long.toHexString(tagsVersion.getVersion()) + PART_SEPARATOR
+                + Long.toHexString(version)), Math.max(toMillis(lastUpdateDate),
+                toMillis(tagsVersion.getLastUpdateDate())));
+    }
+
+    /**
+     * Checks the value of an If-Match header against the stored version of the certificate only, which is the last
+     * part of its tag. The tags part serves the conditional reads, so a tag change does not fail an update of
+     * a certificate nobody else has written. Weak tags never match and an absent header matches any version.
+     */
+    @Override
+    public boolean matchesCertificateVersion(long version, String ifMatch) {
+        if (ifMatch == null || ANY_TAG.equals(ifMatch.trim())) {
+            return true;
+        }
+
+        String versionPart = Long.toHexString(version);
+        for (String tag : ifMatch.split(TAG_SEPARATOR)) {
+            String trimmedTag = tag.trim();
+            if (trimmedTag.length() < 2 || trimmedTag.charAt(0) != QUOTE
+                    || trimmedTag.charAt(trimmedTag.length() - 1) != QUOTE) {
+                continue;
+            }
+
+            String[] parts = trimmedTag.substring(1, trimmedTag.length() - 1).split(PART_SEPARATOR);
+            if (parts.length == CERTIFICATE_TAG_PART_COUNT && parts[CERTIFICATE_TAG_PART_COUNT - 1]
+                    .equals(versionPart)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public long getCatalogGeneration() {
+        return catalogGeneration.get();
+    }
+
+    @Override
+    public void onCertificateSaved(Certificate certificate) {
+        changeCatalog();
+    }
+
+    @Override
+    public void onCertificateRemoved(long certificateId) {
+        changeCatalog();
+    }
+
+    @Override
+    public void onTagAdded(Tag tag) {
+        changeTags();
+    }
+
+    @Override
+    public void onTagUpdated(Tag previousTag, Tag updatedTag, List<Long> certificateIds) {
+        changeTags();
+    }
+
+    @Override
+    public void onTagRemoved(Tag removedTag, List<Long> certificateIds) {
+        changeTags();
+    }
+
+    /**
+     * The stored version is changed in the transaction of the tag change, it is seen by the others only when the
+     * change is committed and is rolled back together with it.
+     */
+    private void changeTags() {
+        changeCatalog();
+        tagDao.incrementCatalogVersion();
+    }
+
+    /**
+     * The catalog generation is changed at once and once more when the transaction is finished, so results read
+     * before the commit are not taken for the current ones.
+     */
+    private void changeCatalog() {
+        catalogGeneration.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    catalogGeneration.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    private long toMillis(LocalDateTime date) {
+        return date.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String quote(String value) {
+        return QUOTE + value + QUOTE;
+    }
+}
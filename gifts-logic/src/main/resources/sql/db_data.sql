@@ -1,4 +1,4 @@
-INSERT INTO `gift_certificate`
+INSERT INTO `gift_certificate` (id, name, description, price, duration, create_date, last_update_date)
 VALUES (101, 'TattooLand', 'The certificate allows to you make a tattoo', 125.00, 92, '2022-01-20 21:00:00',
         '2022-04-20 21:00:00'),
        (102, 'Jump park', 'Free jumps at trampolines', 35.00, 30, '2022-03-15 21:30:00', '2022-06-15 21:30:00'),
@@ -16,6 +16,7 @@ CREATE TABLE gift_certificate
     duration         smallint       NOT NULL,
     create_date      datetime       NOT NULL,
     last_update_date datetime       NOT NULL,
+    version          bigint         NOT NULL DEFAULT 0,
     PRIMARY KEY (id)
 );
 
@@ -23,6 +24,24 @@ CREATE TABLE gift_tags
 (
     certificate_id bigint NOT NULL,
     tag_id         bigint NOT NULL,
+    PRIMARY KEY (certificate_id, tag_id),
     CONSTRAINT gift_tags_gift_certificate FOREIGN KEY (certificate_id) REFERENCES gift_certificate (id),
     CONSTRAINT gift_tags_tag FOREIGN KEY (tag_id) REFERENCES tag (id)
-)
\ No newline at end of file
+);
+
+CREATE TABLE tag_catalog_version
+(
+    id               smallint NOT NULL,
+    version          bigint   NOT NULL DEFAULT 0,
+    last_update_date datetime NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO tag_catalog_version (id, version, last_update_date)
+VALUES (1, 0, CURRENT_TIMESTAMP);
+
+CREATE UNIQUE INDEX tag_name ON tag (name);
+
+CREATE INDEX gift_certificate_create_date ON gift_certificate (create_date, id);
+
+CREATE INDEX gift_certificate_last_update_date ON gift_certificate (last_update_date, id)
\ No newline at end of file
@@ -0,0 +1,8 @@
+ALTER TABLE gift_tags
+    ADD PRIMARY KEY (certificate_id, tag_id);
+
+CREATE UNIQUE INDEX tag_name ON tag (name);
+
+CREATE INDEX gift_certificate_create_date ON gift_certificate (create_date, id);
+
+CREATE INDEX gift_certificate_last_update_date ON gift_certificate (last_update_date, id);
@@ -0,0 +1,2 @@
+-- MySQL only, used when search.description.fulltext.enabled is set
+CREATE FULLTEXT INDEX gift_certificate_description ON gift_certificate (description);
@@ -0,0 +1,10 @@
+CREATE TABLE tag_catalog_version
+(
+    id               smallint NOT NULL,
+    version          bigint   NOT NULL DEFAULT 0,
+    last_update_date datetime NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO tag_catalog_version (id, version, last_update_date)
+VALUES (1, 0, CURRENT_TIMESTAMP);
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.epam.esm.dao;
+
+import com.epam.esm.config.TestSpringConfig;
+import com.epam.esm.dao.query.CertificateQuery;
+import com.epam.esm.dao.query.CertificateQueryBuilder;
+import com.epam.esm.dao.query.CertificateSortField;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {TestSpringConfig.class})
+class SchemaIndexTest {
+    private static final String EXPLAIN = "EXPLAIN ";
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void findTagByNameUsesIndexTest() {
+        String plan = explain("SELECT tag.id AS tag_id, tag.name AS tag_name FROM tag WHERE tag.name = ?", "Jumps");
+        Assertions.assertTrue(plan.contains("PUBLIC.TAG_NAME"), plan);
+    }
+
+    @Test
+    void findTagsByNamesUsesIndexTest() {
+        String plan = explain("SELECT tag.id AS tag_id, tag.name AS tag_name FROM tag WHERE tag.name IN (?, ?)",
+                "Jumps", "Tattoo");
+        Assertions.assertTrue(plan.contains("PUBLIC.TAG_NAME"), plan);
+    }
+
+    @Test
+    void findCertificateTagIdsUsesPrimaryKeyTest() {
+        String plan = explain("SELECT gift_tags.tag_id FROM gift_tags WHERE gift_tags.certificate_id = ?", 102);
+        Assertions.assertTrue(plan.contains("PUBLIC.PRIMARY_KEY"), plan);
+    }
+
+    @Test
+    void sortByCreateDateUsesIndexTest() {
+        CertificateQuery query = new CertificateQueryBuilder()
+                .sortBy(CertificateSortField.CREATE_DATE, true)
+                .build();
+        String plan = explain("SELECT gift_certificate.id FROM gift_certificate" + query.getOrderByClause()
+                + " LIMIT ?", 10);
+        Assertions.assertTrue(plan.contains("PUBLIC.GIFT_CERTIFICATE_CREATE_DATE"), plan);
+        Assertions.assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void sortByLastUpdateDateUsesIndexTest() {
+        CertificateQuery query = new CertificateQueryBuilder()
+                .sortBy(CertificateSortField.LAST_UPDATE_DATE, true)
+                .build();
+        String plan = explain("SELECT gift_certificate.id FROM gift_certificate" + query.getOrderByClause()
+                + " LIMIT ?", 10);
+        Assertions.assertTrue(plan.contains("PUBLIC.GIFT_CERTIFICATE_LAST_UPDATE_DATE"), plan);
+        Assertions.assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    void filterByLastUpdateDateUsesIndexTest() {
+        String plan = explain("SELECT gift_certificate.id FROM gift_certificate" +
+                " WHERE gift_certificate.last_update_date > ?", LocalDateTime.parse("2022-05-01T00:00"));
+        Assertions.assertTrue(plan.contains("PUBLIC.GIFT_CERTIFICATE_LAST_UPDATE_DATE"), plan);
+    }
+
+    @Test
+    void duplicateTagNameTest() {
+        Assertions.assertThrows(DuplicateKeyException.class,
+                () -> jdbcTemplate.update("INSERT INTO tag (name) VALUES (?)", "Swimming"));
+    }
+
+    @Test
+    void duplicateCertificateTagTest() {
+        Assertions.assertThrows(DuplicateKeyException.class,
+                () -> jdbcTemplate.update("INSERT INTO gift_tags (certificate_id, tag_id) VALUES (?, ?)", 102, 102));
+    }
+
+    private String explain(String sql, Object... arguments) {
+        return jdbcTemplate.queryForObject(EXPLAIN + sql, String.class, arguments);
+    }
+}
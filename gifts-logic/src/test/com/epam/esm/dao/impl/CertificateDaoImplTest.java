@@ -1,6 +1,8 @@
 package com.epam.esm.dao.impl;
 
 import com.epam.esm.config.TestSpringConfig;
+import com.epam.esm.dao.query.CertificateQuery;
+import com.epam.esm.dao.query.CertificateQueryBuilder;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
 import org.junit.jupiter.api.Assertions;
@@ -13,8 +15,14 @@ import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = {TestSpringConfig.class})
@@ -32,7 +40,7 @@ class CertificateDaoImplTest {
 
         testCertificate = new Certificate(1, "Test", "Test certificate",
                 new BigDecimal("100.00"), (short) 61, LocalDateTime.parse("2022-03-15T21:30"),
-                LocalDateTime.parse("2022-06-15T21:30"));
+                LocalDateTime.parse("2022-06-15T21:30"), new ArrayList<>());
         firstTestCertificate = new Certificate(102, "Jump park", "Free jumps at trampolines",
                 new BigDecimal("35.00"), (short) 30, LocalDateTime.parse("2022-03-15T21:30"),
                 LocalDateTime.parse("2022-06-15T21:30"), Arrays.asList(firstTestTag, secondTestTag));
@@ -43,7 +51,8 @@ class CertificateDaoImplTest {
 
     @Test
     void addCertificateTest() {
-        Assertions.assertTrue(certificateDao.add(testCertificate));
+        long addedCertificateId = certificateDao.add(testCertificate);
+        Assertions.assertEquals(testCertificate.getName(), certificateDao.findById(addedCertificateId).get().getName());
     }
 
     @Test
@@ -51,15 +60,113 @@ class CertificateDaoImplTest {
         Assertions.assertEquals(certificateDao.findById(102).get(), firstTestCertificate);
     }
 
+    @Test
+    void findVersionByIdTest() {
+        Certificate certificateVersion = certificateDao.findVersionById(102).get();
+        Assertions.assertEquals(firstTestCertificate.getLastUpdateDate(), certificateVersion.getLastUpdateDate());
+        Assertions.assertEquals(firstTestCertificate.getVersion(), certificateVersion.getVersion());
+        Assertions.assertEquals(Optional.empty(), certificateDao.findVersionById(-1));
+    }
+
     @Test
     void findCertificateByNameTest() {
         Assertions.assertEquals(certificateDao.findByName("Jump park").get(), firstTestCertificate);
     }
 
+    @Test
+    void findAllWithoutTagsTest() {
+        List<Certificate> certificates = certificateDao.findAllWithoutTags();
+        Certificate foundCertificate = certificates.stream()
+                .filter(certificate -> certificate.getId() == 102)
+                .findFirst()
+                .get();
+
+        Assertions.assertEquals(firstTestCertificate.getName(), foundCertificate.getName());
+        Assertions.assertEquals(firstTestCertificate.getDescription(), foundCertificate.getDescription());
+        Assertions.assertTrue(foundCertificate.getTags().isEmpty());
+        Assertions.assertTrue(certificates.size() >= 3);
+    }
+
+    @Test
+    void findAllTest() {
+        List<Certificate> certificates = certificateDao.findAll();
+        List<Long> certificateIds = certificates.stream()
+                .map(Certificate::getId)
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(certificateIds.stream().sorted().distinct().collect(Collectors.toList()), certificateIds);
+        Assertions.assertTrue(certificates.size() >= 3);
+        Assertions.assertTrue(certificates.contains(firstTestCertificate));
+    }
+
+    @Test
+    void findAllQueryTest() {
+        List<Certificate> certificates = certificateDao.findAll(new CertificateQueryBuilder().build());
+
+        Assertions.assertEquals(certificates.size(), certificates.stream()
+                .map(Certificate::getId)
+                .distinct()
+                .count());
+        Assertions.assertTrue(certificates.size() >= 3);
+        Assertions.assertTrue(certificates.contains(firstTestCertificate));
+    }
+
+    @Test
+    void streamAllQueryTest() {
+        List<Certificate> certificates = new ArrayList<>();
+        certificateDao.findAll(new CertificateQueryBuilder().build(), certificates::add);
+
+        Assertions.assertEquals(Arrays.asList(101L, 102L, 103L), certificates.stream()
+                .map(Certificate::getId)
+                .filter(id -> id > 100 && id < 104)
+                .collect(Collectors.toList()));
+        Assertions.assertTrue(certificates.contains(firstTestCertificate));
+        Assertions.assertTrue(certificates.stream()
+                .filter(certificate -> certificate.getId() == 103)
+                .allMatch(certificate -> certificate.getTags().isEmpty()));
+    }
+
+    @Test
+    void streamPageQueryTest() {
+        List<Certificate> certificates = new ArrayList<>();
+        certificateDao.findAll(new CertificateQueryBuilder().withNamePart("park").limit(1).build(), certificates::add);
+
+        Assertions.assertEquals(Collections.singletonList(firstTestCertificate), certificates);
+    }
+
+    @Test
+    void findAllByTagNameQueryTest() {
+        CertificateQuery query = new CertificateQueryBuilder().withTagName("jumps").build();
+        Assertions.assertEquals(Collections.singletonList(firstTestCertificate), certificateDao.findAll(query));
+    }
+
+    @Test
+    void findAllByUnknownNamePartQueryTest() {
+        CertificateQuery query = new CertificateQueryBuilder().withNamePart("100%").build();
+        Assertions.assertTrue(certificateDao.findAll(query).isEmpty());
+    }
+
+    @Test
+    void findPageQueryTest() {
+        CertificateQuery query = new CertificateQueryBuilder().withTagName("Jumps").limit(1).build();
+        Assertions.assertEquals(Collections.singletonList(firstTestCertificate), certificateDao.findAll(query));
+    }
+
     @Test
     void updateTagTest() {
         secondTestCertificate.setName("Tattoo");
         Assertions.assertTrue(certificateDao.update(secondTestCertificate));
+        Assertions.assertEquals(secondTestCertificate.getVersion() + 1,
+                certificateDao.findVersionById(101).get().getVersion());
+    }
+
+    @Test
+    void updateOutdatedCertificateTest() {
+        Certificate outdatedCertificate = new Certificate(firstTestCertificate);
+        outdatedCertificate.setVersion(firstTestCertificate.getVersion() - 1);
+        outdatedCertificate.setName("Trampoline park");
+        Assertions.assertFalse(certificateDao.update(outdatedCertificate));
+        Assertions.assertEquals(firstTestCertificate, certificateDao.findById(102).get());
     }
 
     @Test
@@ -68,8 +175,45 @@ class CertificateDaoImplTest {
     }
 
     @Test
-    void addTagToCertificateTest() {
-        Assertions.assertTrue(certificateDao.addTagToCertificate(101, 103));
+    void addTagsToCertificateTest() {
+        Certificate linkedCertificate = new Certificate(0, "Karting", "Karting race for two persons",
+                new BigDecimal("40.00"), (short) 30, LocalDateTime.parse("2022-03-15T21:30"),
+                LocalDateTime.parse("2022-06-15T21:30"), new ArrayList<>());
+        long linkedCertificateId = certificateDao.add(linkedCertificate);
+        certificateDao.addTagsToCertificate(linkedCertificateId, Arrays.asList(101L, 104L));
+        List<Long> linkedTagIds = certificateDao.findCertificateTagIds(linkedCertificateId);
+        certificateDao.clearCertificateTags(linkedCertificateId);
+        certificateDao.remove(linkedCertificateId);
+
+        Assertions.assertEquals(2, linkedTagIds.size());
+        Assertions.assertTrue(linkedTagIds.containsAll(Arrays.asList(101L, 104L)));
+    }
+
+    @Test
+    void addAllCertificatesTest() {
+        Certificate firstCertificate = new Certificate(0, "Bowling", "Bowling game for a company",
+                new BigDecimal("50.00"), (short) 30, LocalDateTime.parse("2022-03-15T21:30"),
+                LocalDateTime.parse("2022-06-15T21:30"), new ArrayList<>());
+        Certificate secondCertificate = new Certificate(0, "Quest room", "Quest room for four persons",
+                new BigDecimal("60.00"), (short) 30, LocalDateTime.parse("2022-03-15T21:30"),
+                LocalDateTime.parse("2022-06-15T21:30"), new ArrayList<>());
+        certificateDao.addAll(Arrays.asList(firstCertificate, secondCertificate));
+        Map<String, Long> certificateIds = certificateDao.findIdsByNames(Arrays.asList("Bowling", "Quest room",
+                "Unknown"));
+        Map<Long, List<Long>> certificateTagIds = new HashMap<>();
+        certificateTagIds.put(certificateIds.get("Bowling"), Arrays.asList(101L, 104L));
+        certificateTagIds.put(certificateIds.get("Quest room"), Collections.singletonList(104L));
+        certificateDao.addTagsToCertificates(certificateTagIds);
+        List<Long> firstCertificateTagIds = certificateDao.findCertificateTagIds(certificateIds.get("Bowling"));
+        List<Long> secondCertificateTagIds = certificateDao.findCertificateTagIds(certificateIds.get("Quest room"));
+        certificateIds.values().forEach(certificateId -> {
+            certificateDao.clearCertificateTags(certificateId);
+            certificateDao.remove(certificateId);
+        });
+
+        Assertions.assertEquals(2, certificateIds.size());
+        Assertions.assertTrue(firstCertificateTagIds.containsAll(Arrays.asList(101L, 104L)));
+        Assertions.assertEquals(Collections.singletonList(104L), secondCertificateTagIds);
     }
 
     @Test
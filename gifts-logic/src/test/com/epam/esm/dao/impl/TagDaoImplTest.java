@@ -2,6 +2,7 @@ package com.epam.esm.dao.impl;
 
 import com.epam.esm.config.TestSpringConfig;
 import com.epam.esm.entity.Tag;
+import com.epam.esm.entity.TagCatalogVersion;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,7 +12,9 @@ import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @ExtendWith(SpringExtension.class)
 @ContextConfiguration(classes = {TestSpringConfig.class})
@@ -38,7 +41,8 @@ class TagDaoImplTest {
 
     @Test
     void addTagTest() {
-        Assertions.assertTrue(tagDao.add(firstTestTag));
+        long addedTagId = tagDao.add(firstTestTag);
+        Assertions.assertEquals(firstTestTag.getName(), tagDao.findById(addedTagId).get().getName());
     }
 
     @Test
@@ -56,6 +60,40 @@ class TagDaoImplTest {
         Assertions.assertEquals(tagDao.findByName("Tattoo").get(), secondTestTag);
     }
 
+    @Test
+    void findAllByNamesTest() {
+        Assertions.assertEquals(Collections.singletonList(thirdTestTag),
+                tagDao.findAllByNames(Arrays.asList("Entertainment", "Banana")));
+    }
+
+    @Test
+    void addAllTest() {
+        tagDao.addAll(Arrays.asList(new Tag("Quests"), new Tag("Karting")));
+        List<Tag> addedTags = tagDao.findAllByNames(Arrays.asList("Quests", "Karting"));
+        addedTags.forEach(tag -> tagDao.remove(tag.getId()));
+
+        Assertions.assertEquals(2, addedTags.size());
+    }
+
+    @Test
+    void findAllTagCertificateIdsTest() {
+        Map<String, List<Long>> certificateIdsByTagName = tagDao.findAllTagCertificateIds();
+
+        Assertions.assertEquals(Collections.singletonList(102L), certificateIdsByTagName.get("Jumps"));
+        Assertions.assertEquals(Collections.singletonList(102L), certificateIdsByTagName.get("Entertainment"));
+        Assertions.assertFalse(certificateIdsByTagName.containsKey("Swimming"));
+    }
+
+    @Test
+    void incrementCatalogVersionTest() {
+        TagCatalogVersion startVersion = tagDao.findCatalogVersion();
+        tagDao.incrementCatalogVersion();
+        TagCatalogVersion changedVersion = tagDao.findCatalogVersion();
+
+        Assertions.assertEquals(startVersion.getVersion() + 1, changedVersion.getVersion());
+        Assertions.assertFalse(changedVersion.getLastUpdateDate().isBefore(startVersion.getLastUpdateDate()));
+    }
+
     @Test
     void findByIdWithInvalidNameTest() {
         Assertions.assertFalse(tagDao.findByName("Banana").isPresent());
@@ -0,0 +1,109 @@
+package com.epam.esm.dao.profiler.impl;
+
+import com.epam.esm.dao.profiler.StatementProfiler;
+import com.epam.esm.dao.profiler.StatementStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ProfilingDataSourceTest {
+    private static final String INSERT_SQL = "INSERT INTO profiled (name) VALUES (?)";
+    private static final long CONSUMER_DELAY_MILLIS = 200;
+    private static final String SELECT_SQL = "SELECT name FROM profiled WHERE name LIKE ?";
+    private EmbeddedDatabase database;
+    private StatementProfilerImpl statementProfiler;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        statementProfiler = new StatementProfilerImpl(60_000, 100);
+        jdbcTemplate = new JdbcTemplate(new ProfilingDataSource(database, statementProfiler));
+        jdbcTemplate.execute("CREATE TABLE profiled (name VARCHAR(20))");
+        statementProfiler.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void updateTest() {
+        jdbcTemplate.update(INSERT_SQL, "Jumps");
+
+        StatementStatistics statement = statementProfiler.findMostExpensiveStatements(1).get(0);
+        Assertions.assertEquals(INSERT_SQL, statement.getSql());
+        Assertions.assertEquals(1, statement.getExecutionCount());
+        Assertions.assertEquals(1, statement.getRowCount());
+    }
+
+    @Test
+    void batchUpdateTest() {
+        jdbcTemplate.batchUpdate(INSERT_SQL, Arrays.asList(new Object[]{"Jumps"}, new Object[]{"Fly"}));
+
+        StatementStatistics statement = statementProfiler.findMostExpensiveStatements(1).get(0);
+        Assertions.assertEquals(1, statement.getExecutionCount());
+        Assertions.assertEquals(2, statement.getRowCount());
+    }
+
+    @Test
+    void queryTest() {
+        jdbcTemplate.batchUpdate(INSERT_SQL, Arrays.asList(new Object[]{"Jumps"}, new Object[]{"Jump park"},
+                new Object[]{"Fly"}));
+        statementProfiler.reset();
+
+        List<String> names = jdbcTemplate.queryForList(SELECT_SQL, String.class, "Jump%");
+
+        StatementStatistics statement = statementProfiler.findMostExpensiveStatements(1).get(0);
+        Assertions.assertEquals(Arrays.asList("Jumps", "Jump park"), names);
+        Assertions.assertEquals(SELECT_SQL, statement.getSql());
+        Assertions.assertEquals(2, statement.getRowCount());
+        Assertions.assertEquals(28, statement.getByteCount());
+    }
+
+    @Test
+    void slowConsumerTest() {
+        jdbcTemplate.batchUpdate(INSERT_SQL, Arrays.asList(new Object[]{"Jumps"}, new Object[]{"Fly"}));
+        statementProfiler.reset();
+
+        jdbcTemplate.query(SELECT_SQL, resultSet -> {
+            try {
+                Thread.sleep(CONSUMER_DELAY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "%");
+
+        StatementStatistics statement = statementProfiler.findMostExpensiveStatements(1).get(0);
+        Assertions.assertEquals(2, statement.getRowCount());
+        Assertions.assertTrue(statement.getMaxMillis() < CONSUMER_DELAY_MILLIS);
+    }
+
+    @Test
+    void parametersTest() {
+        StatementProfiler parametersProfiler = mock(StatementProfiler.class);
+        new JdbcTemplate(new ProfilingDataSource(database, parametersProfiler)).queryForList(SELECT_SQL, String.class,
+                "Jump%");
+
+        verify(parametersProfiler).record(eq(SELECT_SQL), eq(Collections.singletonList("Jump%")), anyLong(),
+                eq(0L), eq(0L));
+    }
+}
@@ -0,0 +1,58 @@
+package com.epam.esm.dao.profiler.impl;
+
+import com.epam.esm.dao.profiler.StatementStatistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+class StatementProfilerImplTest {
+    private static final String FIRST_SQL = "SELECT * FROM tag WHERE id = ?";
+    private static final String SECOND_SQL = "SELECT * FROM tag";
+    private StatementProfilerImpl statementProfiler;
+
+    @BeforeEach
+    void setUp() {
+        statementProfiler = new StatementProfilerImpl(1000, 2);
+    }
+
+    @Test
+    void recordTest() {
+        statementProfiler.record(FIRST_SQL, Collections.singletonList(1L), 3_000_000, 1, 20);
+        statementProfiler.record(FIRST_SQL, Collections.singletonList(2L), 5_000_000, 0, 0);
+
+        Assertions.assertEquals(Collections.singletonList(new StatementStatistics(FIRST_SQL, 2, 8_000_000,
+                5_000_000, 1, 20)), statementProfiler.findMostExpensiveStatements(10));
+    }
+
+    @Test
+    void findMostExpensiveStatementsTest() {
+        statementProfiler.record(FIRST_SQL, Collections.singletonList(1L), 1_000_000, 1, 20);
+        statementProfiler.record(SECOND_SQL, Collections.emptyList(), 4_000_000, 4, 80);
+
+        List<StatementStatistics> statements = statementProfiler.findMostExpensiveStatements(1);
+        Assertions.assertEquals(1, statements.size());
+        Assertions.assertEquals(SECOND_SQL, statements.get(0).getSql());
+    }
+
+    @Test
+    void maxStatementCountTest() {
+        statementProfiler.record(FIRST_SQL, Collections.emptyList(), 1_000_000, 1, 20);
+        statementProfiler.record(SECOND_SQL, Collections.emptyList(), 1_000_000, 1, 20);
+        statementProfiler.record("DELETE FROM tag", Collections.emptyList(), 9_000_000, 1, 0);
+
+        List<StatementStatistics> statements = statementProfiler.findMostExpensiveStatements(10);
+        Assertions.assertEquals(2, statements.size());
+        Assertions.assertTrue(statements.stream().noneMatch(statement -> statement.getSql().startsWith("DELETE")));
+    }
+
+    @Test
+    void resetTest() {
+        statementProfiler.record(FIRST_SQL, Collections.emptyList(), 1_000_000, 1, 20);
+        statementProfiler.reset();
+
+        Assertions.assertTrue(statementProfiler.findMostExpensiveStatements(10).isEmpty());
+    }
+}
@@ -0,0 +1,58 @@
+package com.epam.esm.dao.query;
+
+import com.epam.esm.entity.Certificate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class CertificateCursorTest {
+    private Certificate testCertificate;
+    private List<CertificateSortOrder> sortOrders;
+
+    @BeforeEach
+    void setUp() {
+        testCertificate = new Certificate(5, "Jump park", "Free jumps for your health!",
+                new BigDecimal("30"), (short) 30, LocalDateTime.of(2021, 1, 10, 13, 5, 7),
+                LocalDateTime.of(2021, 2, 10, 13, 5, 7), new ArrayList<>());
+        sortOrders = Arrays.asList(new CertificateSortOrder(CertificateSortField.CREATE_DATE, false),
+                new CertificateSortOrder(CertificateSortField.NAME, true));
+    }
+
+    @Test
+    void encodeDecodeTest() {
+        CertificateCursor cursor = CertificateCursor.of(sortOrders, testCertificate);
+        CertificateCursor decodedCursor = CertificateCursor.decode(cursor.encode());
+
+        Assertions.assertEquals(cursor, decodedCursor);
+        Assertions.assertEquals(testCertificate.getCreateDate(), decodedCursor.getValue(0));
+        Assertions.assertEquals("JUMP PARK", decodedCursor.getValue(1));
+        Assertions.assertEquals(5, decodedCursor.getCertificateId());
+    }
+
+    @Test
+    void compatibilityTest() {
+        CertificateCursor cursor = CertificateCursor.of(sortOrders, testCertificate);
+
+        Assertions.assertTrue(cursor.isCompatibleWith(sortOrders));
+        Assertions.assertFalse(cursor.isCompatibleWith(Collections.emptyList()));
+    }
+
+    @Test
+    void decodeInvalidCursorTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CertificateCursor.decode("apple"));
+    }
+
+    @Test
+    void decodeTruncatedCursorTest() {
+        String encodedCursor = CertificateCursor.of(sortOrders, testCertificate).encode();
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CertificateCursor.decode(encodedCursor.substring(0, encodedCursor.length() - 4)));
+    }
+}
@@ -0,0 +1,118 @@
+package com.epam.esm.dao.query;
+
+import com.epam.esm.entity.Certificate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+class CertificateQueryBuilderTest {
+    private CertificateQueryBuilder queryBuilder;
+
+    @BeforeEach
+    void setUp() {
+        queryBuilder = new CertificateQueryBuilder();
+    }
+
+    @Test
+    void buildEmptyQueryTest() {
+        CertificateQuery query = queryBuilder.build();
+
+        Assertions.assertEquals("", query.getWhereClause());
+        Assertions.assertEquals(" ORDER BY gift_certificate.id ASC", query.getOrderByClause());
+        Assertions.assertEquals(0, query.getArguments().length);
+    }
+
+    @Test
+    void buildFilterQueryTest() {
+        CertificateQuery query = queryBuilder
+                .withTagName("Jumps")
+                .withNamePart("park")
+                .build();
+
+        Assertions.assertEquals(" WHERE gift_certificate.id IN (SELECT gift_tags.certificate_id FROM gift_tags" +
+                " JOIN tag ON gift_tags.tag_id = tag.id WHERE UPPER(tag.name) = ?)" +
+                " AND UPPER(gift_certificate.name) LIKE ? ESCAPE '!'", query.getWhereClause());
+        Assertions.assertArrayEquals(new Object[]{"JUMPS", "%PARK%"}, query.getArguments());
+    }
+
+    @Test
+    void buildTagNamesQueryTest() {
+        CertificateQuery query = queryBuilder
+                .withAnyTagName(Arrays.asList("Jumps", "Fly"))
+                .withCertificateIds(new long[]{1, 2})
+                .build();
+
+        Assertions.assertEquals(" WHERE gift_certificate.id IN (SELECT gift_tags.certificate_id FROM gift_tags" +
+                " JOIN tag ON gift_tags.tag_id = tag.id WHERE UPPER(tag.name) IN (?, ?))" +
+                " AND gift_certificate.id IN (?, ?)", query.getWhereClause());
+        Assertions.assertArrayEquals(new Object[]{"JUMPS", "FLY", 1L, 2L}, query.getArguments());
+    }
+
+    @Test
+    void buildFullTextQueryTest() {
+        CertificateQuery query = new CertificateQueryBuilder(true)
+                .withDescriptionPart("ee jumps at the trampol")
+                .build();
+
+        Assertions.assertEquals(" WHERE MATCH (gift_certificate.description) AGAINST (? IN BOOLEAN MODE)" +
+                " AND UPPER(gift_certificate.description) LIKE ? ESCAPE '!'", query.getWhereClause());
+        Assertions.assertArrayEquals(new Object[]{"+jumps +trampol*", "%EE JUMPS AT THE TRAMPOL%"},
+                query.getArguments());
+    }
+
+    @Test
+    void buildFullTextQueryWithinWordTest() {
+        CertificateQuery query = new CertificateQueryBuilder(true).withDescriptionPart("ampoli").build();
+
+        Assertions.assertEquals(" WHERE UPPER(gift_certificate.description) LIKE ? ESCAPE '!'",
+                query.getWhereClause());
+    }
+
+    @Test
+    void escapeLikeWildcardsTest() {
+        CertificateQuery query = queryBuilder.withDescriptionPart("50%_off!").build();
+        Assertions.assertArrayEquals(new Object[]{"%50!%!_OFF!!%"}, query.getArguments());
+    }
+
+    @Test
+    void lastSortBecomesPrimaryTest() {
+        CertificateQuery query = queryBuilder
+                .sortBy(CertificateSortField.NAME, true)
+                .sortBy(CertificateSortField.CREATE_DATE, false)
+                .build();
+
+        Assertions.assertEquals(" ORDER BY gift_certificate.create_date DESC, UPPER(gift_certificate.name) ASC," +
+                " gift_certificate.id DESC", query.getOrderByClause());
+    }
+
+    @Test
+    void buildSeekQueryTest() {
+        Certificate lastCertificate = new Certificate(7, "Jump park", "Free jumps for your health!",
+                new BigDecimal("30"), (short) 30, LocalDateTime.of(2021, 1, 10, 13, 5, 7),
+                LocalDateTime.of(2021, 1, 10, 13, 5, 7), new ArrayList<>());
+        queryBuilder.sortBy(CertificateSortField.NAME, false);
+        CertificateCursor cursor = CertificateCursor.of(queryBuilder.getSortOrders(), lastCertificate);
+        CertificateQuery query = queryBuilder.seekAfter(cursor).limit(20).build();
+
+        Assertions.assertEquals(" WHERE ((UPPER(gift_certificate.name) < ?) OR (UPPER(gift_certificate.name) = ?" +
+                " AND gift_certificate.id < ?))", query.getWhereClause());
+        Assertions.assertArrayEquals(new Object[]{"JUMP PARK", "JUMP PARK", 7L}, query.getArguments());
+        Assertions.assertEquals(20, query.getLimit());
+    }
+
+    @Test
+    void seekWithIncompatibleCursorTest() {
+        Certificate lastCertificate = new Certificate(7, "Jump park", "Free jumps for your health!",
+                new BigDecimal("30"), (short) 30, LocalDateTime.of(2021, 1, 10, 13, 5, 7),
+                LocalDateTime.of(2021, 1, 10, 13, 5, 7), new ArrayList<>());
+        CertificateCursor cursor = CertificateCursor.of(queryBuilder.getSortOrders(), lastCertificate);
+        queryBuilder.sortBy(CertificateSortField.NAME, true).seekAfter(cursor);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> queryBuilder.build());
+    }
+}
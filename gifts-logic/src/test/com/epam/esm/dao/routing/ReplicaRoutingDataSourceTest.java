@@ -0,0 +1,128 @@
+package com.epam.esm.dao.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+    private static final String PRIMARY_NAME = "primary";
+    private static final String REPLICA_NAME = "replica";
+    private static final String FIND_NODE_SQL = "SELECT name FROM node";
+    private final AtomicBoolean primaryRequired = new AtomicBoolean();
+    private final AtomicInteger replicaReadCount = new AtomicInteger();
+    private DataSource primaryDataSource;
+    private DataSource replicaDataSource;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        primaryDataSource = createNode(PRIMARY_NAME);
+        replicaDataSource = createNode(REPLICA_NAME);
+        routingDataSource = createRoutingDataSource(replicaDataSource);
+        routingDataSource.checkReplicas();
+    }
+
+    @AfterEach
+    void tearDown() {
+        routingDataSource.close();
+        new JdbcTemplate(primaryDataSource).execute("SHUTDOWN");
+        new JdbcTemplate(replicaDataSource).execute("SHUTDOWN");
+    }
+
+    @Test
+    void readOnlyTransactionTest() {
+        assertEquals(REPLICA_NAME, findNode(true));
+        assertTrue(routingDataSource.getReplicaHealth().get("replica-0"));
+        assertEquals(1, replicaReadCount.get());
+    }
+
+    @Test
+    void writeTransactionTest() {
+        assertEquals(PRIMARY_NAME, findNode(false));
+        assertEquals(0, replicaReadCount.get());
+    }
+
+    @Test
+    void nonTransactionalReadTest() {
+        assertEquals(PRIMARY_NAME, new JdbcTemplate(new LazyConnectionDataSourceProxy(routingDataSource))
+                .queryForObject(FIND_NODE_SQL, String.class));
+    }
+
+    @Test
+    void primaryRequiredTest() {
+        primaryRequired.set(true);
+        assertEquals(PRIMARY_NAME, findNode(true));
+    }
+
+    @Test
+    void unhealthyReplicaTest() throws SQLException {
+        DataSource brokenDataSource = mock(DataSource.class);
+        when(brokenDataSource.getConnection()).thenThrow(new SQLException());
+        routingDataSource.close();
+        routingDataSource = createRoutingDataSource(brokenDataSource);
+        routingDataSource.checkReplicas();
+
+        assertEquals(PRIMARY_NAME, findNode(true));
+        assertFalse(routingDataSource.getReplicaHealth().get("replica-0"));
+    }
+
+    @Test
+    void uncheckedReplicaTest() {
+        routingDataSource.close();
+        routingDataSource = createRoutingDataSource(replicaDataSource);
+
+        assertEquals(PRIMARY_NAME, findNode(true));
+    }
+
+    @Test
+    void closeTest() {
+        HikariDataSource replicaPool = mock(HikariDataSource.class);
+        routingDataSource.close();
+        routingDataSource = createRoutingDataSource(replicaPool);
+        routingDataSource.close();
+
+        verify(replicaPool).close();
+    }
+
+    private String findNode(boolean readOnly) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource)
+                .queryForObject(FIND_NODE_SQL, String.class));
+    }
+
+    private ReplicaRoutingDataSource createRoutingDataSource(DataSource replica) {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primaryDataSource,
+                Collections.singletonList(replica), primaryRequired::get, replicaReadCount::incrementAndGet, 0, 1);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private DataSource createNode(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,96 @@
+package com.epam.esm.dao.warmup.impl;
+
+import com.epam.esm.dao.routing.ReplicaRoutingDataSource;
+import com.epam.esm.dao.warmup.HotStatementProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionPoolWarmerImplTest {
+    private static final String FIRST_SQL = "SELECT * FROM tag WHERE id = ?";
+    private static final String SECOND_SQL = "SELECT * FROM tag";
+    private DataSource dataSource;
+    private ReplicaRoutingDataSource routingDataSource;
+    private Connection firstConnection;
+    private Connection secondConnection;
+    private PreparedStatement statement;
+    private HotStatementProvider hotStatementProvider;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        routingDataSource = mock(ReplicaRoutingDataSource.class);
+        when(routingDataSource.getReplicaDataSources()).thenReturn(Collections.emptyList());
+        firstConnection = mock(Connection.class);
+        secondConnection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        hotStatementProvider = mock(HotStatementProvider.class);
+        when(hotStatementProvider.findHotStatements()).thenReturn(Arrays.asList(FIRST_SQL, SECOND_SQL));
+        when(firstConnection.prepareStatement(anyString())).thenReturn(statement);
+        when(secondConnection.prepareStatement(anyString())).thenReturn(statement);
+    }
+
+    @Test
+    void warmUpTest() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(firstConnection, secondConnection);
+        new ConnectionPoolWarmerImpl(dataSource, routingDataSource, Collections.singletonList(hotStatementProvider),
+                true, 2).warmUp();
+
+        verify(dataSource, times(2)).getConnection();
+        verify(firstConnection).prepareStatement(FIRST_SQL);
+        verify(firstConnection).prepareStatement(SECOND_SQL);
+        verify(secondConnection).prepareStatement(FIRST_SQL);
+        verify(secondConnection).prepareStatement(SECOND_SQL);
+        verify(statement, times(4)).close();
+        verify(firstConnection).close();
+        verify(secondConnection).close();
+    }
+
+    @Test
+    void defaultConnectionCountTest() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(firstConnection, secondConnection);
+        new ConnectionPoolWarmerImpl(dataSource, routingDataSource, Collections.singletonList(hotStatementProvider),
+                true, 0).warmUp();
+
+        verify(dataSource, times(1)).getConnection();
+        verify(firstConnection).close();
+    }
+
+    @Test
+    void failedWarmUpTest() throws SQLException {
+        when(dataSource.getConnection()).thenReturn(firstConnection).thenThrow(new SQLException("Pool is closed"));
+        new ConnectionPoolWarmerImpl(dataSource, routingDataSource, Collections.singletonList(hotStatementProvider),
+                true, 2).warmUp();
+
+        verify(firstConnection).close();
+    }
+
+    @Test
+    void replicaPoolsWarmUpTest() throws SQLException {
+        DataSource replicaDataSource = mock(DataSource.class);
+        when(routingDataSource.getReplicaDataSources()).thenReturn(Collections.singletonList(replicaDataSource));
+        when(dataSource.getConnection()).thenReturn(firstConnection);
+        when(replicaDataSource.getConnection()).thenReturn(secondConnection);
+        new ConnectionPoolWarmerImpl(dataSource, routingDataSource, Collections.singletonList(hotStatementProvider),
+                true, 1).warmUp();
+
+        verify(routingDataSource, never()).getConnection();
+        verify(firstConnection).prepareStatement(FIRST_SQL);
+        verify(secondConnection).prepareStatement(FIRST_SQL);
+        verify(firstConnection).close();
+        verify(secondConnection).close();
+    }
+}
\ No newline at end of file
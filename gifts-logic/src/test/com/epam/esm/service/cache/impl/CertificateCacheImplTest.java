@@ -0,0 +1,148 @@
+package com.epam.esm.service.cache.impl;
+
+import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.cache.CacheStatistics;
+import com.epam.esm.service.routing.ReplicaReadTracker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.*;
+
+class CertificateCacheImplTest {
+    private static final long TIME_TO_LIVE = 1000;
+    private CertificateCacheImpl certificateCache;
+    private CertificateDao certificateDao;
+    private ReplicaReadTracker replicaReadTracker;
+    private AtomicLong clock;
+    private Certificate firstTestCertificate;
+    private Certificate secondTestCertificate;
+
+    @BeforeEach
+    void setUp() {
+        certificateDao = mock(CertificateDao.class);
+        clock = new AtomicLong();
+        replicaReadTracker = mock(ReplicaReadTracker.class);
+        certificateCache = new CertificateCacheImpl(certificateDao, replicaReadTracker, 1, TIME_TO_LIVE, clock::get);
+
+        Tag firstTestTag = new Tag(1, "Jumps");
+        Tag secondTestTag = new Tag(2, "Fly");
+
+        firstTestCertificate = new Certificate(1, "Jump park", "Free jumps for your health!",
+                new BigDecimal("30"), (short) 30, LocalDateTime.now(), LocalDateTime.now(),
+                new ArrayList<>(Collections.singletonList(firstTestTag)));
+        secondTestCertificate = new Certificate(2, "Fly tube", "Free flying in air tube!",
+                new BigDecimal("70"), (short) 30, LocalDateTime.now(), LocalDateTime.now(),
+                new ArrayList<>(Arrays.asList(secondTestTag)));
+        when(certificateDao.findById(1)).thenReturn(Optional.of(firstTestCertificate));
+        when(certificateDao.findById(2)).thenReturn(Optional.of(secondTestCertificate));
+        when(certificateDao.findByName("Jump park")).thenReturn(Optional.of(firstTestCertificate));
+    }
+
+    @Test
+    void readThroughTest() {
+        Assertions.assertEquals(Optional.of(firstTestCertificate), certificateCache.findById(1));
+        Assertions.assertEquals(Optional.of(firstTestCertificate), certificateCache.findById(1));
+        Assertions.assertEquals(Optional.of(firstTestCertificate), certificateCache.findByName("Jump park"));
+
+        verify(certificateDao, times(1)).findById(1);
+        verify(certificateDao, never()).findByName("Jump park");
+        Assertions.assertEquals(new CacheStatistics(2, 1, 0, 1), certificateCache.getStatistics());
+    }
+
+    @Test
+    void cachedCertificateIsNotSharedTest() {
+        certificateCache.findById(1).get().getTags().clear();
+        Assertions.assertEquals(1, certificateCache.findById(1).get().getTags().size());
+    }
+
+    @Test
+    void expirationTest() {
+        certificateCache.findById(1);
+        clock.addAndGet(TIME_TO_LIVE);
+        certificateCache.findById(1);
+
+        verify(certificateDao, times(2)).findById(1);
+        Assertions.assertEquals(1, certificateCache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    void sizeEvictionTest() {
+        certificateCache.findById(1);
+        certificateCache.findById(2);
+        certificateCache.findByName("Jump park");
+
+        verify(certificateDao).findByName("Jump park");
+        Assertions.assertEquals(new CacheStatistics(0, 3, 2, 1), certificateCache.getStatistics());
+    }
+
+    @Test
+    void replicaReadTest() {
+        when(replicaReadTracker.isReplicaRead()).thenReturn(true);
+        Assertions.assertEquals(Optional.of(firstTestCertificate), certificateCache.findById(1));
+        certificateCache.findById(1);
+
+        verify(certificateDao, times(2)).findById(1);
+        Assertions.assertEquals(0, certificateCache.getStatistics().getSize());
+    }
+
+    @Test
+    void invalidationTest() {
+        certificateCache.findById(1);
+        certificateCache.onCertificateRemoved(1);
+        certificateCache.findById(1);
+
+        verify(certificateDao, times(2)).findById(1);
+    }
+
+    @Test
+    void tagUpdateInvalidationTest() {
+        certificateCache.findById(1);
+        certificateCache.onTagUpdated(new Tag(1, "Jumps"), new Tag(1, "Trampoline"), Collections.singletonList(1L));
+        certificateCache.findById(1);
+
+        verify(certificateDao, times(2)).findById(1);
+    }
+
+    @Test
+    void invalidationAfterTransactionCompletionTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            certificateCache.onCertificateSaved(firstTestCertificate);
+            certificateCache.findById(1);
+            certificateCache.findById(1);
+            verify(certificateDao, times(1)).findById(1);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        certificateCache.findById(1);
+        verify(certificateDao, times(2)).findById(1);
+    }
+
+    @Test
+    void missingCertificateIsNotCachedTest() {
+        when(certificateDao.findById(3)).thenReturn(Optional.empty());
+        certificateCache.findById(3);
+        certificateCache.findById(3);
+
+        verify(certificateDao, times(2)).findById(3);
+        Assertions.assertEquals(0, certificateCache.getStatistics().getSize());
+    }
+}
@@ -0,0 +1,125 @@
+package com.epam.esm.service.cache.impl;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.cache.CacheStatistics;
+import com.epam.esm.service.handler.CertificateSearchKey;
+import com.epam.esm.service.routing.ReplicaReadTracker;
+import com.epam.esm.service.version.CatalogVersion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CertificateQueryCacheImplTest {
+    private static final long MAX_WEIGHT = 2048;
+    private CertificateQueryCacheImpl certificateQueryCache;
+    private ReplicaReadTracker replicaReadTracker;
+    private AtomicLong catalogGeneration;
+    private AtomicInteger loadCount;
+    private List<Certificate> certificates;
+    private CertificateSearchKey jumpsKey;
+    private CertificateSearchKey flyKey;
+
+    @BeforeEach
+    void setUp() {
+        catalogGeneration = new AtomicLong();
+        CatalogVersion catalogVersion = mock(CatalogVersion.class);
+        when(catalogVersion.getCatalogGeneration()).thenAnswer(invocation -> catalogGeneration.get());
+        replicaReadTracker = mock(ReplicaReadTracker.class);
+        certificateQueryCache = new CertificateQueryCacheImpl(catalogVersion, replicaReadTracker, MAX_WEIGHT);
+        loadCount = new AtomicInteger();
+
+        certificates = new ArrayList<>(Collections.singletonList(new Certificate(1, "Jump park",
+                "Free jumps for your health!", new BigDecimal("30"), (short) 30, LocalDateTime.now(),
+                LocalDateTime.now(), new ArrayList<>(Collections.singletonList(new Tag(1, "Jumps"))))));
+        jumpsKey = CertificateSearchKey.of(Collections.singletonMap("tagName", "Jumps"));
+        flyKey = CertificateSearchKey.of(Collections.singletonMap("tagName", "Fly"));
+    }
+
+    @Test
+    void readThroughTest() {
+        Assertions.assertEquals(certificates, certificateQueryCache.findAll(jumpsKey, this::load));
+        List<Certificate> cachedCertificates = certificateQueryCache.findAll(jumpsKey, this::load);
+
+        Assertions.assertEquals(certificates, cachedCertificates);
+        Assertions.assertNotSame(certificates.get(0), cachedCertificates.get(0));
+        Assertions.assertEquals(1, loadCount.get());
+        Assertions.assertEquals(new CacheStatistics(1, 1, 0, 1), certificateQueryCache.getStatistics());
+    }
+
+    @Test
+    void catalogChangeTest() {
+        certificateQueryCache.findAll(jumpsKey, this::load);
+        catalogGeneration.incrementAndGet();
+        certificateQueryCache.findAll(jumpsKey, this::load);
+
+        Assertions.assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void changeDuringLoadTest() {
+        certificateQueryCache.findAll(jumpsKey, () -> {
+            catalogGeneration.incrementAndGet();
+            return load();
+        });
+        certificateQueryCache.findAll(jumpsKey, this::load);
+
+        Assertions.assertEquals(2, loadCount.get());
+    }
+
+    @Test
+    void weightEvictionTest() {
+        List<Certificate> largeCertificates = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            largeCertificates.add(new Certificate(certificates.get(0)));
+        }
+
+        certificateQueryCache.findAll(jumpsKey, this::load);
+        certificateQueryCache.findAll(flyKey, () -> largeCertificates);
+        Assertions.assertTrue(certificateQueryCache.getWeight() <= MAX_WEIGHT);
+        Assertions.assertEquals(new CacheStatistics(0, 2, 1, 1), certificateQueryCache.getStatistics());
+
+        certificateQueryCache.findAll(flyKey, () -> largeCertificates);
+        certificateQueryCache.findAll(jumpsKey, this::load);
+        Assertions.assertEquals(2, loadCount.get());
+        Assertions.assertTrue(certificateQueryCache.getWeight() <= MAX_WEIGHT);
+    }
+
+    @Test
+    void oversizedResultTest() {
+        List<Certificate> oversizedCertificates = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            oversizedCertificates.add(new Certificate(certificates.get(0)));
+        }
+
+        certificateQueryCache.findAll(flyKey, () -> oversizedCertificates);
+        Assertions.assertEquals(0, certificateQueryCache.getStatistics().getSize());
+        Assertions.assertEquals(0, certificateQueryCache.getWeight());
+    }
+
+    @Test
+    void replicaReadTest() {
+        when(replicaReadTracker.isReplicaRead()).thenReturn(true);
+        Assertions.assertEquals(certificates, certificateQueryCache.findAll(jumpsKey, this::load));
+        certificateQueryCache.findAll(jumpsKey, this::load);
+
+        Assertions.assertEquals(2, loadCount.get());
+        Assertions.assertEquals(0, certificateQueryCache.getStatistics().getSize());
+    }
+
+    private List<Certificate> load() {
+        loadCount.incrementAndGet();
+        return certificates;
+    }
+}
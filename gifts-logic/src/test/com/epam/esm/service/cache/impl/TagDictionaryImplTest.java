@@ -0,0 +1,112 @@
+package com.epam.esm.service.cache.impl;
+
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.entity.Tag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TagDictionaryImplTest {
+    private TagDictionaryImpl tagDictionary;
+    private TagDao tagDao;
+    private Tag firstTestTag;
+    private Tag secondTestTag;
+
+    @BeforeEach
+    void setUp() {
+        tagDao = mock(TagDao.class);
+        firstTestTag = new Tag(1, "Jumps");
+        secondTestTag = new Tag(2, "Fly");
+        when(tagDao.findAll()).thenReturn(Arrays.asList(secondTestTag, firstTestTag));
+        tagDictionary = new TagDictionaryImpl(tagDao);
+        tagDictionary.afterPropertiesSet();
+    }
+
+    @Test
+    void findTest() {
+        Assertions.assertEquals(Optional.of(firstTestTag), tagDictionary.findById(1));
+        Assertions.assertEquals(Optional.of(secondTestTag), tagDictionary.findByName("fly"));
+        Assertions.assertEquals(Optional.empty(), tagDictionary.findByName("Test"));
+        Assertions.assertEquals(Arrays.asList(firstTestTag, secondTestTag), tagDictionary.findAll());
+        Assertions.assertEquals(Collections.singletonList(secondTestTag),
+                tagDictionary.findAllByNames(Arrays.asList("Fly", "Test")));
+        verify(tagDao, times(1)).findAll();
+    }
+
+    @Test
+    void returnedTagIsNotSharedTest() {
+        tagDictionary.findById(1).get().setName("Test");
+        Assertions.assertEquals(Optional.of(firstTestTag), tagDictionary.findById(1));
+    }
+
+    @Test
+    void tagChangesTest() {
+        Tag addedTag = new Tag(3, "Sea");
+        Tag updatedTag = new Tag(1, "Trampoline");
+        tagDictionary.onTagAdded(addedTag);
+        tagDictionary.onTagUpdated(firstTestTag, updatedTag, Collections.emptyList());
+        tagDictionary.onTagRemoved(secondTestTag, Collections.emptyList());
+
+        Assertions.assertEquals(Arrays.asList(updatedTag, addedTag), tagDictionary.findAll());
+        Assertions.assertEquals(Optional.empty(), tagDictionary.findByName("Jumps"));
+        Assertions.assertEquals(Optional.of(updatedTag), tagDictionary.findByName("Trampoline"));
+        Assertions.assertEquals(Optional.empty(), tagDictionary.findById(2));
+    }
+
+    @Test
+    void committedTagChangesTest() throws InterruptedException {
+        Tag addedTag = new Tag(3, "Sea");
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tagDictionary.onTagAdded(addedTag);
+            Assertions.assertEquals(Optional.of(addedTag), tagDictionary.findByName("Sea"));
+            Assertions.assertEquals(Optional.empty(), findByNameInOtherThread("Sea"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(Optional.of(addedTag), tagDictionary.findByName("Sea"));
+        Assertions.assertEquals(Optional.of(addedTag), findByNameInOtherThread("Sea"));
+    }
+
+    @Test
+    void rolledBackTagChangesTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tagDictionary.onTagRemoved(firstTestTag, Collections.emptyList());
+            Assertions.assertEquals(Optional.empty(), tagDictionary.findById(1));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(Optional.of(firstTestTag), tagDictionary.findById(1));
+        verify(tagDao, times(1)).findAll();
+    }
+
+    private Optional<Tag> findByNameInOtherThread(String name) throws InterruptedException {
+        AtomicReference<Optional<Tag>> foundTag = new AtomicReference<>();
+        Thread thread = new Thread(() -> foundTag.set(tagDictionary.findByName(name)));
+        thread.start();
+        thread.join();
+        return foundTag.get();
+    }
+}
@@ -1,6 +1,6 @@
 package com.epam.esm.service.checker.impl;
 
-import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.service.cache.CertificateCache;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
 import org.junit.Assert;
@@ -19,14 +19,14 @@ import static org.mockito.Mockito.when;
 
 class CertificateDuplicationCheckerImplTest {
     private CertificateDuplicationCheckerImpl certificateDuplicationChecker;
-    private CertificateDao certificateDao;
+    private CertificateCache certificateCache;
     private Certificate firstTestCertificate;
     private Certificate secondTestCertificate;
 
     @BeforeEach
     void setUp() {
-        certificateDao = mock(CertificateDao.class);
-        certificateDuplicationChecker = new CertificateDuplicationCheckerImpl(certificateDao);
+        certificateCache = mock(CertificateCache.class);
+        certificateDuplicationChecker = new CertificateDuplicationCheckerImpl(certificateCache);
 
         Tag firstTestTag = new Tag(1, "Jumps");
         Tag secondTestTag = new Tag(2, "Fly");
@@ -40,31 +40,31 @@ class CertificateDuplicationCheckerImplTest {
 
     @Test
     void checkCertificateForAddingDuplicationPositiveTest() {
-        when(certificateDao.findByName("Jump park")).thenReturn(Optional.empty());
+        when(certificateCache.findByName("Jump park")).thenReturn(Optional.empty());
         Assertions.assertTrue(certificateDuplicationChecker.checkCertificateForAddingDuplication(firstTestCertificate));
     }
 
     @Test
     void checkCertificateForAddingDuplicationBadTest() {
-        when(certificateDao.findByName("Jump park")).thenReturn(Optional.of(firstTestCertificate));
+        when(certificateCache.findByName("Jump park")).thenReturn(Optional.of(firstTestCertificate));
         Assertions.assertFalse(certificateDuplicationChecker.checkCertificateForAddingDuplication(firstTestCertificate));
     }
 
     @Test
     void checkCertificateForUpdatingDuplicationPositiveTest() {
-        when(certificateDao.findByName("Jump park")).thenReturn(Optional.empty());
+        when(certificateCache.findByName("Jump park")).thenReturn(Optional.empty());
         Assertions.assertTrue(certificateDuplicationChecker.checkCertificateForUpdatingDuplication(firstTestCertificate));
     }
 
     @Test
     void checkCertificateForUpdatingDuplicationWithUpdatedCertificateTest() {
-        when(certificateDao.findByName("Jump park")).thenReturn(Optional.of(firstTestCertificate));
+        when(certificateCache.findByName("Jump park")).thenReturn(Optional.of(firstTestCertificate));
         Assertions.assertTrue(certificateDuplicationChecker.checkCertificateForUpdatingDuplication(firstTestCertificate));
     }
 
     @Test
     void checkCertificateForUpdatingDuplicationBadTest() {
-        when(certificateDao.findByName("Jump park")).thenReturn(Optional.of(secondTestCertificate));
+        when(certificateCache.findByName("Jump park")).thenReturn(Optional.of(secondTestCertificate));
         Assertions.assertFalse(certificateDuplicationChecker.checkCertificateForUpdatingDuplication(firstTestCertificate));
     }
 }
\ No newline at end of file
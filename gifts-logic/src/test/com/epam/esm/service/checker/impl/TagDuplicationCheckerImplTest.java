@@ -1,7 +1,7 @@
 package com.epam.esm.service.checker.impl;
 
-import com.epam.esm.dao.TagDao;
 import com.epam.esm.entity.Tag;
+import com.epam.esm.service.cache.TagDictionary;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,31 +15,31 @@ class TagDuplicationCheckerImplTest {
     private TagDuplicationCheckerImpl tagDuplicationChecker;
     private Tag firstTestTag;
     private Tag secondTestTag;
-    private TagDao tagDao;
+    private TagDictionary tagDictionary;
 
     @BeforeEach
     void setUp() {
-        tagDao = mock(TagDao.class);
-        tagDuplicationChecker = new TagDuplicationCheckerImpl(tagDao);
+        tagDictionary = mock(TagDictionary.class);
+        tagDuplicationChecker = new TagDuplicationCheckerImpl(tagDictionary);
         firstTestTag = new Tag(1, "Test");
         secondTestTag = new Tag(2, "Test");
     }
 
     @Test
     void checkTagForDuplicationWithNewTest() {
-        when(tagDao.findByName(firstTestTag.getName())).thenReturn(Optional.empty());
+        when(tagDictionary.findByName(firstTestTag.getName())).thenReturn(Optional.empty());
         Assertions.assertTrue(tagDuplicationChecker.checkTagForDuplication(firstTestTag));
     }
 
     @Test
     void checkTagForDuplicationWhileUpdateTest() {
-        when(tagDao.findByName(firstTestTag.getName())).thenReturn(Optional.of(firstTestTag));
+        when(tagDictionary.findByName(firstTestTag.getName())).thenReturn(Optional.of(firstTestTag));
         Assertions.assertTrue(tagDuplicationChecker.checkTagForDuplication(firstTestTag));
     }
 
     @Test
     void checkTagForDuplicationBadTest() {
-        when(tagDao.findByName(firstTestTag.getName())).thenReturn(Optional.of(secondTestTag));
+        when(tagDictionary.findByName(firstTestTag.getName())).thenReturn(Optional.of(secondTestTag));
         Assertions.assertFalse(tagDuplicationChecker.checkTagForDuplication(firstTestTag));
     }
 }
\ No newline at end of file
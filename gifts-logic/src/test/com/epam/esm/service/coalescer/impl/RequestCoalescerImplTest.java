@@ -0,0 +1,127 @@
+package com.epam.esm.service.coalescer.impl;
+
+import com.epam.esm.service.coalescer.CoalescingStatistics;
+import com.epam.esm.service.exception.UnknownCertificateException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class RequestCoalescerImplTest {
+    private static final int FOLLOWER_COUNT = 7;
+    private RequestCoalescerImpl requestCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        requestCoalescer = new RequestCoalescerImpl();
+    }
+
+    @Test
+    void singleCallTest() {
+        List<String> result = new ArrayList<>(Arrays.asList("Jump park"));
+        Assertions.assertSame(result, requestCoalescer.execute("key", () -> result, ArrayList::new));
+        Assertions.assertEquals(new CoalescingStatistics(1, 0, 0), requestCoalescer.getStatistics());
+    }
+
+    @Test
+    void concurrentCallsTest() throws Exception {
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch computationReleased = new CountDownLatch(1);
+        AtomicInteger computationCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(FOLLOWER_COUNT + 1);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> requestCoalescer.execute("key", () -> {
+                computationCount.incrementAndGet();
+                computationStarted.countDown();
+                await(computationReleased);
+                return new ArrayList<>(Arrays.asList("Jump park"));
+            }, ArrayList::new)));
+            Assertions.assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+
+            for (int i = 0; i < FOLLOWER_COUNT; i++) {
+                results.add(executor.submit(() -> requestCoalescer.execute("key", () -> {
+                    computationCount.incrementAndGet();
+                    return new ArrayList<>(Arrays.asList("Jump park"));
+                }, ArrayList::new)));
+            }
+
+            while (requestCoalescer.getStatistics().getCoalescedCount() < FOLLOWER_COUNT) {
+                Thread.yield();
+            }
+            computationReleased.countDown();
+
+            List<List<String>> receivedResults = new ArrayList<>();
+            for (Future<List<String>> result : results) {
+                receivedResults.add(result.get(5, TimeUnit.SECONDS));
+            }
+
+            Assertions.assertEquals(1, computationCount.get());
+            for (int i = 0; i < receivedResults.size(); i++) {
+                Assertions.assertEquals(Arrays.asList("Jump park"), receivedResults.get(i));
+                for (int j = i + 1; j < receivedResults.size(); j++) {
+                    Assertions.assertNotSame(receivedResults.get(i), receivedResults.get(j));
+                }
+            }
+            Assertions.assertEquals(new CoalescingStatistics(1, FOLLOWER_COUNT, 0), requestCoalescer.getStatistics());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedCallTest() throws Exception {
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch computationReleased = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> requestCoalescer.execute("key", () -> {
+                computationStarted.countDown();
+                await(computationReleased);
+                throw new UnknownCertificateException("nonexistent.certificate");
+            }, value -> value));
+            Assertions.assertTrue(computationStarted.await(5, TimeUnit.SECONDS));
+            Future<Object> follower = executor.submit(() -> requestCoalescer.execute("key", () -> "Jump park",
+                    value -> value));
+            while (requestCoalescer.getStatistics().getCoalescedCount() < 1) {
+                Thread.yield();
+            }
+            computationReleased.countDown();
+
+            assertThrowsCause(UnknownCertificateException.class, leader);
+            assertThrowsCause(UnknownCertificateException.class, follower);
+            Assertions.assertEquals("Jump park", requestCoalescer.execute("key", () -> "Jump park", value -> value));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void differentKeysTest() {
+        requestCoalescer.execute(Arrays.asList("findCertificateById", 1L), () -> "Jump park", value -> value);
+        requestCoalescer.execute(Arrays.asList("findCertificateById", 2L), () -> "Fly tube", value -> value);
+        Assertions.assertEquals(new CoalescingStatistics(2, 0, 0), requestCoalescer.getStatistics());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void assertThrowsCause(Class<? extends Throwable> expectedType, Future<?> future) {
+        Throwable thrown = Assertions.assertThrows(Exception.class, () -> future.get(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(expectedType.isInstance(thrown.getCause()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.epam.esm.service.handler;
+
+import com.epam.esm.service.exception.InvalidSortParameterException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+class CertificateSearchKeyTest {
+    @Test
+    void filtersOrderAndCaseTest() {
+        Map<String, String> firstParameters = new LinkedHashMap<>();
+        firstParameters.put("tagName", "Jumps");
+        firstParameters.put("namePart", "park");
+        firstParameters.put("nameSort", "asc");
+        Map<String, String> secondParameters = new LinkedHashMap<>();
+        secondParameters.put("NAMESORT", "ASC");
+        secondParameters.put("namepart", "PARK");
+        secondParameters.put("tagname", "jumps");
+
+        Assertions.assertEquals(CertificateSearchKey.of(firstParameters), CertificateSearchKey.of(secondParameters));
+        Assertions.assertEquals(CertificateSearchKey.of(firstParameters).hashCode(),
+                CertificateSearchKey.of(secondParameters).hashCode());
+    }
+
+    @Test
+    void sortingsOrderTest() {
+        Map<String, String> firstParameters = new LinkedHashMap<>();
+        firstParameters.put("nameSort", "asc");
+        firstParameters.put("createDateSort", "desc");
+        Map<String, String> secondParameters = new LinkedHashMap<>();
+        secondParameters.put("createDateSort", "desc");
+        secondParameters.put("nameSort", "asc");
+
+        Assertions.assertNotEquals(CertificateSearchKey.of(firstParameters), CertificateSearchKey.of(secondParameters));
+    }
+
+    @Test
+    void differentValuesTest() {
+        Assertions.assertNotEquals(CertificateSearchKey.of(Collections.singletonMap("tagName", "Jumps")),
+                CertificateSearchKey.of(Collections.singletonMap("tagName", "Fly")));
+        Assertions.assertEquals(CertificateSearchKey.of(null), CertificateSearchKey.of(Collections.emptyMap()));
+    }
+
+    @Test
+    void unknownHandlerTest() {
+        Assertions.assertThrows(InvalidSortParameterException.class,
+                () -> CertificateSearchKey.of(Collections.singletonMap("priceSort", "asc")));
+    }
+}
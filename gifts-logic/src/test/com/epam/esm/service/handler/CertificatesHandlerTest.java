@@ -1,5 +1,7 @@
 package com.epam.esm.service.handler;
 
+import com.epam.esm.dao.query.CertificateQueryBuilder;
+import com.epam.esm.dao.query.CertificateSortField;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.service.exception.InvalidSortParameterException;
@@ -46,6 +48,24 @@ class CertificatesHandlerTest {
         Assertions.assertEquals(new ArrayList<>(), CertificatesHandler.FIND_BY_TAG_NAME.handle(certificates, "Test"));
     }
 
+    @Test
+    void findByAllTagNamesTest() {
+        Assertions.assertEquals(Collections.singletonList(firstTestCertificate),
+                CertificatesHandler.FIND_BY_ALL_TAG_NAMES.handle(certificates, "entertainment, JUMPS"));
+    }
+
+    @Test
+    void findByAnyTagNameTest() {
+        Assertions.assertEquals(Arrays.asList(firstTestCertificate, secondTestCertificate),
+                CertificatesHandler.FIND_BY_ANY_TAG_NAME.handle(certificates, "Jumps,Fly,Test"));
+    }
+
+    @Test
+    void findByEmptyTagNamesTest() {
+        Assertions.assertThrows(InvalidSortParameterException.class,
+                () -> CertificatesHandler.FIND_BY_ALL_TAG_NAMES.handle(certificates, " , "));
+    }
+
     @Test
     void findByNamePartTest() {
         Assertions.assertEquals(Arrays.asList(firstTestCertificate, thirdTestCertificate), CertificatesHandler.FIND_BY_NAME_PART.handle(certificates, "park"));
@@ -110,4 +130,25 @@ class CertificatesHandlerTest {
     void sortByLastUpdateDateWithInvalidParameterTest() {
         Assertions.assertThrows(InvalidSortParameterException.class,() -> CertificatesHandler.SORT_BY_LAST_UPDATE_DATE.handle(certificates, "pear"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void applyTagNameToQueryTest() {
+        CertificateQueryBuilder queryBuilder = new CertificateQueryBuilder();
+        CertificatesHandler.FIND_BY_TAG_NAME.applyToQuery(queryBuilder, "Fly");
+        Assertions.assertEquals(new CertificateQueryBuilder().withTagName("Fly").build(), queryBuilder.build());
+    }
+
+    @Test
+    void applySortToQueryTest() {
+        CertificateQueryBuilder queryBuilder = new CertificateQueryBuilder();
+        CertificatesHandler.SORT_BY_LAST_UPDATE_DATE.applyToQuery(queryBuilder, "desc");
+        Assertions.assertEquals(new CertificateQueryBuilder()
+                .sortBy(CertificateSortField.LAST_UPDATE_DATE, false).build(), queryBuilder.build());
+    }
+
+    @Test
+    void applySortWithInvalidParameterToQueryTest() {
+        Assertions.assertThrows(InvalidSortParameterException.class,
+                () -> CertificatesHandler.SORT_BY_NAME.applyToQuery(new CertificateQueryBuilder(), "plum"));
+    }
+}
@@ -1,15 +1,38 @@
 package com.epam.esm.service.impl;
 
 import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.dao.query.CertificateCursor;
+import com.epam.esm.dao.query.CertificateQuery;
+import com.epam.esm.dao.query.CertificateQueryBuilder;
+import com.epam.esm.dao.query.CertificateSortField;
 import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.CertificateImportReport;
+import com.epam.esm.entity.CertificatePage;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.service.TagService;
+import com.epam.esm.service.cache.CertificateCache;
+import com.epam.esm.service.cache.impl.CertificateQueryCacheImpl;
 import com.epam.esm.service.checker.CertificateDuplicationChecker;
+import com.epam.esm.service.coalescer.impl.RequestCoalescerImpl;
 import com.epam.esm.service.collector.CertificateFullDataCollector;
+import com.epam.esm.service.exception.CertificateVersionMismatchException;
+import com.epam.esm.service.exception.ConcurrentCertificateUpdateException;
 import com.epam.esm.service.exception.DuplicateCertificateException;
 import com.epam.esm.service.exception.InvalidCertificateException;
+import com.epam.esm.service.exception.InvalidPageParameterException;
+import com.epam.esm.service.exception.InvalidSortParameterException;
 import com.epam.esm.service.exception.UnknownCertificateException;
+import com.epam.esm.service.index.CertificateIdSet;
+import com.epam.esm.service.index.CertificateTextIndex;
+import com.epam.esm.service.index.TagIndex;
+import com.epam.esm.service.importer.CertificateImporter;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import com.epam.esm.service.metric.impl.MetricRegistryImpl;
+import com.epam.esm.service.routing.RecentWriteTracker;
+import com.epam.esm.service.routing.ReplicaReadTracker;
 import com.epam.esm.service.validator.CertificateValidator;
+import com.epam.esm.service.version.CatalogVersion;
+import com.epam.esm.service.version.EntityVersion;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,9 +41,14 @@ import org.mockito.Mockito;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.mockito.Mockito.*;
 
@@ -31,6 +59,13 @@ class CertificateServiceImplTest {
     private CertificateDao certificateDao;
     private CertificateFullDataCollector certificateFullDataCollector;
     private TagService tagService;
+    private CertificateCache certificateCache;
+    private TagIndex tagIndex;
+    private CertificateTextIndex certificateTextIndex;
+    private CertificateImporter certificateImporter;
+    private CatalogVersion catalogVersion;
+    private CatalogChangeListener catalogChangeListener;
+    private RecentWriteTracker recentWriteTracker;
     private Certificate firstTestCertificate;
     private List<Certificate> certificates;
 
@@ -41,8 +76,19 @@ class CertificateServiceImplTest {
         certificateValidator = mock(CertificateValidator.class);
         certificateDuplicationChecker = mock(CertificateDuplicationChecker.class);
         certificateFullDataCollector = mock(CertificateFullDataCollector.class);
+        certificateCache = mock(CertificateCache.class);
+        tagIndex = mock(TagIndex.class);
+        certificateTextIndex = mock(CertificateTextIndex.class);
+        certificateImporter = mock(CertificateImporter.class);
+        catalogVersion = mock(CatalogVersion.class);
+        catalogChangeListener = mock(CatalogChangeListener.class);
+        recentWriteTracker = mock(RecentWriteTracker.class);
         certificateService = new CertificateServiceImpl(certificateDao, tagService, certificateValidator,
-                certificateDuplicationChecker, certificateFullDataCollector);
+                certificateDuplicationChecker, certificateFullDataCollector, certificateCache,
+                tagIndex, certificateTextIndex, certificateImporter, catalogVersion,
+                new RequestCoalescerImpl(),
+                new CertificateQueryCacheImpl(catalogVersion, mock(ReplicaReadTracker.class), 0), recentWriteTracker,
+                new MetricRegistryImpl(), Collections.singletonList(catalogChangeListener), false);
 
         Tag firstTestTag = new Tag(1, "Jumps");
         Tag secondTestTag = new Tag(2, "Fly");
@@ -60,22 +106,21 @@ class CertificateServiceImplTest {
     void addCertificatePositiveTest() {
         doNothing().when(certificateValidator).validateCertificate(firstTestCertificate);
         when(certificateDuplicationChecker.checkCertificateForAddingDuplication(firstTestCertificate)).thenReturn(true);
-        when(certificateDao.add(firstTestCertificate)).thenReturn(true);
+        when(certificateDao.add(firstTestCertificate)).thenReturn(2L);
         when(certificateDao.findById(2)).thenReturn(Optional.of(firstTestCertificate));
-        when(certificateDao.findAll()).thenReturn(certificates);
         CertificateServiceImpl spyCertificateService = Mockito.spy(certificateService);
         doNothing().when(spyCertificateService).addCertificateTags(isA(Long.class), isA(List.class));
 
         Assertions.assertEquals(spyCertificateService.addCertificate(firstTestCertificate), firstTestCertificate);
+        verify(certificateDao, never()).findAll();
     }
 
     @Test
     void addInvalidCertificateTest() {
         doNothing().when(certificateValidator).validateCertificate(firstTestCertificate);
         when(certificateDuplicationChecker.checkCertificateForAddingDuplication(firstTestCertificate)).thenReturn(true);
-        when(certificateDao.add(firstTestCertificate)).thenReturn(true);
+        when(certificateDao.add(firstTestCertificate)).thenReturn(2L);
         when(certificateDao.findById(2)).thenReturn(Optional.of(firstTestCertificate));
-        when(certificateDao.findAll()).thenReturn(certificates);
         CertificateServiceImpl spyCertificateService = Mockito.spy(certificateService);
         doNothing().when(spyCertificateService).addCertificateTags(isA(Long.class), isA(List.class));
 
@@ -86,9 +131,8 @@ class CertificateServiceImplTest {
     void addDuplicateCertificateTest() {
         doNothing().when(certificateValidator).validateCertificate(firstTestCertificate);
         when(certificateDuplicationChecker.checkCertificateForAddingDuplication(firstTestCertificate)).thenReturn(false);
-        when(certificateDao.add(firstTestCertificate)).thenReturn(true);
+        when(certificateDao.add(firstTestCertificate)).thenReturn(2L);
         when(certificateDao.findById(2)).thenReturn(Optional.of(firstTestCertificate));
-        when(certificateDao.findAll()).thenReturn(certificates);
         CertificateServiceImpl spyCertificateService = Mockito.spy(certificateService);
         doNothing().when(spyCertificateService).addCertificateTags(isA(Long.class), isA(List.class));
 
@@ -101,24 +145,231 @@ class CertificateServiceImplTest {
         Assertions.assertEquals(certificateService.findAllCertificates(new HashMap<>()), certificates);
     }
 
+    @Test
+    void findAllCertificatesWithParametersTest() {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("tagName", "Entertainment");
+        parameters.put("nameSort", "desc");
+        CertificateQuery expectedQuery = new CertificateQueryBuilder()
+                .sortBy(CertificateSortField.NAME, false)
+                .withCertificateIds(new long[]{1, 2})
+                .build();
+        when(tagIndex.findByTagName("Entertainment")).thenReturn(CertificateIdSet.of(2, 1));
+        when(certificateDao.findAll(expectedQuery)).thenReturn(certificates);
+
+        Assertions.assertEquals(certificateService.findAllCertificates(parameters), certificates);
+    }
+
+    @Test
+    void findAllCertificatesWithSeveralTagFiltersTest() {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("tagName", "Entertainment");
+        parameters.put("anyTagNames", "Jumps, Fly");
+        CertificateQuery expectedQuery = new CertificateQueryBuilder()
+                .withCertificateIds(new long[]{2})
+                .build();
+        when(tagIndex.findByTagName("Entertainment")).thenReturn(CertificateIdSet.of(2));
+        when(tagIndex.findByAnyTagName(Arrays.asList("Jumps", "Fly"))).thenReturn(CertificateIdSet.of(1, 2));
+        when(certificateDao.findAll(expectedQuery)).thenReturn(Collections.singletonList(firstTestCertificate));
+
+        Assertions.assertEquals(Collections.singletonList(firstTestCertificate),
+                certificateService.findAllCertificates(parameters));
+    }
+
+    @Test
+    void findAllCertificatesWithTextFiltersTest() {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("namePart", "park");
+        parameters.put("descriptionPart", "fr");
+        CertificateQuery expectedQuery = new CertificateQueryBuilder()
+                .withNamePart("park")
+                .withDescriptionPart("fr")
+                .withCertificateIds(new long[]{2})
+                .build();
+        when(certificateTextIndex.findCandidatesByNamePart("park")).thenReturn(Optional.of(CertificateIdSet.of(2)));
+        when(certificateTextIndex.findCandidatesByDescriptionPart("fr")).thenReturn(Optional.empty());
+        when(certificateDao.findAll(expectedQuery)).thenReturn(Collections.singletonList(firstTestCertificate));
+
+        Assertions.assertEquals(Collections.singletonList(firstTestCertificate),
+                certificateService.findAllCertificates(parameters));
+    }
+
+    @Test
+    void findAllCertificatesWithUnknownNamePartTest() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("namePart", "zoo");
+        when(certificateTextIndex.findCandidatesByNamePart("zoo")).thenReturn(Optional.of(CertificateIdSet.empty()));
+
+        Assertions.assertTrue(certificateService.findAllCertificates(parameters).isEmpty());
+        verify(certificateDao, never()).findAll(any(CertificateQuery.class));
+    }
+
+    @Test
+    void streamAllCertificatesTest() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("nameSort", "asc");
+        CertificateQuery expectedQuery = new CertificateQueryBuilder().sortBy(CertificateSortField.NAME, true).build();
+        Consumer<Certificate> certificateConsumer = certificate -> {
+        };
+
+        certificateService.findAllCertificates(parameters, certificateConsumer);
+        verify(certificateDao).findAll(expectedQuery, certificateConsumer);
+    }
+
+    @Test
+    void exportUpdatedCertificatesTest() {
+        LocalDateTime watermark = LocalDateTime.parse("2022-03-15T21:30");
+        Certificate lastExportedCertificate = new Certificate();
+        lastExportedCertificate.setId(7);
+        lastExportedCertificate.setLastUpdateDate(watermark);
+        CertificateQueryBuilder queryBuilder = new CertificateQueryBuilder()
+                .sortBy(CertificateSortField.LAST_UPDATE_DATE, true);
+        CertificateQuery expectedQuery = queryBuilder
+                .seekAfter(CertificateCursor.of(queryBuilder.getSortOrders(), lastExportedCertificate))
+                .build();
+        Consumer<Certificate> certificateConsumer = certificate -> {
+        };
+
+        certificateService.exportCertificates(watermark, 7, certificateConsumer);
+        verify(certificateDao).findAll(expectedQuery, certificateConsumer);
+    }
+
+    @Test
+    void streamCertificatesWithUnknownTagTest() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("tagName", "Unknown");
+        when(tagIndex.findByTagName("Unknown")).thenReturn(CertificateIdSet.empty());
+
+        certificateService.findAllCertificates(parameters, certificate -> {
+        });
+        verify(certificateDao, never()).findAll(any(CertificateQuery.class), any(Consumer.class));
+    }
+
+    @Test
+    void findAllCertificatesWithUnknownTagTest() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("tagName", "Unknown");
+        when(tagIndex.findByTagName("Unknown")).thenReturn(CertificateIdSet.empty());
+
+        Assertions.assertTrue(certificateService.findAllCertificates(parameters).isEmpty());
+        verify(certificateDao, never()).findAll(any(CertificateQuery.class));
+    }
+
+    @Test
+    void findAllCertificatesWithWidespreadTagTest() {
+        long[] certificateIds = new long[1001];
+        for (int i = 0; i < certificateIds.length; i++) {
+            certificateIds[i] = i + 1;
+        }
+
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("tagName", "Entertainment");
+        CertificateQuery expectedQuery = new CertificateQueryBuilder().withTagName("Entertainment").build();
+        when(tagIndex.findByTagName("Entertainment")).thenReturn(CertificateIdSet.of(certificateIds));
+        when(certificateDao.findAll(expectedQuery)).thenReturn(certificates);
+
+        Assertions.assertEquals(certificates, certificateService.findAllCertificates(parameters));
+    }
+
+    @Test
+    void findAllCertificatesWithInvalidParameterTest() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("priceSort", "asc");
+        Assertions.assertThrows(InvalidSortParameterException.class, () -> certificateService.findAllCertificates(parameters));
+    }
+
+    @Test
+    void findCertificatesFirstPageTest() {
+        CertificateQuery expectedQuery = new CertificateQueryBuilder().limit(2).build();
+        when(certificateDao.findAll(expectedQuery)).thenReturn(certificates);
+
+        CertificatePage page = certificateService.findCertificatesPage(new HashMap<>(), 1, null);
+        Assertions.assertEquals(Collections.singletonList(firstTestCertificate), page.getCertificates());
+        Assertions.assertEquals(CertificateCursor.of(Collections.emptyList(), firstTestCertificate),
+                CertificateCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    void findCertificatesLastPageTest() {
+        CertificateCursor cursor = CertificateCursor.of(Collections.emptyList(), firstTestCertificate);
+        CertificateQuery expectedQuery = new CertificateQueryBuilder().seekAfter(cursor).limit(3).build();
+        when(certificateDao.findAll(expectedQuery)).thenReturn(certificates);
+
+        CertificatePage page = certificateService.findCertificatesPage(new HashMap<>(), 2, cursor.encode());
+        Assertions.assertEquals(new CertificatePage(certificates, null), page);
+    }
+
+    @Test
+    void findCertificatesPageWithUnknownTagTest() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("tagName", "Unknown");
+        when(tagIndex.findByTagName("Unknown")).thenReturn(CertificateIdSet.empty());
+
+        Assertions.assertEquals(new CertificatePage(Collections.emptyList(), null),
+                certificateService.findCertificatesPage(parameters, 10, null));
+        verify(certificateDao, never()).findAll(any(CertificateQuery.class));
+    }
+
+    @Test
+    void findCertificatesPageWithInvalidSizeTest() {
+        Assertions.assertThrows(InvalidPageParameterException.class,
+                () -> certificateService.findCertificatesPage(new HashMap<>(), 0, null));
+    }
+
+    @Test
+    void findCertificatesPageWithForeignCursorTest() {
+        String cursor = CertificateCursor.of(Collections.emptyList(), firstTestCertificate).encode();
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("nameSort", "asc");
+
+        Assertions.assertThrows(InvalidPageParameterException.class,
+                () -> certificateService.findCertificatesPage(parameters, 10, cursor));
+    }
+
     @Test
     void findCertificateByIdPositiveTest() {
-        when(certificateDao.findById(2)).thenReturn(Optional.of(firstTestCertificate));
+        when(certificateCache.findById(2)).thenReturn(Optional.of(firstTestCertificate));
         Assertions.assertEquals(certificateService.findCertificateById(2), firstTestCertificate);
     }
 
+    @Test
+    void findRecentlyWrittenCertificateByIdTest() {
+        when(certificateCache.findById(2)).thenReturn(Optional.of(firstTestCertificate));
+        when(recentWriteTracker.isWriteRecent(2)).thenReturn(true);
+        Assertions.assertEquals(firstTestCertificate, certificateService.findCertificateById(2));
+        verify(recentWriteTracker).requirePrimary();
+        verify(recentWriteTracker, never()).isWriteRecent(1);
+    }
+
     @Test
     void findUnknownCertificateByIdTest() {
-        when(certificateDao.findById(2)).thenReturn(Optional.empty());
+        when(certificateCache.findById(2)).thenReturn(Optional.empty());
         Assertions.assertThrows(UnknownCertificateException.class, () -> certificateService.findCertificateById(2));
     }
 
+    @Test
+    void findCertificateVersionTest() {
+        EntityVersion version = new EntityVersion("\"0-2\"", 1000);
+        firstTestCertificate.setVersion(2);
+        when(certificateDao.findVersionById(2)).thenReturn(Optional.of(firstTestCertificate));
+        when(catalogVersion.getCertificateVersion(2, firstTestCertificate.getLastUpdateDate())).thenReturn(version);
+        Assertions.assertEquals(version, certificateService.findCertificateVersion(2));
+        verify(certificateCache, never()).findById(2);
+    }
+
+    @Test
+    void findUnknownCertificateVersionTest() {
+        when(certificateDao.findVersionById(2)).thenReturn(Optional.empty());
+        Assertions.assertThrows(UnknownCertificateException.class, () -> certificateService.findCertificateVersion(2));
+    }
+
     @Test
     void removeCertificateByIdPositiveTest() {
         when(certificateDao.findById(2)).thenReturn(Optional.of(firstTestCertificate));
         when(certificateDao.remove(2)).thenReturn(true);
 
         Assertions.assertTrue(certificateService.removeCertificateById(2));
+        verify(catalogChangeListener).onCertificateRemoved(2);
     }
 
     @Test
@@ -139,6 +390,7 @@ class CertificateServiceImplTest {
         CertificateServiceImpl spyCertificateService = Mockito.spy(certificateService);
         doNothing().when(spyCertificateService).addCertificateTags(isA(Long.class), isA(List.class));
         Assertions.assertEquals(spyCertificateService.updateCertificate(firstTestCertificate), firstTestCertificate);
+        verify(catalogChangeListener).onCertificateSaved(firstTestCertificate);
     }
 
     @Test
@@ -174,11 +426,50 @@ class CertificateServiceImplTest {
         Certificate result = new Certificate(2, testCertificate.getName(), firstTestCertificate.getDescription(),
                 firstTestCertificate.getPrice(), firstTestCertificate.getDuration(), firstTestCertificate.getCreateDate(),
                 firstTestCertificate.getLastUpdateDate(), firstTestCertificate.getTags());
+        firstTestCertificate.setVersion(3);
         when(certificateDao.findById(2)).thenReturn(Optional.of(firstTestCertificate));
         when(certificateFullDataCollector.collectFullCertificateData(testCertificate, firstTestCertificate)).thenReturn(result);
-        CertificateServiceImpl spyCertificateService = Mockito.spy(certificateService);
-        doReturn(result).when(spyCertificateService).updateCertificate(result);
-        Assertions.assertEquals(spyCertificateService.patchCertificate(testCertificate), result);
+        when(certificateDuplicationChecker.checkCertificateForUpdatingDuplication(result)).thenReturn(true);
+        when(certificateDao.update(result)).thenReturn(true);
+        Assertions.assertEquals(certificateService.patchCertificate(testCertificate), firstTestCertificate);
+        Assertions.assertEquals(3, result.getVersion());
+        verify(certificateDao, times(2)).findById(2);
+    }
+
+    @Test
+    void updateConcurrentlyUpdatedCertificateTest() {
+        when(certificateDao.findById(2)).thenReturn(Optional.of(firstTestCertificate));
+        when(certificateDuplicationChecker.checkCertificateForUpdatingDuplication(firstTestCertificate)).thenReturn(true);
+        when(certificateDao.update(firstTestCertificate)).thenReturn(false);
+
+        Assertions.assertThrows(ConcurrentCertificateUpdateException.class,
+                () -> certificateService.updateCertificate(firstTestCertificate));
+        verify(catalogChangeListener, never()).onCertificateSaved(any(Certificate.class));
+    }
+
+    @Test
+    void updateCertificateVersionMismatchTest() {
+        when(certificateDao.findById(2)).thenReturn(Optional.of(firstTestCertificate));
+        when(catalogVersion.matchesCertificateVersion(0, "\"0-0\"")).thenReturn(false);
+
+        Assertions.assertThrows(CertificateVersionMismatchException.class,
+                () -> certificateService.updateCertificate(firstTestCertificate, "\"0-0\""));
+        verify(certificateDao, never()).update(firstTestCertificate);
+    }
+
+    @Test
+    void patchCertificateMatchingVersionTest() {
+        Certificate testCertificate = new Certificate();
+        testCertificate.setId(2);
+        when(certificateDao.findById(2)).thenReturn(Optional.of(firstTestCertificate));
+        when(catalogVersion.matchesCertificateVersion(0, "\"0-1\", \"0-0\"")).thenReturn(true);
+        when(certificateFullDataCollector.collectFullCertificateData(testCertificate, firstTestCertificate))
+                .thenReturn(firstTestCertificate);
+        when(certificateDuplicationChecker.checkCertificateForUpdatingDuplication(firstTestCertificate)).thenReturn(true);
+        when(certificateDao.update(firstTestCertificate)).thenReturn(true);
+
+        Assertions.assertEquals(firstTestCertificate,
+                certificateService.patchCertificate(testCertificate, "\"0-1\", \"0-0\""));
     }
 
     @Test
@@ -196,4 +487,33 @@ class CertificateServiceImplTest {
         doReturn(result).when(spyCertificateService).updateCertificate(result);
         Assertions.assertThrows(UnknownCertificateException.class, () -> spyCertificateService.patchCertificate(testCertificate));
     }
+
+    @Test
+    void addCertificateTagsTest() {
+        List<Tag> tags = firstTestCertificate.getTags();
+        when(tagService.addTagsIfNotExist(tags)).thenReturn(tags);
+        when(certificateDao.findCertificateTagIds(2)).thenReturn(Collections.singletonList(1L));
+
+        certificateService.addCertificateTags(2, tags);
+        verify(certificateDao).addTagsToCertificate(2, Collections.singletonList(3L));
+    }
+
+    @Test
+    void addAlreadyLinkedCertificateTagsTest() {
+        List<Tag> tags = firstTestCertificate.getTags();
+        when(tagService.addTagsIfNotExist(tags)).thenReturn(tags);
+        when(certificateDao.findCertificateTagIds(2)).thenReturn(Arrays.asList(1L, 3L));
+
+        certificateService.addCertificateTags(2, tags);
+        verify(certificateDao, never()).addTagsToCertificate(anyLong(), anyCollection());
+    }
+
+    @Test
+    void importCertificatesTest() {
+        Iterator<Certificate> importedCertificates = certificates.iterator();
+        CertificateImportReport report = new CertificateImportReport();
+        when(certificateImporter.importCertificates(importedCertificates)).thenReturn(report);
+
+        Assertions.assertSame(report, certificateService.importCertificates(importedCertificates));
+    }
 }
\ No newline at end of file
@@ -2,20 +2,31 @@ package com.epam.esm.service.impl;
 
 import com.epam.esm.dao.TagDao;
 import com.epam.esm.entity.Tag;
+import com.epam.esm.service.cache.TagDictionary;
 import com.epam.esm.service.checker.TagDuplicationChecker;
 import com.epam.esm.service.exception.DuplicateTagException;
 import com.epam.esm.service.exception.InvalidTagException;
 import com.epam.esm.service.exception.UnknownTagException;
+import com.epam.esm.service.listener.CatalogChangeListener;
 import com.epam.esm.service.validator.TagValidator;
+import com.epam.esm.service.version.CatalogVersion;
+import com.epam.esm.service.version.EntityVersion;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollection;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class TagServiceImplTest {
@@ -23,6 +34,9 @@ class TagServiceImplTest {
     private TagValidator tagValidator;
     private TagDuplicationChecker tagDuplicationChecker;
     private TagDao tagDao;
+    private TagDictionary tagDictionary;
+    private CatalogVersion catalogVersion;
+    private CatalogChangeListener catalogChangeListener;
     private Tag firstTestTag;
     private List<Tag> tags;
 
@@ -31,7 +45,11 @@ class TagServiceImplTest {
         tagValidator = mock(TagValidator.class);
         tagDuplicationChecker = mock(TagDuplicationChecker.class);
         tagDao = mock(TagDao.class);
-        tagService = new TagServiceImpl(tagValidator, tagDuplicationChecker, tagDao);
+        tagDictionary = mock(TagDictionary.class);
+        catalogVersion = mock(CatalogVersion.class);
+        catalogChangeListener = mock(CatalogChangeListener.class);
+        tagService = new TagServiceImpl(tagValidator, tagDuplicationChecker, tagDao, tagDictionary,
+                catalogVersion, Collections.singletonList(catalogChangeListener));
 
         firstTestTag = new Tag(1, "Jumps");
         Tag secondTestTag = new Tag(2, "Fly");
@@ -42,8 +60,8 @@ class TagServiceImplTest {
     void addTagPositiveTest() {
         when(tagValidator.validateTag(firstTestTag)).thenReturn(true);
         when(tagDuplicationChecker.checkTagForDuplication(firstTestTag)).thenReturn(true);
-        when(tagDao.add(firstTestTag)).thenReturn(true);
-        when(tagDao.findByName(firstTestTag.getName())).thenReturn(Optional.of(firstTestTag));
+        when(tagDao.add(firstTestTag)).thenReturn(1L);
+        when(tagDictionary.findByName(firstTestTag.getName())).thenReturn(Optional.of(firstTestTag));
         Assertions.assertEquals(tagService.addTag(firstTestTag), firstTestTag);
     }
 
@@ -51,8 +69,8 @@ class TagServiceImplTest {
     void addTagWithInvalidTagTest() {
         when(tagValidator.validateTag(firstTestTag)).thenReturn(false);
         when(tagDuplicationChecker.checkTagForDuplication(firstTestTag)).thenReturn(true);
-        when(tagDao.add(firstTestTag)).thenReturn(true);
-        when(tagDao.findByName(firstTestTag.getName())).thenReturn(Optional.of(firstTestTag));
+        when(tagDao.add(firstTestTag)).thenReturn(1L);
+        when(tagDictionary.findByName(firstTestTag.getName())).thenReturn(Optional.of(firstTestTag));
         Assertions.assertThrows(InvalidTagException.class, () -> tagService.addTag(firstTestTag));
     }
 
@@ -60,51 +78,68 @@ class TagServiceImplTest {
     void addDuplicateTagTest() {
         when(tagValidator.validateTag(firstTestTag)).thenReturn(true);
         when(tagDuplicationChecker.checkTagForDuplication(firstTestTag)).thenReturn(false);
-        when(tagDao.add(firstTestTag)).thenReturn(true);
-        when(tagDao.findByName(firstTestTag.getName())).thenReturn(Optional.of(firstTestTag));
+        when(tagDao.add(firstTestTag)).thenReturn(1L);
+        when(tagDictionary.findByName(firstTestTag.getName())).thenReturn(Optional.of(firstTestTag));
         Assertions.assertThrows(DuplicateTagException.class, () -> tagService.addTag(firstTestTag));
     }
 
     @Test
     void findAllTagsTest() {
-        when(tagDao.findAll()).thenReturn(tags);
+        when(tagDictionary.findAll()).thenReturn(tags);
         Assertions.assertEquals(tagService.findAllTags(), tags);
     }
 
     @Test
     void findTagByIdTest() {
-        when(tagDao.findById(1)).thenReturn(Optional.of(firstTestTag));
+        when(tagDictionary.findById(1)).thenReturn(Optional.of(firstTestTag));
         Assertions.assertEquals(tagService.findTagById(1), firstTestTag);
     }
 
     @Test
     void findTagWithInvalidIdTest() {
-        when(tagDao.findById(1)).thenReturn(Optional.empty());
+        when(tagDictionary.findById(1)).thenReturn(Optional.empty());
         Assertions.assertThrows(UnknownTagException.class, () -> tagService.findTagById(1));
     }
 
+    @Test
+    void findTagVersionTest() {
+        EntityVersion version = new EntityVersion("\"1-2\"", 1000);
+        when(tagDictionary.findById(1)).thenReturn(Optional.of(firstTestTag));
+        when(catalogVersion.getTagsVersion()).thenReturn(version);
+        Assertions.assertEquals(version, tagService.findTagVersion(1));
+    }
+
+    @Test
+    void findTagVersionWithInvalidIdTest() {
+        when(tagDictionary.findById(1)).thenReturn(Optional.empty());
+        Assertions.assertThrows(UnknownTagException.class, () -> tagService.findTagVersion(1));
+        verify(catalogVersion, never()).getTagsVersion();
+    }
+
     @Test
     void findTagByNameTest() {
-        when(tagDao.findByName("Jumps")).thenReturn(Optional.of(firstTestTag));
+        when(tagDictionary.findByName("Jumps")).thenReturn(Optional.of(firstTestTag));
         Assertions.assertEquals(tagService.findTagByName("Jumps"), firstTestTag);
     }
 
     @Test
     void findTagWithInvalidNameTest() {
-        when(tagDao.findByName("Jumps")).thenReturn(Optional.empty());
+        when(tagDictionary.findByName("Jumps")).thenReturn(Optional.empty());
         Assertions.assertThrows(UnknownTagException.class, () -> tagService.findTagByName("Jumps"));
     }
 
     @Test
     void removeTagByIdPositiveTest() {
-        when(tagDao.findById(1)).thenReturn(Optional.of(firstTestTag));
+        when(tagDictionary.findById(1)).thenReturn(Optional.of(firstTestTag));
         when(tagDao.remove(1)).thenReturn(true);
+        when(tagDao.findTagCertificateIds(1)).thenReturn(Collections.singletonList(2L));
         Assertions.assertTrue(tagService.removeTagById(1));
+        verify(catalogChangeListener).onTagRemoved(firstTestTag, Collections.singletonList(2L));
     }
 
     @Test
     void removeTagWithInvalidIdTest() {
-        when(tagDao.findById(1)).thenReturn(Optional.empty());
+        when(tagDictionary.findById(1)).thenReturn(Optional.empty());
         Assertions.assertThrows(UnknownTagException.class ,() -> tagService.removeTagById(1));
     }
 
@@ -113,16 +148,25 @@ class TagServiceImplTest {
         firstTestTag.setName("Test");
         when(tagValidator.validateTag(firstTestTag)).thenReturn(true);
         when(tagDuplicationChecker.checkTagForDuplication(firstTestTag)).thenReturn(true);
-        when(tagDao.findById(1)).thenReturn(Optional.of(firstTestTag));
+        when(tagDictionary.findById(1)).thenReturn(Optional.of(firstTestTag));
         Assertions.assertEquals(tagService.updateTag(firstTestTag), firstTestTag);
     }
 
+    @Test
+    void updateUnknownTagTest() {
+        when(tagValidator.validateTag(firstTestTag)).thenReturn(true);
+        when(tagDuplicationChecker.checkTagForDuplication(firstTestTag)).thenReturn(true);
+        when(tagDictionary.findById(1)).thenReturn(Optional.empty());
+        Assertions.assertThrows(UnknownTagException.class, () -> tagService.updateTag(firstTestTag));
+        verify(tagDao, never()).update(firstTestTag);
+    }
+
     @Test
     void updateTagWithInvalidTagTest() {
         firstTestTag.setName("");
         when(tagValidator.validateTag(firstTestTag)).thenReturn(false);
         when(tagDuplicationChecker.checkTagForDuplication(firstTestTag)).thenReturn(true);
-        when(tagDao.findById(1)).thenReturn(Optional.of(firstTestTag));
+        when(tagDictionary.findById(1)).thenReturn(Optional.of(firstTestTag));
         Assertions.assertThrows(InvalidTagException.class, () -> tagService.updateTag(firstTestTag));
     }
 
@@ -131,7 +175,37 @@ class TagServiceImplTest {
         firstTestTag.setName("Fly");
         when(tagValidator.validateTag(firstTestTag)).thenReturn(true);
         when(tagDuplicationChecker.checkTagForDuplication(firstTestTag)).thenReturn(false);
-        when(tagDao.findById(1)).thenReturn(Optional.of(firstTestTag));
+        when(tagDictionary.findById(1)).thenReturn(Optional.of(firstTestTag));
         Assertions.assertThrows(DuplicateTagException.class, () -> tagService.updateTag(firstTestTag));
     }
-}
\ No newline at end of file
+
+    @Test
+    void addTagsIfNotExistTest() {
+        Tag newTag = new Tag("Fly");
+        List<Tag> requestedTags = Arrays.asList(new Tag("Jumps"), newTag, new Tag("Jumps"));
+        Set<String> missingTagNames = Collections.singleton("Fly");
+        when(tagValidator.validateTag(any(Tag.class))).thenReturn(true);
+        when(tagDictionary.findAllByNames(new LinkedHashSet<>(Arrays.asList("Jumps", "Fly"))))
+                .thenReturn(Collections.singletonList(firstTestTag));
+        when(tagDao.findAllByNames(missingTagNames)).thenReturn(Collections.singletonList(new Tag(2, "Fly")));
+
+        Assertions.assertEquals(tags, tagService.addTagsIfNotExist(requestedTags));
+        verify(tagDao).addAll(Collections.singletonList(newTag));
+    }
+
+    @Test
+    void addExistingTagsTest() {
+        when(tagValidator.validateTag(any(Tag.class))).thenReturn(true);
+        when(tagDictionary.findAllByNames(new LinkedHashSet<>(Arrays.asList("Jumps", "Fly")))).thenReturn(tags);
+
+        Assertions.assertEquals(tags, tagService.addTagsIfNotExist(Arrays.asList(new Tag("Jumps"), new Tag("Fly"))));
+        verify(tagDao, never()).addAll(anyCollection());
+    }
+
+    @Test
+    void addTagsWithInvalidTagTest() {
+        when(tagValidator.validateTag(any(Tag.class))).thenReturn(false);
+        Assertions.assertThrows(InvalidTagException.class,
+                () -> tagService.addTagsIfNotExist(Collections.singletonList(new Tag(""))));
+    }
+}
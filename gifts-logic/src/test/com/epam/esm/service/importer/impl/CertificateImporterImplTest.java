@@ -0,0 +1,170 @@
+package com.epam.esm.service.importer.impl;
+
+import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.CertificateImportReport;
+import com.epam.esm.entity.CertificateImportResult;
+import com.epam.esm.entity.CertificateImportStatus;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.TagService;
+import com.epam.esm.service.listener.CatalogChangeListener;
+import com.epam.esm.service.validator.impl.CertificateValidatorImpl;
+import com.epam.esm.service.validator.impl.TagValidatorImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.*;
+
+class CertificateImporterImplTest {
+    private CertificateImporterImpl certificateImporter;
+    private CertificateDao certificateDao;
+    private TagService tagService;
+    private CatalogChangeListener catalogChangeListener;
+
+    @BeforeEach
+    void setUp() {
+        certificateDao = mock(CertificateDao.class);
+        tagService = mock(TagService.class);
+        catalogChangeListener = mock(CatalogChangeListener.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+        certificateImporter = new CertificateImporterImpl(certificateDao, tagService, new CertificateValidatorImpl(),
+                new TagValidatorImpl(), transactionTemplate, Collections.singletonList(catalogChangeListener), 2);
+    }
+
+    @Test
+    void importCertificatesInChunksTest() {
+        when(certificateDao.findIdsByNames(anyCollection())).thenReturn(ids(), ids("Jump park", 11L, "Karting", 12L),
+                ids(), ids("Tattoo", 13L));
+        when(tagService.addTagsIfNotExist(anyList())).thenReturn(Arrays.asList(new Tag(1, "Jumps"),
+                new Tag(3, "Entertainment")));
+
+        CertificateImportReport report = certificateImporter.importCertificates(Arrays.asList(
+                createCertificate("Jump park", new Tag("Jumps"), new Tag("entertainment")),
+                createCertificate("Karting", new Tag("Entertainment")),
+                createCertificate("Tattoo")).iterator());
+
+        Assertions.assertEquals(3, report.getImported());
+        Assertions.assertEquals(0, report.getRejected());
+        Assertions.assertTrue(report.isComplete());
+        Assertions.assertTrue(report.getResults().isEmpty());
+        verify(certificateDao, times(2)).addAll(anyList());
+        verify(certificateDao).addTagsToCertificates(any(Map.class));
+        verify(catalogChangeListener, times(3)).onCertificateSaved(any(Certificate.class));
+    }
+
+    @Test
+    void importInvalidAndRepeatedCertificatesTest() {
+        when(certificateDao.findIdsByNames(anyCollection())).thenReturn(ids(), ids("Jump park", 11L));
+        Certificate invalidCertificate = createCertificate("Karting");
+        invalidCertificate.setDescription("Karting");
+
+        CertificateImportReport report = certificateImporter.importCertificates(Arrays.asList(
+                createCertificate("Jump park"), invalidCertificate, createCertificate("JUMP PARK"), null,
+                createCertificate("Tattoo", new Tag("x"))).iterator());
+
+        Assertions.assertEquals(Arrays.asList(CertificateImportStatus.INVALID, CertificateImportStatus.DUPLICATE,
+                CertificateImportStatus.INVALID, CertificateImportStatus.INVALID), statuses(report));
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 4), report.getResults().stream()
+                .map(CertificateImportResult::getIndex)
+                .collect(Collectors.toList()));
+        Assertions.assertEquals("description", report.getResults().get(0).getCause());
+        Assertions.assertEquals("certificate is null", report.getResults().get(2).getCause());
+        Assertions.assertEquals("tag name", report.getResults().get(3).getCause());
+        Assertions.assertEquals(1, report.getImported());
+        Assertions.assertEquals(4, report.getRejected());
+    }
+
+    @Test
+    void importStoredCertificateTest() {
+        when(certificateDao.findIdsByNames(anyCollection())).thenReturn(ids("Jump park", 5L));
+
+        CertificateImportReport report = certificateImporter.importCertificates(Collections
+                .singletonList(createCertificate("Jump park")).iterator());
+
+        Assertions.assertEquals(Collections.singletonList(CertificateImportStatus.DUPLICATE), statuses(report));
+        verify(certificateDao, never()).addAll(anyList());
+    }
+
+    @Test
+    void importFailedChunkTest() {
+        doThrow(new DataIntegrityViolationException("duplicate name")).when(certificateDao).addAll(anyList());
+
+        CertificateImportReport report = certificateImporter.importCertificates(Arrays.asList(
+                createCertificate("Jump park"), createCertificate("Karting")).iterator());
+
+        Assertions.assertEquals(Arrays.asList(CertificateImportStatus.FAILED, CertificateImportStatus.FAILED),
+                statuses(report));
+        Assertions.assertEquals(0, report.getImported());
+        verify(catalogChangeListener, never()).onCertificateSaved(any(Certificate.class));
+    }
+
+    @Test
+    void importMalformedCertificateTest() {
+        when(certificateDao.findIdsByNames(anyCollection())).thenReturn(ids(), ids("Jump park", 11L, "Karting", 12L),
+                ids(), ids("Tattoo", 13L));
+        Iterator<Certificate> certificates = Arrays.asList(createCertificate("Jump park"),
+                createCertificate("Karting"), createCertificate("Tattoo")).iterator();
+
+        CertificateImportReport report = certificateImporter.importCertificates(new Iterator<Certificate>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Certificate next() {
+                if (index++ == 3) {
+                    throw new UncheckedIOException(new IOException("Unexpected character"));
+                }
+
+                return certificates.next();
+            }
+        });
+
+        Assertions.assertEquals(3, report.getImported());
+        Assertions.assertEquals(1, report.getRejected());
+        Assertions.assertFalse(report.isComplete());
+        Assertions.assertEquals(Collections.singletonList(new CertificateImportResult(3, null,
+                CertificateImportStatus.MALFORMED, null, "Unexpected character")), report.getResults());
+        verify(certificateDao, times(2)).addAll(anyList());
+    }
+
+    private Certificate createCertificate(String name, Tag... tags) {
+        return new Certificate(0, name, "Certificate for the import test", new BigDecimal("30"), (short) 30,
+                null, null, new ArrayList<>(Arrays.asList(tags)));
+    }
+
+    private Map<String, Long> ids(Object... namesAndIds) {
+        Map<String, Long> certificateIds = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < namesAndIds.length; i += 2) {
+            certificateIds.put((String) namesAndIds[i], (Long) namesAndIds[i + 1]);
+        }
+
+        return certificateIds;
+    }
+
+    private List<CertificateImportStatus> statuses(CertificateImportReport report) {
+        return report.getResults().stream()
+                .map(CertificateImportResult::getStatus)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,57 @@
+package com.epam.esm.service.index;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CertificateIdSetTest {
+    @Test
+    void ofTest() {
+        CertificateIdSet ids = CertificateIdSet.of(5, 1, 3, 1, 5);
+
+        Assertions.assertArrayEquals(new long[]{1, 3, 5}, ids.toArray());
+        Assertions.assertTrue(ids.contains(3));
+        Assertions.assertFalse(ids.contains(2));
+        Assertions.assertSame(CertificateIdSet.empty(), CertificateIdSet.of());
+    }
+
+    @Test
+    void withAndWithoutTest() {
+        CertificateIdSet ids = CertificateIdSet.of(1, 5);
+
+        Assertions.assertEquals(CertificateIdSet.of(1, 3, 5), ids.with(3));
+        Assertions.assertSame(ids, ids.with(5));
+        Assertions.assertEquals(CertificateIdSet.of(5), ids.without(1));
+        Assertions.assertSame(ids, ids.without(2));
+        Assertions.assertTrue(ids.without(1).without(5).isEmpty());
+    }
+
+    @Test
+    void andTest() {
+        CertificateIdSet ids = CertificateIdSet.of(1, 2, 4, 8, 16);
+
+        Assertions.assertEquals(CertificateIdSet.of(2, 16), ids.and(CertificateIdSet.of(2, 3, 16, 17)));
+        Assertions.assertEquals(CertificateIdSet.of(2, 16), CertificateIdSet.of(2, 3, 16, 17).and(ids));
+        Assertions.assertTrue(ids.and(CertificateIdSet.of(3, 5)).isEmpty());
+        Assertions.assertTrue(ids.and(CertificateIdSet.empty()).isEmpty());
+    }
+
+    @Test
+    void orTest() {
+        CertificateIdSet ids = CertificateIdSet.of(1, 4, 8);
+
+        Assertions.assertEquals(CertificateIdSet.of(1, 2, 4, 8, 9), ids.or(CertificateIdSet.of(2, 4, 9)));
+        Assertions.assertSame(ids, ids.or(CertificateIdSet.empty()));
+        Assertions.assertSame(ids, CertificateIdSet.empty().or(ids));
+    }
+
+    @Test
+    void builderTest() {
+        CertificateIdSet.Builder builder = new CertificateIdSet.Builder();
+        for (long id = 10; id > 0; id--) {
+            builder.add(id).add(id);
+        }
+
+        Assertions.assertEquals(CertificateIdSet.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), builder.build());
+        Assertions.assertSame(CertificateIdSet.empty(), new CertificateIdSet.Builder().build());
+    }
+}
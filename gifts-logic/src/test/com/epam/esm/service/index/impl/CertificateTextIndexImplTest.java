@@ -0,0 +1,95 @@
+package com.epam.esm.service.index.impl;
+
+import com.epam.esm.dao.CertificateDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.service.index.CertificateIdSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CertificateTextIndexImplTest {
+    private CertificateTextIndexImpl certificateTextIndex;
+    private Certificate firstTestCertificate;
+
+    @BeforeEach
+    void setUp() {
+        CertificateDao certificateDao = mock(CertificateDao.class);
+        firstTestCertificate = new Certificate(1, "Jump park", "Free jumps for your health!",
+                new BigDecimal("30"), (short) 30, LocalDateTime.now(), LocalDateTime.now(), new ArrayList<>());
+        Certificate secondTestCertificate = new Certificate(2, "Fly tube", "Free flying in air tube!",
+                new BigDecimal("70"), (short) 30, LocalDateTime.now(), LocalDateTime.now(), new ArrayList<>());
+        Certificate thirdTestCertificate = new Certificate(3, "Casino park", "Free 100 spins!",
+                new BigDecimal("100"), (short) 60, LocalDateTime.now(), LocalDateTime.now(), new ArrayList<>());
+        when(certificateDao.findAllWithoutTags())
+                .thenReturn(Arrays.asList(firstTestCertificate, secondTestCertificate, thirdTestCertificate));
+        certificateTextIndex = new CertificateTextIndexImpl(certificateDao);
+        certificateTextIndex.afterPropertiesSet();
+    }
+
+    @Test
+    void findCandidatesByNamePartTest() {
+        Assertions.assertEquals(Optional.of(CertificateIdSet.of(1, 3)),
+                certificateTextIndex.findCandidatesByNamePart("PARK"));
+        Assertions.assertEquals(Optional.of(CertificateIdSet.of(3)),
+                certificateTextIndex.findCandidatesByNamePart("sino p"));
+        Assertions.assertEquals(Optional.of(CertificateIdSet.empty()),
+                certificateTextIndex.findCandidatesByNamePart("zoo"));
+    }
+
+    @Test
+    void findCandidatesByShortPartTest() {
+        Assertions.assertEquals(Optional.empty(), certificateTextIndex.findCandidatesByNamePart("pa"));
+    }
+
+    @Test
+    void findCandidatesByDescriptionPartTest() {
+        Assertions.assertEquals(Optional.of(CertificateIdSet.of(1, 2, 3)),
+                certificateTextIndex.findCandidatesByDescriptionPart("free"));
+        Assertions.assertEquals(Optional.of(CertificateIdSet.of(2)),
+                certificateTextIndex.findCandidatesByDescriptionPart("air tube"));
+    }
+
+    @Test
+    void certificateChangesTest() {
+        firstTestCertificate.setName("Trampoline");
+        certificateTextIndex.onCertificateSaved(firstTestCertificate);
+        Assertions.assertEquals(Optional.of(CertificateIdSet.of(3)),
+                certificateTextIndex.findCandidatesByNamePart("park"));
+        Assertions.assertEquals(Optional.of(CertificateIdSet.of(1)),
+                certificateTextIndex.findCandidatesByNamePart("poli"));
+
+        certificateTextIndex.onCertificateRemoved(3);
+        Assertions.assertEquals(Optional.of(CertificateIdSet.empty()),
+                certificateTextIndex.findCandidatesByNamePart("park"));
+        Assertions.assertEquals(Optional.of(CertificateIdSet.of(1, 2)),
+                certificateTextIndex.findCandidatesByDescriptionPart("free"));
+    }
+
+    @Test
+    void changesAppliedAfterCommitTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            certificateTextIndex.onCertificateRemoved(3);
+            Assertions.assertEquals(Optional.of(CertificateIdSet.of(1, 3)),
+                    certificateTextIndex.findCandidatesByNamePart("park"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(Optional.of(CertificateIdSet.of(1)),
+                certificateTextIndex.findCandidatesByNamePart("park"));
+    }
+}
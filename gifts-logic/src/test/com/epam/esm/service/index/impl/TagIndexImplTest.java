@@ -0,0 +1,116 @@
+package com.epam.esm.service.index.impl;
+
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.index.CertificateIdSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TagIndexImplTest {
+    private TagIndexImpl tagIndex;
+    private Tag firstTestTag;
+    private Tag secondTestTag;
+
+    @BeforeEach
+    void setUp() {
+        TagDao tagDao = mock(TagDao.class);
+        firstTestTag = new Tag(1, "Jumps");
+        secondTestTag = new Tag(2, "Fly");
+
+        Map<String, List<Long>> certificateIdsByTagName = new HashMap<>();
+        certificateIdsByTagName.put("Jumps", Arrays.asList(3L, 1L));
+        certificateIdsByTagName.put("Fly", Arrays.asList(2L, 3L));
+        when(tagDao.findAllTagCertificateIds()).thenReturn(certificateIdsByTagName);
+        tagIndex = new TagIndexImpl(tagDao);
+        tagIndex.afterPropertiesSet();
+    }
+
+    @Test
+    void findByTagNameTest() {
+        Assertions.assertEquals(CertificateIdSet.of(1, 3), tagIndex.findByTagName("jUMPS"));
+        Assertions.assertTrue(tagIndex.findByTagName("Test").isEmpty());
+    }
+
+    @Test
+    void findByAllTagNamesTest() {
+        Assertions.assertEquals(CertificateIdSet.of(3), tagIndex.findByAllTagNames(Arrays.asList("Jumps", "Fly")));
+        Assertions.assertTrue(tagIndex.findByAllTagNames(Arrays.asList("Jumps", "Test")).isEmpty());
+    }
+
+    @Test
+    void findByAnyTagNameTest() {
+        Assertions.assertEquals(CertificateIdSet.of(1, 2, 3),
+                tagIndex.findByAnyTagName(Arrays.asList("Jumps", "Fly", "Test")));
+    }
+
+    @Test
+    void certificateChangesTest() {
+        Certificate certificate = new Certificate(1, "Fly tube", "Free flying in air tube!",
+                new BigDecimal("70"), (short) 30, LocalDateTime.now(), LocalDateTime.now(),
+                Collections.singletonList(secondTestTag));
+        tagIndex.onCertificateSaved(certificate);
+
+        Assertions.assertEquals(CertificateIdSet.of(3), tagIndex.findByTagName("Jumps"));
+        Assertions.assertEquals(CertificateIdSet.of(1, 2, 3), tagIndex.findByTagName("Fly"));
+
+        tagIndex.onCertificateRemoved(3);
+        Assertions.assertTrue(tagIndex.findByTagName("Jumps").isEmpty());
+        Assertions.assertEquals(CertificateIdSet.of(1, 2), tagIndex.findByTagName("Fly"));
+    }
+
+    @Test
+    void tagChangesTest() {
+        tagIndex.onTagUpdated(firstTestTag, new Tag(1, "Trampoline"), Arrays.asList(1L, 3L));
+        Assertions.assertTrue(tagIndex.findByTagName("Jumps").isEmpty());
+        Assertions.assertEquals(CertificateIdSet.of(1, 3), tagIndex.findByTagName("Trampoline"));
+
+        tagIndex.onTagRemoved(secondTestTag, Arrays.asList(2L, 3L));
+        Assertions.assertTrue(tagIndex.findByTagName("Fly").isEmpty());
+        tagIndex.onCertificateRemoved(3);
+        Assertions.assertEquals(CertificateIdSet.of(1), tagIndex.findByTagName("Trampoline"));
+    }
+
+    @Test
+    void changesAppliedAfterCommitTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tagIndex.onCertificateRemoved(3);
+            Assertions.assertEquals(CertificateIdSet.of(1, 3), tagIndex.findByTagName("Jumps"));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(CertificateIdSet.of(1), tagIndex.findByTagName("Jumps"));
+    }
+
+    @Test
+    void changesDroppedOnRollbackTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            tagIndex.onTagRemoved(secondTestTag, Arrays.asList(2L, 3L));
+            TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertEquals(CertificateIdSet.of(2, 3), tagIndex.findByTagName("Fly"));
+    }
+}
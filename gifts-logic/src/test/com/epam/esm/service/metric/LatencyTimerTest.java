@@ -0,0 +1,42 @@
+package com.epam.esm.service.metric;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LatencyTimerTest {
+    @Test
+    void recordTest() {
+        LatencyTimer timer = new LatencyTimer();
+        timer.record(100, false);
+        timer.record(300, true);
+
+        Assertions.assertEquals(2, timer.getCount());
+        Assertions.assertEquals(1, timer.getErrorCount());
+        Assertions.assertEquals(400, timer.getTotalNanos());
+    }
+
+    @Test
+    void cumulativeCountsTest() {
+        LatencyTimer timer = new LatencyTimer();
+        timer.record(500_000, false);
+        timer.record(700_000, false);
+        timer.record(3_000_000, false);
+        timer.record(60_000_000_000L, false);
+
+        long[] cumulativeCounts = timer.getCumulativeCounts();
+        Assertions.assertEquals(LatencyTimer.getBucketBoundsNanos().length + 1, cumulativeCounts.length);
+        Assertions.assertEquals(1, cumulativeCounts[0]);
+        Assertions.assertEquals(2, cumulativeCounts[1]);
+        Assertions.assertEquals(2, cumulativeCounts[2]);
+        Assertions.assertEquals(3, cumulativeCounts[3]);
+        Assertions.assertEquals(3, cumulativeCounts[cumulativeCounts.length - 2]);
+        Assertions.assertEquals(4, cumulativeCounts[cumulativeCounts.length - 1]);
+    }
+
+    @Test
+    void emptyCumulativeCountsTest() {
+        for (long cumulativeCount : new LatencyTimer().getCumulativeCounts()) {
+            Assertions.assertEquals(0, cumulativeCount);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.epam.esm.service.metric.impl;
+
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.dao.impl.TagDaoImpl;
+import com.epam.esm.dao.mapper.TagMapperImpl;
+import com.epam.esm.service.metric.LatencyTimer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+
+class MethodLatencyPostProcessorTest {
+    private MetricRegistryImpl metricRegistry;
+    private MethodLatencyPostProcessor postProcessor;
+    private TagDaoImpl tagDao;
+
+    @BeforeEach
+    void setUp() {
+        metricRegistry = new MetricRegistryImpl();
+        postProcessor = new MethodLatencyPostProcessor(metricRegistry);
+        tagDao = new TagDaoImpl(new TagMapperImpl(), mock(JdbcTemplate.class));
+    }
+
+    @Test
+    void timeCallsTest() {
+        TagDao timedTagDao = (TagDao) postProcessor.postProcessAfterInitialization(tagDao, "tagDaoImpl");
+        timedTagDao.findAllByNames(Collections.emptyList());
+        Assertions.assertThrows(NullPointerException.class, () -> timedTagDao.findAllByNames(null));
+
+        LatencyTimer timer = metricRegistry.timer("gifts_dao", "DAO method", "dao", "TagDao",
+                "method", "findAllByNames");
+        Assertions.assertTrue(timedTagDao instanceof TagDaoImpl);
+        Assertions.assertEquals(2, timer.getCount());
+        Assertions.assertEquals(1, timer.getErrorCount());
+    }
+
+    @Test
+    void adviseExistingProxyTest() {
+        Object tagDaoProxy = new ProxyFactory(tagDao).getProxy();
+        TagDao timedTagDao = (TagDao) postProcessor.postProcessAfterInitialization(tagDaoProxy, "tagDaoImpl");
+        timedTagDao.findAllByNames(Collections.emptyList());
+
+        Assertions.assertSame(tagDaoProxy, timedTagDao);
+        Assertions.assertEquals(1, metricRegistry.timer("gifts_dao", "DAO method", "dao", "TagDao",
+                "method", "findAllByNames").getCount());
+    }
+
+    @Test
+    void skipOtherBeansTest() {
+        Object bean = new Object();
+
+        Assertions.assertSame(bean, postProcessor.postProcessAfterInitialization(bean, "bean"));
+    }
+}
@@ -0,0 +1,71 @@
+package com.epam.esm.service.metric.impl;
+
+import com.epam.esm.service.metric.LatencyTimer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MetricRegistryImplTest {
+    private MetricRegistryImpl metricRegistry;
+
+    @BeforeEach
+    void setUp() {
+        metricRegistry = new MetricRegistryImpl();
+    }
+
+    @Test
+    void timerIsSharedByLabelsTest() {
+        LatencyTimer timer = metricRegistry.timer("gifts_dao", "DAO method", "dao", "TagDao", "method", "findAll");
+
+        Assertions.assertSame(timer, metricRegistry.timer("gifts_dao", "DAO method", "dao", "TagDao",
+                "method", "findAll"));
+        Assertions.assertNotSame(timer, metricRegistry.timer("gifts_dao", "DAO method", "dao", "TagDao",
+                "method", "findById"));
+    }
+
+    @Test
+    void scrapeTest() {
+        metricRegistry.timer("gifts_dao", "DAO method", "dao", "TagDao").record(2_000_000, true);
+        metricRegistry.gauge("gifts_pool_idle_connections", "Idle connections", () -> 3, "pool", "main");
+
+        String expectedScrape = "# HELP gifts_dao_seconds DAO method latency in seconds\n" +
+                "# TYPE gifts_dao_seconds histogram\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.0005\"} 0.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.001\"} 0.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.0025\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.005\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.01\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.025\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.05\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.1\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.25\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"0.5\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"1\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"2.5\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"5\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"10\"} 1.0\n" +
+                "gifts_dao_seconds_bucket{dao=\"TagDao\",le=\"+Inf\"} 1.0\n" +
+                "gifts_dao_seconds_sum{dao=\"TagDao\"} 0.002\n" +
+                "gifts_dao_seconds_count{dao=\"TagDao\"} 1.0\n" +
+                "# HELP gifts_dao_errors_total DAO method failures\n" +
+                "# TYPE gifts_dao_errors_total counter\n" +
+                "gifts_dao_errors_total{dao=\"TagDao\"} 1.0\n" +
+                "# HELP gifts_pool_idle_connections Idle connections\n" +
+                "# TYPE gifts_pool_idle_connections gauge\n" +
+                "gifts_pool_idle_connections{pool=\"main\"} 3.0\n";
+        Assertions.assertEquals(expectedScrape, metricRegistry.scrape());
+    }
+
+    @Test
+    void escapeLabelValueTest() {
+        metricRegistry.gauge("gifts_test", "Test gauge", () -> 1, "path", "a\"b\\c");
+
+        Assertions.assertTrue(metricRegistry.scrape().contains("gifts_test{path=\"a\\\"b\\\\c\"} 1.0"));
+    }
+
+    @Test
+    void oddLabelsTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> metricRegistry.timer("gifts_dao", "DAO method",
+                "dao"));
+    }
+}
@@ -0,0 +1,66 @@
+package com.epam.esm.service.routing.impl;
+
+import com.epam.esm.entity.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecentWriteTrackerImplTest {
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void writeRecentTest() {
+        RecentWriteTrackerImpl recentWriteTracker = new RecentWriteTrackerImpl(1000, clock::get);
+        assertFalse(recentWriteTracker.isWriteRecent(1));
+
+        recentWriteTracker.onCertificateRemoved(1);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertTrue(recentWriteTracker.isWriteRecent(1));
+        assertFalse(recentWriteTracker.isWriteRecent(2));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertFalse(recentWriteTracker.isWriteRecent(1));
+    }
+
+    @Test
+    void tagWriteRecentTest() {
+        RecentWriteTrackerImpl recentWriteTracker = new RecentWriteTrackerImpl(1000, clock::get);
+        recentWriteTracker.onTagUpdated(new Tag(1, "Jumps"), new Tag(1, "Jump"), Arrays.asList(2L, 3L));
+
+        assertTrue(recentWriteTracker.isWriteRecent(2));
+        assertTrue(recentWriteTracker.isWriteRecent(3));
+        assertFalse(recentWriteTracker.isWriteRecent(1));
+    }
+
+    @Test
+    void stickinessDisabledTest() {
+        RecentWriteTrackerImpl recentWriteTracker = new RecentWriteTrackerImpl(0, clock::get);
+        recentWriteTracker.onCertificateRemoved(1);
+        assertFalse(recentWriteTracker.isWriteRecent(1));
+    }
+
+    @Test
+    void primaryRequiredTest() {
+        RecentWriteTrackerImpl recentWriteTracker = new RecentWriteTrackerImpl(1000, clock::get);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertFalse(recentWriteTracker.isPrimaryRequired());
+            recentWriteTracker.requirePrimary();
+            assertTrue(recentWriteTracker.isPrimaryRequired());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_COMMITTED));
+            assertFalse(recentWriteTracker.isPrimaryRequired());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.epam.esm.service.routing.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReplicaReadTrackerImplTest {
+    private final ReplicaReadTrackerImpl replicaReadTracker = new ReplicaReadTrackerImpl();
+
+    @Test
+    void replicaReadTest() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertFalse(replicaReadTracker.isReplicaRead());
+            replicaReadTracker.recordReplicaRead();
+            replicaReadTracker.recordReplicaRead();
+            assertTrue(replicaReadTracker.isReplicaRead());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_COMMITTED));
+            assertFalse(replicaReadTracker.isReplicaRead());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void nonTransactionalReadTest() {
+        replicaReadTracker.recordReplicaRead();
+        assertFalse(replicaReadTracker.isReplicaRead());
+    }
+}
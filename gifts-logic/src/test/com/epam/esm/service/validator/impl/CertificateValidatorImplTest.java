@@ -3,6 +3,8 @@ package com.epam.esm.service.validator.impl;
 import com.epam.esm.entity.Certificate;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.service.exception.InvalidCertificateException;
+import com.epam.esm.service.validator.CertificateValidationResult;
+import com.epam.esm.service.validator.CertificateViolation;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +12,15 @@ import org.junit.jupiter.api.Assertions;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 class CertificateValidatorImplTest {
     private CertificateValidatorImpl certificateValidator;
@@ -91,4 +101,102 @@ class CertificateValidatorImplTest {
         testCertificate.setTags(null);
         Assertions.assertThrows(InvalidCertificateException.class, () -> certificateValidator.validateCertificate(testCertificate));
     }
+
+    @Test
+    void checkValidCertificateTest() {
+        Assertions.assertSame(CertificateValidationResult.valid(), certificateValidator.checkCertificate(testCertificate));
+    }
+
+    @Test
+    void checkCertificateReportsAllViolationsTest() {
+        testCertificate.setName(null);
+        testCertificate.setPrice(new BigDecimal("0"));
+        testCertificate.setTags(null);
+        CertificateValidationResult validationResult = certificateValidator.checkCertificate(testCertificate);
+
+        Assertions.assertEquals(Arrays.asList(CertificateViolation.NAME, CertificateViolation.PRICE,
+                CertificateViolation.TAGS), validationResult.getViolations());
+        Assertions.assertEquals("name, price, tags is null", validationResult.getCause());
+    }
+
+    @Test
+    void checkNullCertificateTest() {
+        Assertions.assertEquals("certificate is null", certificateValidator.checkCertificate(null).getCause());
+    }
+
+    @Test
+    void validateCertificateCauseIsNotSharedTest() {
+        testCertificate.setName("d");
+        Assertions.assertThrows(InvalidCertificateException.class, () -> certificateValidator.validateCertificate(testCertificate));
+
+        testCertificate.setName("Jump park");
+        testCertificate.setDuration((short) 1);
+        InvalidCertificateException exception = Assertions.assertThrows(InvalidCertificateException.class,
+                () -> certificateValidator.validateCertificate(testCertificate));
+        Assertions.assertEquals("duration", exception.getMessage());
+    }
+
+    @Test
+    void validateCertificateConcurrentlyTest() throws Exception {
+        int threadCount = 16;
+        int iterations = 5000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            Certificate certificate = new Certificate(i, "Jump park", "Free jumps for your health!",
+                    new BigDecimal("30"), (short) 30, LocalDateTime.now(), LocalDateTime.now(), new ArrayList<>());
+            String expectedCause = breakCertificate(certificate, i % 4);
+            futures.add(executorService.submit(validateRepeatedly(startLatch, certificate, expectedCause, iterations)));
+        }
+
+        startLatch.countDown();
+        int mismatches = 0;
+        for (Future<Integer> future : futures) {
+            mismatches += future.get(1, TimeUnit.MINUTES);
+        }
+
+        executorService.shutdown();
+        Assertions.assertEquals(0, mismatches);
+    }
+
+    private String breakCertificate(Certificate certificate, int variant) {
+        switch (variant) {
+            case 1:
+                certificate.setName("d");
+                return "name";
+            case 2:
+                certificate.setPrice(null);
+                certificate.setDuration((short) 1);
+                return "price, duration";
+            case 3:
+                certificate.setDescription("test");
+                certificate.setTags(null);
+                return "description, tags is null";
+            default:
+                return null;
+        }
+    }
+
+    private Callable<Integer> validateRepeatedly(CountDownLatch startLatch, Certificate certificate,
+                                                 String expectedCause, int iterations) {
+        return () -> {
+            startLatch.await();
+            int mismatches = 0;
+            for (int i = 0; i < iterations; i++) {
+                String cause = null;
+                try {
+                    certificateValidator.validateCertificate(certificate);
+                } catch (InvalidCertificateException e) {
+                    cause = e.getMessage();
+                }
+
+                if (expectedCause == null ? cause != null : !expectedCause.equals(cause)) {
+                    mismatches++;
+                }
+            }
+
+            return mismatches;
+        };
+    }
 }
\ No newline at end of file
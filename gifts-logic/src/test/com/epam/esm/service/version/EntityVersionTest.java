@@ -0,0 +1,26 @@
+package com.epam.esm.service.version;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+class EntityVersionTest {
+    private final EntityVersion version = new EntityVersion("\"0-2\"", 1000);
+
+    @Test
+    void notModifiedTest() {
+        Assertions.assertTrue(version.isNotModified(Collections.singletonList("W/\"0-2\""), -1));
+        Assertions.assertTrue(version.isNotModified(Arrays.asList("\"0-1\"", "\"0-2\""), -1));
+        Assertions.assertTrue(version.isNotModified(Collections.singletonList("*"), -1));
+        Assertions.assertTrue(version.isNotModified(Collections.emptyList(), 1000));
+    }
+
+    @Test
+    void modifiedTest() {
+        Assertions.assertFalse(version.isNotModified(Collections.emptyList(), -1));
+        Assertions.assertFalse(version.isNotModified(Collections.singletonList("\"0-1\""), 2000));
+        Assertions.assertFalse(version.isNotModified(Collections.emptyList(), 0));
+    }
+}
@@ -0,0 +1,153 @@
+package com.epam.esm.service.version.impl;
+
+import com.epam.esm.dao.TagDao;
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+import com.epam.esm.entity.TagCatalogVersion;
+import com.epam.esm.service.version.EntityVersion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CatalogVersionImplTest {
+    private static final long START_TIME = 1_600_000_000_000L;
+    private CatalogVersionImpl catalogVersion;
+    private TagDao tagDao;
+    private LocalDateTime startDate;
+    private LocalDateTime lastUpdateDate;
+
+    @BeforeEach
+    void setUp() {
+        tagDao = mock(TagDao.class);
+        catalogVersion = new CatalogVersionImpl(tagDao);
+        startDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(START_TIME), ZoneId.systemDefault());
+        lastUpdateDate = startDate.plusSeconds(5);
+        when(tagDao.findCatalogVersion()).thenReturn(new TagCatalogVersion(1, startDate));
+    }
+
+    @Test
+    void tagsVersionTest() {
+        EntityVersion startVersion = catalogVersion.getTagsVersion();
+        Assertions.assertEquals(new EntityVersion("\"1\"", START_TIME), startVersion);
+
+        when(tagDao.findCatalogVersion()).thenReturn(new TagCatalogVersion(2, startDate.plusSeconds(1)));
+        EntityVersion changedVersion = catalogVersion.getTagsVersion();
+        Assertions.assertNotEquals(startVersion.getETag(), changedVersion.getETag());
+        Assertions.assertEquals(START_TIME + 1000, changedVersion.getLastModified());
+    }
+
+    @Test
+    void certificateVersionTest() {
+        EntityVersion version = catalogVersion.getCertificateVersion(1, lastUpdateDate);
+        Assertions.assertEquals(new EntityVersion("\"1-1\"", START_TIME + 5000), version);
+        Assertions.assertNotEquals(version, catalogVersion.getCertificateVersion(1, lastUpdateDate.plusSeconds(1)));
+        Assertions.assertNotEquals(version.getETag(), catalogVersion.getCertificateVersion(2, lastUpdateDate)
+                .getETag());
+
+        when(tagDao.findCatalogVersion()).thenReturn(new TagCatalogVersion(2, startDate.plusSeconds(10)));
+        EntityVersion changedVersion = catalogVersion.getCertificateVersion(1, lastUpdateDate);
+        Assertions.assertNotEquals(version.getETag(), changedVersion.getETag());
+        Assertions.assertEquals(START_TIME + 10000, changedVersion.getLastModified());
+    }
+
+    @Test
+    void sameStoredStateVersionTest() {
+        CatalogVersionImpl otherCatalogVersion = new CatalogVersionImpl(tagDao);
+        otherCatalogVersion.onCertificateRemoved(1);
+
+        Assertions.assertEquals(catalogVersion.getTagsVersion(), otherCatalogVersion.getTagsVersion());
+        Assertions.assertEquals(catalogVersion.getCertificateVersion(1, lastUpdateDate),
+                otherCatalogVersion.getCertificateVersion(1, lastUpdateDate));
+    }
+
+    @Test
+    void certificateUpdatedWithinSecondVersionTest() {
+        EntityVersion firstVersion = catalogVersion.getCertificateVersion(1, lastUpdateDate);
+        EntityVersion secondVersion = catalogVersion.getCertificateVersion(2, lastUpdateDate);
+
+        Assertions.assertEquals(firstVersion.getLastModified(), secondVersion.getLastModified());
+        Assertions.assertNotEquals(firstVersion.getETag(), secondVersion.getETag());
+        Assertions.assertFalse(catalogVersion.matchesCertificateVersion(2, firstVersion.getETag()));
+    }
+
+    @Test
+    void certificateVersionMatchTest() {
+        Assertions.assertTrue(catalogVersion.matchesCertificateVersion(2, null));
+        Assertions.assertTrue(catalogVersion.matchesCertificateVersion(2, "*"));
+        Assertions.assertTrue(catalogVersion.matchesCertificateVersion(2, "\"0-2\""));
+        Assertions.assertTrue(catalogVersion.matchesCertificateVersion(2, "\"0-1\", \"0-2\""));
+    }
+
+    @Test
+    void certificateVersionMismatchTest() {
+        Assertions.assertFalse(catalogVersion.matchesCertificateVersion(2, "\"0-1\""));
+        Assertions.assertFalse(catalogVersion.matchesCertificateVersion(2, "W/\"0-2\""));
+        Assertions.assertFalse(catalogVersion.matchesCertificateVersion(2, "\"2\""));
+        Assertions.assertFalse(catalogVersion.matchesCertificateVersion(2, "\"1-0-2\""));
+        Assertions.assertFalse(catalogVersion.matchesCertificateVersion(2, ""));
+    }
+
+    @Test
+    void tagChangeCertificateVersionMatchTest() {
+        EntityVersion version = catalogVersion.getCertificateVersion(1, lastUpdateDate);
+        when(tagDao.findCatalogVersion()).thenReturn(new TagCatalogVersion(2, startDate.plusSeconds(10)));
+
+        Assertions.assertNotEquals(version.getETag(), catalogVersion.getCertificateVersion(1, lastUpdateDate)
+                .getETag());
+        Assertions.assertTrue(catalogVersion.matchesCertificateVersion(1, version.getETag()));
+        Assertions.assertFalse(catalogVersion.matchesCertificateVersion(2, version.getETag()));
+    }
+
+    @Test
+    void tagChangeTest() {
+        catalogVersion.onTagAdded(new Tag(3, "Entertainment"));
+        catalogVersion.onTagUpdated(new Tag(1, "Jumps"), new Tag(1, "Jump"), Collections.singletonList(1L));
+        catalogVersion.onTagRemoved(new Tag(1, "Jump"), Collections.singletonList(1L));
+
+        verify(tagDao, times(3)).incrementCatalogVersion();
+    }
+
+    @Test
+    void certificateChangeTest() {
+        catalogVersion.onCertificateSaved(new Certificate());
+        catalogVersion.onCertificateRemoved(1);
+
+        verify(tagDao, never()).incrementCatalogVersion();
+    }
+
+    @Test
+    void catalogGenerationTest() {
+        long startGeneration = catalogVersion.getCatalogGeneration();
+        catalogVersion.onCertificateRemoved(1);
+        Assertions.assertTrue(catalogVersion.getCatalogGeneration() > startGeneration);
+
+        long changedGeneration = catalogVersion.getCatalogGeneration();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalogVersion.onCertificateSaved(new Certificate());
+            Assertions.assertTrue(catalogVersion.getCatalogGeneration() > changedGeneration);
+            changedGeneration = catalogVersion.getCatalogGeneration();
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(
+                            TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Assertions.assertTrue(catalogVersion.getCatalogGeneration() > changedGeneration);
+    }
+}
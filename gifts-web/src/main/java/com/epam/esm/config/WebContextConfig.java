@@ -1,18 +1,39 @@
 package com.epam.esm.config;
 
+import com.epam.esm.controller.interceptor.EndpointMetricsInterceptor;
 import com.epam.esm.controller.resolver.ApplicationLocaleResolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+
 @Configuration
 @ComponentScan("com.epam.esm")
 @EnableWebMvc
 public class WebContextConfig extends ApplicationLocaleResolver implements WebMvcConfigurer {
+    private static final String DATABASE_THREAD_NAME_PREFIX = "database-";
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    @Value("${web.async.timeout.millis:30000}")
+    private long asyncTimeout;
+
+    @Autowired
+    private EndpointMetricsInterceptor endpointMetricsInterceptor;
 
     @Bean
     public LocaleResolver localeResolver() {
@@ -28,5 +49,50 @@ public class WebContextConfig extends ApplicationLocaleResolver implements WebMv
 
         return rs;
     }
-}
 
+    @Bean
+    public ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    /**
+     * Controllers run their service calls here. In the async mode the pool is as large as the connection pool and
+     * its queue is bounded, a request that does not fit is rejected at once instead of waiting for a thread. Without
+     * it the calls run on the servlet thread.
+     */
+    @Bean
+    public Executor databaseExecutor(@Value("${web.async.enabled:true}") boolean asyncEnabled,
+                                     @Value("${web.async.pool.size:0}") int poolSize,
+                                     @Value("${web.async.queue.capacity:100}") int queueCapacity,
+                                     DataSource dataSource) throws SQLException {
+        if (!asyncEnabled) {
+            return Runnable::run;
+        }
+
+        int threadCount = poolSize > 0 ? poolSize : findConnectionPoolSize(dataSource);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadCount);
+        executor.setMaxPoolSize(threadCount);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(DATABASE_THREAD_NAME_PREFIX);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeout);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(endpointMetricsInterceptor);
+    }
+
+    private int findConnectionPoolSize(DataSource dataSource) throws SQLException {
+        return dataSource.isWrapperFor(HikariConfigMXBean.class)
+                ? dataSource.unwrap(HikariConfigMXBean.class).getMaximumPoolSize()
+                : DEFAULT_POOL_SIZE;
+    }
+}
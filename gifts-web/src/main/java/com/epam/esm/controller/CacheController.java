@@ -0,0 +1,48 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.service.cache.CacheStatistics;
+import com.epam.esm.service.cache.CertificateCache;
+import com.epam.esm.service.cache.CertificateQueryCache;
+import com.epam.esm.service.coalescer.CoalescingStatistics;
+import com.epam.esm.service.coalescer.RequestCoalescer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping("/caches")
+public class CacheController {
+    private final CertificateCache certificateCache;
+    private final CertificateQueryCache certificateQueryCache;
+    private final RequestCoalescer requestCoalescer;
+
+    @Autowired
+    public CacheController(CertificateCache certificateCache, CertificateQueryCache certificateQueryCache,
+                           RequestCoalescer requestCoalescer) {
+        this.certificateCache = certificateCache;
+        this.certificateQueryCache = certificateQueryCache;
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    @GetMapping("/certificates")
+    @ResponseStatus(OK)
+    public CacheStatistics readCertificateCacheStatistics() {
+        return certificateCache.getStatistics();
+    }
+
+    @GetMapping("/certificate-queries")
+    @ResponseStatus(OK)
+    public CacheStatistics readCertificateQueryCacheStatistics() {
+        return certificateQueryCache.getStatistics();
+    }
+
+    @GetMapping("/coalescing")
+    @ResponseStatus(OK)
+    public CoalescingStatistics readCoalescingStatistics() {
+        return requestCoalescer.getStatistics();
+    }
+}
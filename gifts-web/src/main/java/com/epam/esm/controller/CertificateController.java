@@ -1,60 +1,209 @@
 package com.epam.esm.controller;
 
 import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.CertificateImportReport;
+import com.epam.esm.entity.CertificatePage;
 import com.epam.esm.service.CertificateService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static org.springframework.http.HttpStatus.*;
 
 @RestController
 @RequestMapping("/certificates")
 public class CertificateController {
+    private static final String PAGE_SIZE_PARAMETER = "pageSize";
+    private static final String CURSOR_PARAMETER = "cursor";
+    private static final String STREAM_PARAMETER = "stream";
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
     private final CertificateService certificateService;
+    private final Executor databaseExecutor;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter certificateWriter;
+    private final ObjectReader certificateReader;
 
     @Autowired
-    public CertificateController(CertificateService certificateService) {
+    public CertificateController(CertificateService certificateService,
+                                 @Qualifier("databaseExecutor") Executor databaseExecutor, ObjectMapper objectMapper) {
         this.certificateService = certificateService;
+        this.databaseExecutor = databaseExecutor;
+        this.objectMapper = objectMapper;
+        certificateWriter = objectMapper.writerFor(Certificate.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        certificateReader = objectMapper.readerFor(Certificate.class);
     }
 
     @GetMapping
     @ResponseStatus(OK)
-    public List<Certificate> readAllCertificates(@RequestParam Map<String, String> parameters) {
-        return certificateService.findAllCertificates(parameters);
+    public CompletableFuture<List<Certificate>> readAllCertificates(@RequestParam Map<String, String> parameters) {
+        Map<String, String> handleParameters = new LinkedHashMap<>(parameters);
+        handleParameters.remove(STREAM_PARAMETER);
+        return CompletableFuture.supplyAsync(() -> certificateService.findAllCertificates(handleParameters),
+                databaseExecutor);
     }
 
-    @GetMapping("/{id}")
+    /**
+     * Writes the certificates as they are read from the database instead of collecting them first. Errors found
+     * after the first part of the array is sent can only break the response. The response is written by the
+     * database executor, the servlet thread is released once the headers are set.
+     */
+    @GetMapping(params = {STREAM_PARAMETER + "=true", "!" + PAGE_SIZE_PARAMETER})
+    public CompletableFuture<Void> streamAllCertificates(@RequestParam Map<String, String> parameters,
+                                                         HttpServletResponse response) {
+        Map<String, String> handleParameters = new LinkedHashMap<>(parameters);
+        handleParameters.remove(STREAM_PARAMETER);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        return CompletableFuture.runAsync(() -> {
+            try {
+                writeAllCertificates(handleParameters, response);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, databaseExecutor);
+    }
+
+    @GetMapping(params = PAGE_SIZE_PARAMETER)
     @ResponseStatus(OK)
-    public Certificate readCertificateById(@PathVariable long id) {
-        return certificateService.findCertificateById(id);
+    public CompletableFuture<CertificatePage> readCertificatesPage(@RequestParam Map<String, String> parameters) {
+        Map<String, String> handleParameters = new LinkedHashMap<>(parameters);
+        int pageSize = Integer.parseInt(handleParameters.remove(PAGE_SIZE_PARAMETER));
+        String cursor = handleParameters.remove(CURSOR_PARAMETER);
+        handleParameters.remove(STREAM_PARAMETER);
+        return CompletableFuture.supplyAsync(() ->
+                certificateService.findCertificatesPage(handleParameters, pageSize, cursor), databaseExecutor);
+    }
+
+    /**
+     * The version is checked before the certificate is read, so a not modified certificate is never loaded. The
+     * future completes with the whole response, the status is not declared with the annotation as it would replace
+     * the status of a not modified response.
+     */
+    @GetMapping("/{id}")
+    public CompletableFuture<ResponseEntity<Certificate>> readCertificateById(@PathVariable long id,
+                                                                           @RequestHeader HttpHeaders headers) {
+        return CompletableFuture.supplyAsync(() -> ConditionalResponse.of(certificateService
+                .findCertificateVersion(id), headers, () -> certificateService.findCertificateById(id)),
+                databaseExecutor);
     }
 
     @PostMapping
     @ResponseStatus(CREATED)
-    public Certificate createCertificate(@RequestBody Certificate certificate) {
-        return certificateService.addCertificate(certificate);
+    public CompletableFuture<Certificate> createCertificate(@RequestBody Certificate certificate) {
+        return CompletableFuture.supplyAsync(() -> certificateService.addCertificate(certificate), databaseExecutor);
     }
 
+    /**
+     * Accepts a JSON array or newline delimited JSON, the certificates are read one by one while they are imported.
+     * A malformed item stops the import, the certificates before it stay imported and the report is not complete.
+     */
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, NDJSON_MEDIA_TYPE})
+    @ResponseStatus(OK)
+    public CompletableFuture<CertificateImportReport> importCertificates(HttpServletRequest request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try (MappingIterator<Certificate> certificates = certificateReader.readValues(request.getInputStream())) {
+                return certificateService.importCertificates(toUncheckedIterator(certificates));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, databaseExecutor);
+    }
+
+    /**
+     * With If-Match the certificate is updated only if it still has one of the given versions, otherwise the status
+     * is 412. An update that lost the race to another one made meanwhile gets 409.
+     */
     @PutMapping("/{id}")
     @ResponseStatus(OK)
-    public Certificate updateCertificate(@RequestBody Certificate certificate, @PathVariable long id) {
+    public CompletableFuture<Certificate> updateCertificate(@RequestBody Certificate certificate,
+                                                            @PathVariable long id,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH,
+                                                                    required = false) String ifMatch) {
         certificate.setId(id);
-        return certificateService.updateCertificate(certificate);
+        return CompletableFuture.supplyAsync(() -> certificateService.updateCertificate(certificate, ifMatch),
+                databaseExecutor);
     }
 
     @PatchMapping("/{id}")
     @ResponseStatus(OK)
-    public Certificate patchCertificate(@RequestBody Certificate certificate, @PathVariable long id) {
+    public CompletableFuture<Certificate> patchCertificate(@RequestBody Certificate certificate,
+                                                           @PathVariable long id,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH,
+                                                                   required = false) String ifMatch) {
         certificate.setId(id);
-        return certificateService.patchCertificate(certificate);
+        return CompletableFuture.supplyAsync(() -> certificateService.patchCertificate(certificate, ifMatch),
+                databaseExecutor);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(NO_CONTENT)
-    public void deleteCertificate(@PathVariable long id) {
-        certificateService.removeCertificateById(id);
+    public CompletableFuture<Void> deleteCertificate(@PathVariable long id) {
+        return CompletableFuture.runAsync(() -> certificateService.removeCertificateById(id), databaseExecutor);
+    }
+
+    private void writeAllCertificates(Map<String, String> parameters, HttpServletResponse response)
+            throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartArray();
+        try {
+            certificateService.findAllCertificates(parameters, certificate -> {
+                try {
+                    certificateWriter.writeValue(generator, certificate);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        generator.writeEndArray();
+        generator.close();
+    }
+
+    private static <T> Iterator<T> toUncheckedIterator(MappingIterator<T> values) {
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                try {
+                    return values.hasNextValue();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return values.nextValue();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
     }
 }
@@ -0,0 +1,116 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.controller.export.AbortableOutputStream;
+import com.epam.esm.controller.export.CertificateExportFormat;
+import com.epam.esm.controller.export.CertificateExportWriter;
+import com.epam.esm.service.CertificateService;
+import com.epam.esm.service.exception.InvalidExportParameterException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/certificates/export")
+public class CertificateExportController {
+    private static final String INVALID_EXPORT_PARAMETER_MESSAGE = "invalid.export.parameter";
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String ATTACHMENT_FORMAT = "attachment; filename=\"certificates.%s\"";
+    private static final String UTC_SUFFIX = "Z";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private final CertificateService certificateService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public CertificateExportController(CertificateService certificateService, ObjectMapper objectMapper) {
+        this.certificateService = certificateService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams all certificates or the ones updated after the given date and id, ordered by the last update date and
+     * id. The rows are read through a forward-only cursor and written as they come, so memory use does not depend
+     * on the catalog size. If reading fails after the response is committed the output is cut off unfinished, so
+     * the client sees a broken transfer instead of a complete looking file.
+     */
+    @GetMapping
+    public void exportCertificates(@RequestParam(defaultValue = "ndjson") String format,
+                                   @RequestParam(defaultValue = "false") boolean gzip,
+                                   @RequestParam(required = false) String updatedAfter,
+                                   @RequestParam(defaultValue = "0") long afterId,
+                                   HttpServletResponse response) throws IOException {
+        CertificateExportFormat exportFormat = CertificateExportFormat.findFormatByName(format);
+        LocalDateTime watermark = parseWatermark(updatedAfter);
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                String.format(ATTACHMENT_FORMAT, exportFormat.getFileExtension()));
+
+        AbortableOutputStream responseStream = new AbortableOutputStream(response.getOutputStream());
+        OutputStream outputStream = responseStream;
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING);
+            outputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+        }
+
+        CertificateExportWriter exportWriter = exportFormat.createWriter(outputStream, objectMapper);
+        try {
+            certificateService.exportCertificates(watermark, afterId, certificate -> {
+                try {
+                    exportWriter.write(certificate);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            abort(responseStream, exportWriter);
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            abort(responseStream, exportWriter);
+            throw e;
+        }
+
+        exportWriter.close();
+    }
+
+    /**
+     * The writer is closed only to release its resources, nothing it writes reaches the response.
+     */
+    private void abort(AbortableOutputStream responseStream, CertificateExportWriter exportWriter) {
+        responseStream.abort();
+        try {
+            exportWriter.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Accepts the dates both as ISO local date-times and in the form certificates are serialized in.
+     */
+    private LocalDateTime parseWatermark(String updatedAfter) {
+        if (updatedAfter == null) {
+            return null;
+        }
+
+        try {
+            return LocalDateTime.parse(updatedAfter.endsWith(UTC_SUFFIX)
+                    ? updatedAfter.substring(0, updatedAfter.length() - 1)
+                    : updatedAfter);
+        } catch (DateTimeParseException e) {
+            throw new InvalidExportParameterException(INVALID_EXPORT_PARAMETER_MESSAGE, e);
+        }
+    }
+}
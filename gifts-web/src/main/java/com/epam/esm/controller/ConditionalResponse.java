@@ -0,0 +1,31 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.service.version.EntityVersion;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Builds the answer to a conditional GET from values only, so it may be done on the database executor. The request
+ * is not touched there, its headers are copied on the request thread.
+ */
+final class ConditionalResponse {
+    private ConditionalResponse() {
+    }
+
+    static <T> ResponseEntity<T> of(EntityVersion version, HttpHeaders requestHeaders, Supplier<T> bodySupplier) {
+        if (version.isNotModified(requestHeaders.getIfNoneMatch(), requestHeaders.getIfModifiedSince())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(version.getETag())
+                    .lastModified(version.getLastModified())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(version.getETag())
+                .lastModified(version.getLastModified())
+                .body(bodySupplier.get());
+    }
+}
@@ -0,0 +1,28 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.service.metric.MetricRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping("/metrics")
+public class MetricsController {
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private final MetricRegistry metricRegistry;
+
+    @Autowired
+    public MetricsController(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @GetMapping(produces = PROMETHEUS_CONTENT_TYPE)
+    @ResponseStatus(OK)
+    public String readMetrics() {
+        return metricRegistry.scrape();
+    }
+}
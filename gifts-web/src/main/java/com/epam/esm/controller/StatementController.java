@@ -0,0 +1,41 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.dao.profiler.StatementProfiler;
+import com.epam.esm.dao.profiler.StatementStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping("/statements")
+public class StatementController {
+    private static final String DEFAULT_LIMIT = "10";
+    private final StatementProfiler statementProfiler;
+
+    @Autowired
+    public StatementController(StatementProfiler statementProfiler) {
+        this.statementProfiler = statementProfiler;
+    }
+
+    @GetMapping
+    @ResponseStatus(OK)
+    public List<StatementStatistics> readMostExpensiveStatements(
+            @RequestParam(defaultValue = DEFAULT_LIMIT) int limit) {
+        return statementProfiler.findMostExpensiveStatements(limit);
+    }
+
+    @DeleteMapping
+    @ResponseStatus(NO_CONTENT)
+    public void resetStatements() {
+        statementProfiler.reset();
+    }
+}
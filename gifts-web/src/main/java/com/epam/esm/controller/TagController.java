@@ -3,9 +3,14 @@ package com.epam.esm.controller;
 import com.epam.esm.entity.Tag;
 import com.epam.esm.service.TagService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -13,40 +18,42 @@ import static org.springframework.http.HttpStatus.*;
 @RequestMapping("/tags")
 public class TagController {
     private final TagService tagService;
+    private final Executor databaseExecutor;
 
     @Autowired
-    public TagController(TagService tagService) {
+    public TagController(TagService tagService, @Qualifier("databaseExecutor") Executor databaseExecutor) {
         this.tagService = tagService;
+        this.databaseExecutor = databaseExecutor;
     }
 
     @GetMapping
-    @ResponseStatus(OK)
-    public List<Tag> readAllTags() {
-        return tagService.findAllTags();
+    public CompletableFuture<ResponseEntity<List<Tag>>> readAllTags(@RequestHeader HttpHeaders headers) {
+        return CompletableFuture.supplyAsync(() -> ConditionalResponse.of(tagService.findTagsVersion(), headers,
+                tagService::findAllTags), databaseExecutor);
     }
 
     @PostMapping
     @ResponseStatus(CREATED)
-    public Tag createTag(@RequestBody Tag tag) {
-        return tagService.addTag(tag);
+    public CompletableFuture<Tag> createTag(@RequestBody Tag tag) {
+        return CompletableFuture.supplyAsync(() -> tagService.addTag(tag), databaseExecutor);
     }
 
     @GetMapping("/{id}")
-    @ResponseStatus(OK)
-    public Tag readTag(@PathVariable long id) {
-        return tagService.findTagById(id);
+    public CompletableFuture<ResponseEntity<Tag>> readTag(@PathVariable long id, @RequestHeader HttpHeaders headers) {
+        return CompletableFuture.supplyAsync(() -> ConditionalResponse.of(tagService.findTagVersion(id), headers,
+                () -> tagService.findTagById(id)), databaseExecutor);
     }
 
     @PutMapping("/{id}")
     @ResponseStatus(OK)
-    public Tag updateTag(@RequestBody Tag tag, @PathVariable long id) {
+    public CompletableFuture<Tag> updateTag(@RequestBody Tag tag, @PathVariable long id) {
         tag.setId(id);
-        return tagService.updateTag(tag);
+        return CompletableFuture.supplyAsync(() -> tagService.updateTag(tag), databaseExecutor);
     }
 
     @DeleteMapping("/{id}")
     @ResponseStatus(NO_CONTENT)
-    public void deleteTag(@PathVariable long id) {
-        tagService.removeTagById(id);
+    public CompletableFuture<Void> deleteTag(@PathVariable long id) {
+        return CompletableFuture.runAsync(() -> tagService.removeTagById(id), databaseExecutor);
     }
 }
@@ -0,0 +1,49 @@
+package com.epam.esm.controller.export;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes the bytes through until the export is aborted. After that nothing more reaches the target, so the writers
+ * may be closed without finishing the output with a gzip trailer or the last buffered rows.
+ */
+public class AbortableOutputStream extends FilterOutputStream {
+    private boolean aborted;
+
+    public AbortableOutputStream(OutputStream outputStream) {
+        super(outputStream);
+    }
+
+    public void abort() {
+        aborted = true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (!aborted) {
+            out.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (!aborted) {
+            out.write(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!aborted) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!aborted) {
+            out.close();
+        }
+    }
+}
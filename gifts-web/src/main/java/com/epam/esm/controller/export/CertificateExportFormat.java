@@ -0,0 +1,52 @@
+package com.epam.esm.controller.export;
+
+import com.epam.esm.service.exception.InvalidExportParameterException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+public enum CertificateExportFormat {
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public CertificateExportWriter createWriter(OutputStream outputStream, ObjectMapper objectMapper)
+                throws IOException {
+            return new NdjsonCertificateExportWriter(outputStream, objectMapper);
+        }
+    },
+    CSV("text/csv", "csv") {
+        @Override
+        public CertificateExportWriter createWriter(OutputStream outputStream, ObjectMapper objectMapper)
+                throws IOException {
+            return new CsvCertificateExportWriter(outputStream);
+        }
+    };
+
+    private static final String INVALID_EXPORT_PARAMETER_MESSAGE = "invalid.export.parameter";
+    private final String contentType;
+    private final String fileExtension;
+
+    CertificateExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public abstract CertificateExportWriter createWriter(OutputStream outputStream, ObjectMapper objectMapper)
+            throws IOException;
+
+    public static CertificateExportFormat findFormatByName(String formatName) {
+        return Arrays.stream(values())
+                .filter(format -> format.fileExtension.equalsIgnoreCase(formatName))
+                .findFirst()
+                .orElseThrow(() -> new InvalidExportParameterException(INVALID_EXPORT_PARAMETER_MESSAGE));
+    }
+}
@@ -0,0 +1,10 @@
+package com.epam.esm.controller.export;
+
+import com.epam.esm.entity.Certificate;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface CertificateExportWriter extends Closeable {
+    void write(Certificate certificate) throws IOException;
+}
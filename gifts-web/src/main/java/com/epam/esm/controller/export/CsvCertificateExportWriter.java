@@ -0,0 +1,72 @@
+package com.epam.esm.controller.export;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.Tag;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Collectors;
+
+/**
+ * Writes RFC 4180 CSV with a header row, tag names are joined into one column with '|'.
+ */
+public class CsvCertificateExportWriter implements CertificateExportWriter {
+    private static final String HEADER = "id,name,description,price,duration,create_date,last_update_date,tags";
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char FIELD_SEPARATOR = ',';
+    private static final String TAG_SEPARATOR = "|";
+    private static final char QUOTE = '"';
+    private static final String ESCAPED_QUOTE = "\"\"";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private final Writer writer;
+
+    public CsvCertificateExportWriter(OutputStream outputStream) throws IOException {
+        writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void write(Certificate certificate) throws IOException {
+        writer.write(Long.toString(certificate.getId()));
+        writer.write(FIELD_SEPARATOR);
+        writeText(certificate.getName());
+        writer.write(FIELD_SEPARATOR);
+        writeText(certificate.getDescription());
+        writer.write(FIELD_SEPARATOR);
+        writer.write(certificate.getPrice().toPlainString());
+        writer.write(FIELD_SEPARATOR);
+        writer.write(Short.toString(certificate.getDuration()));
+        writer.write(FIELD_SEPARATOR);
+        writer.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(certificate.getCreateDate()));
+        writer.write(FIELD_SEPARATOR);
+        writer.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(certificate.getLastUpdateDate()));
+        writer.write(FIELD_SEPARATOR);
+        writeText(certificate.getTags().stream()
+                .map(Tag::getName)
+                .collect(Collectors.joining(TAG_SEPARATOR)));
+        writer.write(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void writeText(String text) throws IOException {
+        if (text.indexOf(FIELD_SEPARATOR) < 0 && text.indexOf(QUOTE) < 0 && text.indexOf('\r') < 0
+                && text.indexOf('\n') < 0) {
+            writer.write(text);
+            return;
+        }
+
+        writer.write(QUOTE);
+        writer.write(text.replace(String.valueOf(QUOTE), ESCAPED_QUOTE));
+        writer.write(QUOTE);
+    }
+}
@@ -0,0 +1,37 @@
+package com.epam.esm.controller.export;
+
+import com.epam.esm.entity.Certificate;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes every certificate as a JSON object on its own line, in the same form GET /certificates returns it.
+ */
+public class NdjsonCertificateExportWriter implements CertificateExportWriter {
+    private static final char LINE_SEPARATOR = '\n';
+    private final JsonGenerator generator;
+    private final ObjectWriter certificateWriter;
+
+    public NdjsonCertificateExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setRootValueSeparator(null);
+        certificateWriter = objectMapper.writerFor(Certificate.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public void write(Certificate certificate) throws IOException {
+        certificateWriter.writeValue(generator, certificate);
+        generator.writeRaw(LINE_SEPARATOR);
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -2,6 +2,8 @@ package com.epam.esm.controller.handler;
 
 import com.epam.esm.controller.localizer.Localizer;
 import com.epam.esm.service.exception.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,11 +13,14 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class ControllerExceptionHandler extends ResponseEntityExceptionHandler {
     private final Localizer localizer;
     private static final String NUMBER_FORMAT_ERROR_MESSAGE = "invalid.number.value.was.entered";
+    private static final String DATA_FORMAT_ERROR_MESSAGE = "invalid.data.format";
+    private static final String SERVER_BUSY_ERROR_MESSAGE = "server.busy";
     private static final String CERTIFICATE_ERROR_CODE = "01";
     private static final String TAG_ERROR_CODE = "02";
 
@@ -45,11 +50,26 @@ public class ControllerExceptionHandler extends ResponseEntityExceptionHandler {
         return getErrorResponse(e.getMessage(), HttpStatus.CONFLICT, CERTIFICATE_ERROR_CODE);
     }
 
+    @ExceptionHandler(ConcurrentCertificateUpdateException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrentCertificateUpdateException(ConcurrentCertificateUpdateException e) {
+        return getErrorResponse(e.getMessage(), HttpStatus.CONFLICT, CERTIFICATE_ERROR_CODE);
+    }
+
+    @ExceptionHandler(CertificateVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleCertificateVersionMismatchException(CertificateVersionMismatchException e) {
+        return getErrorResponse(e.getMessage(), HttpStatus.PRECONDITION_FAILED, CERTIFICATE_ERROR_CODE);
+    }
+
     @ExceptionHandler(NumberFormatException.class)
     public ResponseEntity<ErrorResponse> handleNumberFormatException() {
         return getErrorResponse(NUMBER_FORMAT_ERROR_MESSAGE, HttpStatus.BAD_REQUEST, "");
     }
 
+    @ExceptionHandler({JsonProcessingException.class, RuntimeJsonMappingException.class})
+    public ResponseEntity<ErrorResponse> handleJsonProcessingException() {
+        return getErrorResponse(DATA_FORMAT_ERROR_MESSAGE, HttpStatus.BAD_REQUEST, CERTIFICATE_ERROR_CODE);
+    }
+
     @ExceptionHandler(UnknownCertificateException.class)
     public ResponseEntity<ErrorResponse> handleUnknownCertificateException(UnknownCertificateException e) {
         return getErrorResponse(e.getMessage(), HttpStatus.NOT_FOUND, CERTIFICATE_ERROR_CODE);
@@ -65,6 +85,21 @@ public class ControllerExceptionHandler extends ResponseEntityExceptionHandler {
         return getErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST, CERTIFICATE_ERROR_CODE);
     }
 
+    @ExceptionHandler(InvalidPageParameterException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageParameterException(InvalidPageParameterException e) {
+        return getErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST, CERTIFICATE_ERROR_CODE);
+    }
+
+    @ExceptionHandler(InvalidExportParameterException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidExportParameterException(InvalidExportParameterException e) {
+        return getErrorResponse(e.getMessage(), HttpStatus.BAD_REQUEST, CERTIFICATE_ERROR_CODE);
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException() {
+        return getErrorResponse(SERVER_BUSY_ERROR_MESSAGE, HttpStatus.SERVICE_UNAVAILABLE, "");
+    }
+
     private ResponseEntity<ErrorResponse> getErrorResponse(String messageCode, HttpStatus status, String errorCode) {
         String errorMessage = localizer.toLocale(messageCode);
 
@@ -0,0 +1,59 @@
+package com.epam.esm.controller.interceptor;
+
+import com.epam.esm.service.metric.LatencyTimer;
+import com.epam.esm.service.metric.MetricRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times requests by method and mapped path. An asynchronous request keeps the start of its first dispatch and is
+ * recorded once, when its last dispatch completes. Server errors count as failures.
+ */
+@Component
+public class EndpointMetricsInterceptor implements AsyncHandlerInterceptor {
+    private static final String START_TIME_ATTRIBUTE = EndpointMetricsInterceptor.class.getName() + ".startTime";
+    private static final String ENDPOINT_METRIC = "gifts_http_server";
+    private static final String ENDPOINT_METRIC_DESCRIPTION = "REST endpoint";
+    private static final String UNKNOWN_PATH = "unknown";
+    private static final int SERVER_ERROR_STATUS = 500;
+    private final MetricRegistry metricRegistry;
+    private final Map<String, LatencyTimer> timers;
+
+    @Autowired
+    public EndpointMetricsInterceptor(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+        this.timers = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(START_TIME_ATTRIBUTE) == null) {
+            request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object startTime = request.getAttribute(START_TIME_ATTRIBUTE);
+        if (startTime == null) {
+            return;
+        }
+
+        Object pathPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pathPattern != null ? pathPattern.toString() : UNKNOWN_PATH;
+        String method = request.getMethod();
+        LatencyTimer timer = timers.computeIfAbsent(method + ' ' + path, endpoint -> metricRegistry.timer(
+                ENDPOINT_METRIC, ENDPOINT_METRIC_DESCRIPTION, "method", method, "path", path));
+        timer.record(System.nanoTime() - (Long) startTime, ex != null || response.getStatus() >= SERVER_ERROR_STATUS);
+    }
+}
@@ -20,7 +20,8 @@ public class ApplicationLocaleResolver implements LocaleResolver {
         }
 
         return LOCALES.stream()
-                .filter(locale -> locale.getLanguage().toLowerCase().equals(headerLang.toLowerCase()))
+                .filter(locale -> locale.getLanguage().toLowerCase(Locale.ROOT)
+                        .equals(headerLang.toLowerCase(Locale.ROOT)))
                 .findFirst()
                 .orElse(Locale.US);
     }
@@ -0,0 +1,158 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.entity.CertificateImportReport;
+import com.epam.esm.service.CertificateService;
+import com.epam.esm.service.version.EntityVersion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyMapOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CertificateControllerTest {
+    private ExecutorService databaseExecutor;
+    private MockMvc mockMvc;
+    private CertificateService certificateService;
+    private Map<String, String> expectedParameters;
+
+    @BeforeEach
+    void setUp() {
+        certificateService = mock(CertificateService.class);
+        databaseExecutor = Executors.newSingleThreadExecutor();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        CertificateController certificateController = new CertificateController(certificateService,
+                databaseExecutor, objectMapper);
+        mockMvc = MockMvcBuilders.standaloneSetup(certificateController)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                .build();
+        expectedParameters = Collections.singletonMap("name", "Jump");
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseExecutor.shutdownNow();
+    }
+
+    @Test
+    void readNotModifiedCertificateTest() throws Exception {
+        when(certificateService.findCertificateVersion(1)).thenReturn(new EntityVersion("\"0-2\"", 1000));
+
+        MvcResult result = mockMvc.perform(get("/certificates/1").header(HttpHeaders.IF_NONE_MATCH, "\"0-2\""))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-2\""))
+                .andExpect(content().string(""));
+
+        verify(certificateService, never()).findCertificateById(1);
+    }
+
+    @Test
+    void readModifiedCertificateTest() throws Exception {
+        Certificate certificate = new Certificate();
+        certificate.setName("Jump park");
+        when(certificateService.findCertificateVersion(1)).thenReturn(new EntityVersion("\"0-3\"", 1000));
+        when(certificateService.findCertificateById(1)).thenReturn(certificate);
+
+        MvcResult result = mockMvc.perform(get("/certificates/1").header(HttpHeaders.IF_NONE_MATCH, "\"0-2\""))
+                .andReturn();
+        result.getAsyncResult(5000);
+        String content = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-3\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Assertions.assertTrue(content.contains("\"name\":\"Jump park\""));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readAllCertificatesWithoutStreamTest() throws Exception {
+        when(certificateService.findAllCertificates(eq(expectedParameters)))
+                .thenReturn(Collections.singletonList(new Certificate()));
+
+        MvcResult result = mockMvc.perform(get("/certificates").param("name", "Jump").param("stream", "false"))
+                .andReturn();
+        result.getAsyncResult(5000);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        verify(certificateService).findAllCertificates(eq(expectedParameters));
+        verify(certificateService, never()).findAllCertificates(anyMapOf(String.class, String.class),
+                any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importMalformedCertificateTest() throws Exception {
+        List<String> readNames = new ArrayList<>();
+        when(certificateService.importCertificates(any(Iterator.class))).thenAnswer(invocation -> {
+            Iterator<Certificate> certificates = (Iterator<Certificate>) invocation.getArguments()[0];
+            Assertions.assertTrue(certificates.hasNext());
+            readNames.add(certificates.next().getName());
+            Assertions.assertThrows(UncheckedIOException.class, certificates::next);
+            return new CertificateImportReport();
+        });
+
+        MvcResult result = mockMvc.perform(post("/certificates/import").contentType("application/x-ndjson")
+                .content("{\"name\":\"Jump park\"}\n{\"name\":\n"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        Assertions.assertEquals(Collections.singletonList("Jump park"), readNames);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamAllCertificatesTest() throws Exception {
+        MvcResult result = mockMvc.perform(get("/certificates").param("name", "Jump").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(5000);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("[]"));
+
+        verify(certificateService).findAllCertificates(eq(expectedParameters), any(Consumer.class));
+        verify(certificateService, never()).findAllCertificates(anyMapOf(String.class, String.class));
+    }
+}
@@ -0,0 +1,95 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.entity.Certificate;
+import com.epam.esm.service.CertificateService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class CertificateExportControllerTest {
+    private CertificateExportController certificateExportController;
+    private CertificateService certificateService;
+    private Certificate testCertificate;
+
+    @BeforeEach
+    void setUp() {
+        certificateService = mock(CertificateService.class);
+        certificateExportController = new CertificateExportController(certificateService,
+                Jackson2ObjectMapperBuilder.json().build());
+        LocalDateTime updateDate = LocalDateTime.parse("2022-03-15T21:30:10");
+        testCertificate = new Certificate(1, "Jump park", "Trampoline park", new BigDecimal("30"), (short) 30,
+                updateDate, updateDate, new ArrayList<>());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportCertificatesTest() throws IOException {
+        doAnswer(invocation -> exportTestCertificate(invocation, false)).when(certificateService)
+                .exportCertificates(eq(LocalDateTime.parse("2022-03-15T21:30:10")), eq(1L), any(Consumer.class));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        certificateExportController.exportCertificates("csv", true, "2022-03-15T21:30:10Z", 1, response);
+
+        Assertions.assertEquals("id,name,description,price,duration,create_date,last_update_date,tags\r\n"
+                + "1,Jump park,Trampoline park,30,30,2022-03-15T21:30:10,2022-03-15T21:30:10,\r\n",
+                new String(readAll(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))),
+                        StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportCertificatesFailureTest() {
+        doAnswer(invocation -> exportTestCertificate(invocation, true)).when(certificateService)
+                .exportCertificates(eq(null), eq(0L), any(Consumer.class));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Assertions.assertThrows(DataAccessResourceFailureException.class, () -> certificateExportController
+                .exportCertificates("ndjson", true, null, 0, response));
+        Assertions.assertThrows(EOFException.class, () -> readAll(new GZIPInputStream(
+                new ByteArrayInputStream(response.getContentAsByteArray()))));
+        verify(certificateService).exportCertificates(eq(null), eq(0L), any(Consumer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object exportTestCertificate(InvocationOnMock invocation, boolean fail) {
+        ((Consumer<Certificate>) invocation.getArguments()[2]).accept(testCertificate);
+        if (fail) {
+            throw new DataAccessResourceFailureException("Connection reset");
+        }
+
+        return null;
+    }
+
+    private byte[] readAll(InputStream inputStream) throws IOException {
+        byte[] buffer = new byte[1024];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int count;
+        while ((count = inputStream.read(buffer)) != -1) {
+            bytes.write(buffer, 0, count);
+        }
+
+        return bytes.toByteArray();
+    }
+}
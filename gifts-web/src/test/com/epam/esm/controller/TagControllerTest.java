@@ -0,0 +1,77 @@
+package com.epam.esm.controller;
+
+import com.epam.esm.entity.Tag;
+import com.epam.esm.service.TagService;
+import com.epam.esm.service.version.EntityVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TagControllerTest {
+    private static final long LAST_MODIFIED = 1_600_000_000_000L;
+    private ExecutorService databaseExecutor;
+    private MockMvc mockMvc;
+    private TagService tagService;
+
+    @BeforeEach
+    void setUp() {
+        tagService = mock(TagService.class);
+        databaseExecutor = Executors.newSingleThreadExecutor();
+        mockMvc = MockMvcBuilders.standaloneSetup(new TagController(tagService, databaseExecutor)).build();
+        when(tagService.findTagVersion(1)).thenReturn(new EntityVersion("\"1-2\"", LAST_MODIFIED));
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseExecutor.shutdownNow();
+    }
+
+    @Test
+    void readNotModifiedTagTest() throws Exception {
+        MvcResult result = mockMvc.perform(get("/tags/1").header(HttpHeaders.IF_NONE_MATCH, "W/\"1-2\""))
+                .andReturn();
+        result.getAsyncResult(5000);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(tagService, never()).findTagById(1);
+    }
+
+    @Test
+    void readTagModifiedSinceTest() throws Exception {
+        when(tagService.findTagById(1)).thenReturn(new Tag(1, "Jumps"));
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfModifiedSince(LAST_MODIFIED - 1000);
+
+        MvcResult result = mockMvc.perform(get("/tags/1").headers(requestHeaders))
+                .andReturn();
+        result.getAsyncResult(5000);
+        String content = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-2\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Assertions.assertTrue(content.contains("\"name\":\"Jumps\""));
+    }
+}